@@ -0,0 +1,74 @@
+package com.smartclaims360.smartclaims360;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of single-claim {@code save} and {@code findById} calls on the repository, preloaded with
+ * 100k claims, for the in-memory and durable H2 profiles and the memory-mapped {@code edge} profile. JMH's sample
+ * mode reports p50, p90, p99 and p99.9 per profile.
+ * Run with {@code ./gradlew jmh --args="StorageLatencyBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageLatencyBenchmark {
+
+    private static final int PRELOADED_ROWS = 100_000;
+
+    @Param({"memory", "durable", "edge"})
+    private String profile;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+    private ClaimRepository claimRepository;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("storage-latency-bench");
+        context = StorageProfiles.start(profile, dataDir);
+        ids = StorageProfiles.preload(context, PRELOADED_ROWS).toArray(UUID[]::new);
+        claimRepository = context.getBean(ClaimRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        StorageProfiles.delete(dataDir);
+    }
+
+    @Benchmark
+    public Claim insert() {
+        Claim claim = new Claim();
+        claim.setClaimantName("Benchmark Claimant");
+        claim.setClaimAmount(BigDecimal.valueOf(150_000, 2));
+        claim.setClaimType("AUTO");
+        return claimRepository.save(claim);
+    }
+
+    @Benchmark
+    public Optional<Claim> findById() {
+        return claimRepository.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+}
@@ -0,0 +1,90 @@
+package com.smartclaims360.smartclaims360;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.entity.UuidV7Generator;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Boots the application under the in-memory ({@code memory}, no profile), {@code durable} or {@code edge} storage
+ * profile for the storage benchmarks, and bulk-loads claims over JDBC, or through the repository under {@code edge}.
+ */
+final class StorageProfiles {
+
+    private static final String[] TYPES = {"AUTO", "HEALTH", "PROPERTY", "LIFE"};
+
+    private StorageProfiles() {
+    }
+
+    static ConfigurableApplicationContext start(String profile, Path dataDir) {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SmartClaims360Application.class)
+                .properties("server.port=0", "logging.level.root=WARN", "claims.storage.data-dir=" + dataDir);
+        if (!"memory".equals(profile)) {
+            builder.profiles(profile);
+        }
+        return builder.run();
+    }
+
+    static List<UUID> preload(ConfigurableApplicationContext context, int rows) {
+        if (context.getBeanNamesForType(JdbcTemplate.class).length == 0) {
+            return preloadThroughRepository(context, rows);
+        }
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>(rows);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            UUID id = UuidV7Generator.next();
+            ids.add(id);
+            batch.add(new Object[] {id, "Claimant " + random.nextInt(rows), BigDecimal.valueOf(random.nextInt(5_000_000), 2),
+                    TYPES[random.nextInt(TYPES.length)], "NEW", new Timestamp(System.currentTimeMillis())});
+            if (batch.size() == 1000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO claims (id, claimant_name, claim_amount, claim_type, status, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static List<UUID> preloadThroughRepository(ConfigurableApplicationContext context, int rows) {
+        ClaimRepository claimRepository = context.getBean(ClaimRepository.class);
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>(rows);
+        List<Claim> batch = new ArrayList<>(1000);
+        for (int i = 0; i < rows; i++) {
+            Claim claim = new Claim();
+            claim.setClaimantName("Claimant " + random.nextInt(rows));
+            claim.setClaimAmount(BigDecimal.valueOf(random.nextInt(5_000_000), 2));
+            claim.setClaimType(TYPES[random.nextInt(TYPES.length)]);
+            batch.add(claim);
+            if (batch.size() == 1000 || i == rows - 1) {
+                claimRepository.saveAll(batch).forEach(saved -> ids.add(saved.getId()));
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.smartclaims360.smartclaims360;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launch until the application context is ready, for the in-memory database (always empty at
+ * start) and the durable profile on an empty and on a preloaded data directory. Shutdown, including the
+ * durable profile's compaction, is not part of the measurement.
+ * Run with {@code ./gradlew jmh --args="StorageStartupBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class StorageStartupBenchmark {
+
+    private static final int PRELOADED_ROWS = 100_000;
+
+    @Param({"memory", "durable-empty", "durable-preloaded"})
+    private String scenario;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("storage-startup-bench");
+        if ("durable-preloaded".equals(scenario)) {
+            try (ConfigurableApplicationContext preloading = StorageProfiles.start("durable", dataDir)) {
+                StorageProfiles.preload(preloading, PRELOADED_ROWS);
+            }
+        }
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = StorageProfiles.start(scenario.startsWith("durable") ? "durable" : "memory", dataDir);
+        return context;
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        context.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        StorageProfiles.delete(dataDir);
+    }
+}
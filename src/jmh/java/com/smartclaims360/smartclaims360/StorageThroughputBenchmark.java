@@ -0,0 +1,92 @@
+package com.smartclaims360.smartclaims360;
+
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.service.ClaimService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state inserts (500-claim {@code saveAll} transactions) and reads (by id and first page of
+ * {@code GET /claims}) through the repository layer on a table preloaded with 100k claims, for the
+ * in-memory database, the durable profile and the memory-mapped edge profile.
+ * Run with {@code ./gradlew jmh --args="StorageThroughputBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageThroughputBenchmark {
+
+    private static final int PRELOADED_ROWS = 100_000;
+    private static final int INSERT_BATCH = 500;
+
+    @Param({"memory", "durable", "edge"})
+    private String profile;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+    private ClaimRepository claimRepository;
+    private ClaimService claimService;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("storage-throughput-bench");
+        context = StorageProfiles.start(profile, dataDir);
+        ids = StorageProfiles.preload(context, PRELOADED_ROWS).toArray(UUID[]::new);
+        claimRepository = context.getBean(ClaimRepository.class);
+        claimService = context.getBean(ClaimService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        StorageProfiles.delete(dataDir);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INSERT_BATCH)
+    public List<Claim> insert() {
+        List<Claim> claims = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < INSERT_BATCH; i++) {
+            Claim claim = new Claim();
+            claim.setClaimantName("Benchmark Claimant");
+            claim.setClaimAmount(BigDecimal.valueOf(150_000, 2));
+            claim.setClaimType("AUTO");
+            claims.add(claim);
+        }
+        return claimRepository.saveAll(claims);
+    }
+
+    @Benchmark
+    public Optional<Claim> readById() {
+        return claimRepository.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Object readFirstPage() {
+        return claimService.getClaims(new ClaimFilter(null, null, null, null, null, null, null), null, 50);
+    }
+}
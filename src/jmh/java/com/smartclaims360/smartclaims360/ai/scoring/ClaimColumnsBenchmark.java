@@ -0,0 +1,104 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint and full-scan time of {@code rows} claims held as {@code Claim} entities in a list, as the
+ * statistics rebuild used to load them, versus {@link ClaimColumns}. The heap retained per row after a full GC is
+ * printed at the end of setup; the benchmark itself times {@link ClaimStatistics#rebuild} over each layout. Run with
+ * {@code ./gradlew jmh --args="ClaimColumnsBenchmark"}; 10M entities need the 8 GB heap the fork is given.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ClaimColumnsBenchmark {
+
+    private static final String[] TYPES = {"AUTO", "HEALTH", "PROPERTY", "LIFE"};
+    private static final int DISTINCT_NAMES = 1_000_000;
+
+    @Param({"10000000"})
+    private int rows;
+
+    @Param({"entities", "columns"})
+    private String layout;
+
+    private List<Claim> claims;
+    private ClaimColumns claimColumns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        if ("entities".equals(layout)) {
+            claims = new ArrayList<>(rows);
+        } else {
+            claimColumns = new ClaimColumns();
+        }
+        for (int i = 0; i < rows; i++) {
+            UUID id = UUID.randomUUID();
+            String name = "Claimant " + random.nextInt(DISTINCT_NAMES);
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(5_000_000), 2);
+            String type = TYPES[random.nextInt(TYPES.length)];
+            LocalDateTime createdAt = start.plusSeconds(i);
+            if (claims != null) {
+                Claim claim = new Claim();
+                claim.setId(id);
+                claim.setClaimantName(name);
+                claim.setClaimAmount(amount);
+                claim.setClaimType(type);
+                claim.setStatus("NEW");
+                claim.setCreatedAt(createdAt);
+                claim.setVersion(0L);
+                claims.add(claim);
+            } else {
+                claimColumns.append(id, amount, type, name, createdAt);
+            }
+        }
+
+        long retained = usedHeap() - before;
+        System.out.printf("%n[%s] rows=%d retainedBytes=%d bytesPerRow=%.1f%n",
+                layout, rows, retained, (double) retained / rows);
+    }
+
+    @Benchmark
+    public StatisticsSnapshot rebuildStatistics() {
+        ClaimStatistics statistics = new ClaimStatistics();
+        if (claims != null) {
+            statistics.rebuild(claims);
+        } else {
+            statistics.rebuild(claimColumns.view());
+        }
+        return statistics.snapshot();
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,130 @@
+package com.smartclaims360.smartclaims360.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Rows inserted per second into a file-backed H2 claims table keyed by random (version 4, the previous
+ * {@code GenerationType.AUTO} strategy) or time-ordered {@link UuidV7} ids. The table is preloaded so
+ * inserts land in an index of realistic depth. H2's MVStore is copy-on-write and has no page split
+ * counter; at the end of each trial the store's bytes written per inserted row and its page count are
+ * printed as the measure of index churn. Run with {@code ./gradlew jmh --args="ClaimIdInsertBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClaimIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int PRELOAD_ROWS = 200_000;
+
+    @Param({"random", "v7"})
+    private String idStrategy;
+
+    private Path directory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long rowsInserted;
+    private long writeBytesAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("claim-id-bench");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("claims") + ";CACHE_SIZE=65536", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE claims (
+                    id UUID PRIMARY KEY,
+                    claimant_name VARCHAR(255) NOT NULL,
+                    claim_amount DECIMAL(19, 2) NOT NULL,
+                    claim_type VARCHAR(255) NOT NULL,
+                    status VARCHAR(255) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+            statement.execute("CREATE INDEX idx_claims_created_at_id ON claims (created_at, id)");
+        }
+        insert = connection.prepareStatement(
+                "INSERT INTO claims (id, claimant_name, claim_amount, claim_type, status, created_at) VALUES (?, ?, ?, ?, ?, ?)");
+
+        for (int i = 0; i < PRELOAD_ROWS; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        rowsInserted = 0;
+        writeBytesAtStart = storeInfo("info.FILE_WRITE_BYTES");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        long written = storeInfo("info.FILE_WRITE_BYTES") - writeBytesAtStart;
+        System.out.printf("%n[%s] rows=%d bytesWrittenPerRow=%.1f pageCount=%d fileSize=%d%n",
+                idStrategy, rowsInserted, rowsInserted == 0 ? 0.0 : (double) written / rowsInserted,
+                storeInfo("info.PAGE_COUNT"), storeInfo("info.FILE_SIZE"));
+
+        insert.close();
+        connection.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, nextId());
+            insert.setString(2, "John Doe");
+            insert.setBigDecimal(3, BigDecimal.valueOf(150_000, 2));
+            insert.setString(4, "AUTO");
+            insert.setString(5, "NEW");
+            insert.setTimestamp(6, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        rowsInserted += BATCH_SIZE;
+    }
+
+    private UUID nextId() {
+        return "v7".equals(idStrategy) ? UuidV7Generator.next() : UUID.randomUUID();
+    }
+
+    private long storeInfo(String name) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = ?")) {
+            query.setString(1, name);
+            try (ResultSet resultSet = query.executeQuery()) {
+                return resultSet.next() ? Long.parseLong(resultSet.getString(1)) : -1;
+            }
+        }
+    }
+}
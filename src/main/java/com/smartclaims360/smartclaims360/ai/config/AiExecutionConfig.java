@@ -0,0 +1,16 @@
+package com.smartclaims360.smartclaims360.ai.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AiExecutionConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService assessmentExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,95 @@
+package com.smartclaims360.smartclaims360.ai.config;
+
+import com.smartclaims360.smartclaims360.ai.provider.AdaptiveConcurrencyLimiter;
+import com.smartclaims360.smartclaims360.ai.provider.BatchingLlmValidationProvider;
+import com.smartclaims360.smartclaims360.ai.provider.CachingLlmValidationProvider;
+import com.smartclaims360.smartclaims360.ai.provider.CircuitBreaker;
+import com.smartclaims360.smartclaims360.ai.provider.LlmValidationProvider;
+import com.smartclaims360.smartclaims360.ai.provider.ProtectedLlmValidationProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Wraps the selected base provider (ai.llm.provider) in the optional decorators; the result is the
+ * provider everything else injects.
+ */
+@Configuration
+public class LlmProviderConfig {
+
+    @Value("${ai.llm.timeout:2s}")
+    private Duration llmTimeout;
+
+    @Value("${ai.llm.protection.enabled:true}")
+    private boolean protectionEnabled;
+
+    @Value("${ai.llm.protection.initial-limit:10}")
+    private int initialLimit;
+
+    @Value("${ai.llm.protection.min-limit:1}")
+    private int minLimit;
+
+    @Value("${ai.llm.protection.max-concurrency:50}")
+    private int maxConcurrency;
+
+    @Value("${ai.llm.protection.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${ai.llm.protection.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${ai.llm.protection.window-size:20}")
+    private int windowSize;
+
+    @Value("${ai.llm.protection.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${ai.llm.protection.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${ai.llm.batching.enabled:false}")
+    private boolean batchingEnabled;
+
+    @Value("${ai.llm.batching.max-size:16}")
+    private int batchMaxSize;
+
+    @Value("${ai.llm.batching.max-wait:10ms}")
+    private Duration batchMaxWait;
+
+    @Value("${ai.llm.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${ai.llm.cache.max-size:10MB}")
+    private DataSize cacheMaxSize;
+
+    @Value("${ai.llm.cache.ttl:1h}")
+    private Duration cacheTtl;
+
+    @Bean
+    @Primary
+    public LlmValidationProvider llmValidationProvider(@Qualifier("base") LlmValidationProvider baseProvider,
+                                                       ExecutorService assessmentExecutor,
+                                                       MeterRegistry meterRegistry) {
+        LlmValidationProvider provider = baseProvider;
+        if (protectionEnabled) {
+            provider = new ProtectedLlmValidationProvider(provider,
+                    new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxConcurrency, backoffRatio),
+                    new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls, openDuration),
+                    llmTimeout, meterRegistry);
+        }
+        if (batchingEnabled) {
+            provider = new BatchingLlmValidationProvider(provider, batchMaxSize, batchMaxWait, assessmentExecutor, meterRegistry);
+        }
+        if (cacheEnabled) {
+            provider = new CachingLlmValidationProvider(provider, cacheMaxSize, cacheTtl, meterRegistry);
+        }
+        return provider;
+    }
+}
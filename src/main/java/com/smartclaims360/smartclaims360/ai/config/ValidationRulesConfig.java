@@ -0,0 +1,12 @@
+package com.smartclaims360.smartclaims360.ai.config;
+
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ValidationRuleProperties.class)
+public class ValidationRulesConfig {
+}
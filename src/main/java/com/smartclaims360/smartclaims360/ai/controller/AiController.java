@@ -1,28 +1,49 @@
 package com.smartclaims360.smartclaims360.ai.controller;
 
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessmentResponse;
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
 import com.smartclaims360.smartclaims360.ai.dto.RoutingSuggestion;
 import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
 import com.smartclaims360.smartclaims360.ai.service.AiValidationService;
+import com.smartclaims360.smartclaims360.ai.service.ClaimAssessmentService;
 import com.smartclaims360.smartclaims360.ai.service.FraudScoringService;
-import com.smartclaims360.smartclaims360.ai.service.RoutingService;
-import com.smartclaims360.smartclaims360.ai.service.SummarizationService;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
 import com.smartclaims360.smartclaims360.exception.ClaimNotFoundException;
+import com.smartclaims360.smartclaims360.exception.InvalidBatchItemException;
 import com.smartclaims360.smartclaims360.service.ClaimService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/claims")
@@ -36,13 +57,16 @@ public class AiController {
     private FraudScoringService fraudScoringService;
 
     @Autowired
-    private SummarizationService summarizationService;
+    private ClaimAssessmentService claimAssessmentService;
 
     @Autowired
-    private RoutingService routingService;
+    private ClaimService claimService;
 
     @Autowired
-    private ClaimService claimService;
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
 
     @PostMapping("/validate")
     @Operation(
@@ -66,7 +90,8 @@ public class AiController {
                                 "llmHints": [
                                     "Consider adding additional documentation for faster processing",
                                     "Claim amount is within normal range for AUTO claims"
-                                ]
+                                ],
+                                "llmHintsTimedOut": false
                             }
                             """
                     ),
@@ -82,7 +107,8 @@ public class AiController {
                                 "llmHints": [
                                     "Ensure all required fields are properly filled",
                                     "Verify claim amount reflects actual damages"
-                                ]
+                                ],
+                                "llmHintsTimedOut": false
                             }
                             """
                     )
@@ -145,7 +171,8 @@ public class AiController {
                     )
                 }
             )
-        )
+        ),
+        @ApiResponse(responseCode = "409", description = "A stored claim carrying a version was updated concurrently; reload it and retry")
     })
     public ResponseEntity<FraudScoreResponse> scoreClaim(
         @RequestBody
@@ -167,15 +194,80 @@ public class AiController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/score/batch")
+    @Operation(
+        summary = "Calculate Fraud Risk Scores in Batch",
+        description = "Scores many claims in one call against a single snapshot of the historical statistics. Each array element is either a claim object or the ID of a stored claim. Stored claims get their fraud score updated with batched writes. Results are returned in input order."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch fraud scoring completed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = FraudScoreResponse.class)),
+                examples = @ExampleObject(value = """
+                    [
+                        {
+                            "fraudScore": 0.25,
+                            "riskLevel": "LOW",
+                            "explanation": "Low fraud risk - claim appears consistent with historical patterns"
+                        },
+                        {
+                            "fraudScore": 0.72,
+                            "riskLevel": "HIGH",
+                            "explanation": "High fraud risk detected based on anomalous patterns in amount, claim type frequency, or repeated claimant"
+                        }
+                    ]
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "An item is not a claim ID or a valid claim object; the message names its index",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Invalid batch item 1: Claim amount cannot be null")
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "One of the claim IDs does not exist"
+        ),
+        @ApiResponse(responseCode = "409", description = "A stored claim carrying a version was updated concurrently; reload it and retry")
+    })
+    public ResponseEntity<List<FraudScoreResponse>> scoreClaims(
+        @RequestBody
+        @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            description = "Claims to score, given as claim objects or stored claim IDs",
+            content = @Content(
+                examples = @ExampleObject(value = """
+                    [
+                        {
+                            "claimantName": "John Doe",
+                            "claimAmount": 15000.00,
+                            "claimType": "AUTO"
+                        },
+                        "123e4567-e89b-12d3-a456-426614174000"
+                    ]
+                    """)
+            )
+        )
+        List<JsonNode> items) {
+        List<FraudScoreResponse> responses = fraudScoringService.scoreClaims(resolveBatchItems(items));
+        return ResponseEntity.ok(responses);
+    }
+
     @GetMapping("/{id}/summary")
     @Operation(
         summary = "Generate Claim Summary",
-        description = "Creates a comprehensive summary of the claim including key details, validation status, fraud risk analysis, and processing recommendations."
+        description = "Creates a comprehensive summary of the claim including key details, validation status, fraud risk analysis, and processing recommendations. Uses the fraud assessment stored on the claim and only rescores it when that assessment is stale."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Claim summary generated successfully",
+            headers = @Header(name = "ETag", description = "Changes with the claim version, statistics epoch, validation rules and scoring window hour; omitted while the assessment is stale"),
             content = @Content(
                 mediaType = "text/plain",
                 examples = @ExampleObject(value = """
@@ -200,6 +292,7 @@ public class AiController {
                     """)
             )
         ),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(
             responseCode = "404",
             description = "Claim not found with the provided ID",
@@ -217,23 +310,28 @@ public class AiController {
             )
         )
     })
-    public ResponseEntity<String> getClaimSummary(@PathVariable UUID id) {
+    public ResponseEntity<String> getClaimSummary(@PathVariable UUID id, WebRequest request) {
         Claim claim = claimService.getClaimById(id)
                 .orElseThrow(() -> new ClaimNotFoundException(id));
-        
-        String summary = summarizationService.summarize(claim);
-        return ResponseEntity.ok(summary);
+
+        Optional<String> etag = claimAssessmentService.etag(claim);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+        String summary = claimAssessmentService.summarize(claim);
+        return ResponseEntity.ok().eTag(claimAssessmentService.etag(claim).orElse(null)).body(summary);
     }
 
     @GetMapping("/{id}/route")
     @Operation(
         summary = "Get Routing Suggestion",
-        description = "Provides intelligent routing recommendations based on claim type, fraud score, and validation results. Routes high-risk claims to manual review."
+        description = "Provides intelligent routing recommendations based on claim type, fraud score, and validation results. Routes high-risk claims to manual review. Uses the fraud assessment stored on the claim and only rescores it when that assessment is stale."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Routing suggestion generated successfully",
+            headers = @Header(name = "ETag", description = "Changes with the claim version, statistics epoch, validation rules and scoring window hour; omitted while the assessment is stale"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = RoutingSuggestion.class),
@@ -259,6 +357,7 @@ public class AiController {
                 }
             )
         ),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(
             responseCode = "404",
             description = "Claim not found with the provided ID",
@@ -276,16 +375,153 @@ public class AiController {
             )
         )
     })
-    public ResponseEntity<RoutingSuggestion> getRoutingSuggestion(@PathVariable UUID id) {
+    public ResponseEntity<RoutingSuggestion> getRoutingSuggestion(@PathVariable UUID id, WebRequest request) {
         Claim claim = claimService.getClaimById(id)
                 .orElseThrow(() -> new ClaimNotFoundException(id));
-        
-        RoutingSuggestion suggestion = routingService.suggest(claim);
-        return ResponseEntity.ok(suggestion);
+
+        Optional<String> etag = claimAssessmentService.etag(claim);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+        RoutingSuggestion suggestion = claimAssessmentService.route(claim);
+        return ResponseEntity.ok().eTag(claimAssessmentService.etag(claim).orElse(null)).body(suggestion);
+    }
+
+    @GetMapping("/{id}/assessment")
+    @Operation(
+        summary = "Get Full Claim Assessment",
+        description = "Returns the claim summary, routing suggestion, fraud score and validation result in one round trip. Validation, AI hints and fraud scoring run once and are shared by the summary and the routing decision."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Claim assessment generated successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClaimAssessmentResponse.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "summary": "CLAIM SUMMARY\n=============\nID: 123e4567-e89b-12d3-a456-426614174000\n...",
+                        "route": {
+                            "queue": "AUTO",
+                            "reason": "Standard processing for AUTO claim with low fraud risk (score: 0.25)"
+                        },
+                        "score": {
+                            "fraudScore": 0.25,
+                            "riskLevel": "LOW",
+                            "explanation": "Low fraud risk - claim appears consistent with historical patterns"
+                        },
+                        "validation": {
+                            "valid": true,
+                            "reasons": [],
+                            "llmHints": [],
+                            "llmHintsTimedOut": false
+                        }
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Claim not found with the provided ID"
+        )
+    })
+    public ResponseEntity<ClaimAssessmentResponse> getClaimAssessment(@PathVariable UUID id) {
+        Claim claim = claimService.getClaimById(id)
+                .orElseThrow(() -> new ClaimNotFoundException(id));
+
+        return ResponseEntity.ok(claimAssessmentService.report(claim));
+    }
+
+    /**
+     * Checks every item before anything is loaded or scored: IDs must parse, and inline claims must pass the same
+     * constraints as {@link ClaimRequest}. The first bad item fails the batch with its index.
+     */
+    private List<Claim> resolveBatchItems(List<JsonNode> items) {
+        UUID[] itemIds = new UUID[items.size()];
+        Claim[] inlineClaims = new Claim[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            JsonNode item = items.get(i);
+            if (item != null && item.isTextual()) {
+                itemIds[i] = parseClaimId(i, item.asText());
+            } else if (item != null && item.isObject()) {
+                inlineClaims[i] = parseInlineClaim(i, item);
+            } else {
+                throw new InvalidBatchItemException(i, "expected a claim object or a claim ID");
+            }
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        for (UUID id : itemIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        Map<UUID, Claim> storedClaims = claimService.getClaimsById(ids).stream()
+                .collect(Collectors.toMap(Claim::getId, Function.identity()));
+
+        List<Claim> claims = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            if (itemIds[i] == null) {
+                claims.add(inlineClaims[i]);
+                continue;
+            }
+            Claim claim = storedClaims.get(itemIds[i]);
+            if (claim == null) {
+                throw new ClaimNotFoundException(itemIds[i]);
+            }
+            claims.add(claim);
+        }
+        return claims;
+    }
+
+    private UUID parseClaimId(int index, String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBatchItemException(index, "not a claim ID: " + id);
+        }
+    }
+
+    private Claim parseInlineClaim(int index, JsonNode item) {
+        ClaimRequest request;
+        try {
+            request = objectMapper.treeToValue(item, ClaimRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidBatchItemException(index, e.getOriginalMessage());
+        }
+        List<String> violations = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+        if (!violations.isEmpty()) {
+            throw new InvalidBatchItemException(index, String.join(", ", violations));
+        }
+
+        Claim claim = new Claim();
+        claim.setClaimantName(request.getClaimantName());
+        claim.setClaimAmount(request.getClaimAmount());
+        claim.setClaimType(request.getClaimType());
+        return claim;
     }
 
     @ExceptionHandler(ClaimNotFoundException.class)
     public ResponseEntity<String> handleClaimNotFound(ClaimNotFoundException ex) {
         return ResponseEntity.notFound().build();
     }
+
+    @ExceptionHandler(InvalidBatchItemException.class)
+    public ResponseEntity<String> handleInvalidBatchItem(InvalidBatchItemException ex) {
+        return ResponseEntity.badRequest().body(ex.getMessage());
+    }
+
+    @ExceptionHandler(AssessmentTimeoutException.class)
+    public ResponseEntity<String> handleAssessmentTimeout(AssessmentTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConcurrentUpdate(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ex.getMessage());
+    }
 }
@@ -0,0 +1,119 @@
+package com.smartclaims360.smartclaims360.ai.controller;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAmountPercentiles;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimStats;
+import com.smartclaims360.smartclaims360.ai.service.ClaimAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/claims/stats")
+@Tag(name = "AI-Assisted Features", description = "AI-powered claim validation, fraud detection, summarization, and routing")
+public class ClaimStatsController {
+
+    @Autowired
+    private ClaimAnalyticsService claimAnalyticsService;
+
+    @GetMapping
+    @Operation(
+        summary = "Get Claim Statistics",
+        description = "Returns claim counts and amount totals, averages, minimums and maximums, overall and per claim type, optionally limited to claims created in [createdFrom, createdTo]. Computed from the in-memory claim columns, so it reflects committed claims without querying the database."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Statistics computed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClaimStats.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "count": 3,
+                        "totalAmount": 6500.00,
+                        "averageAmount": 2166.67,
+                        "types": [
+                            {
+                                "claimType": "AUTO",
+                                "count": 2,
+                                "totalAmount": 2000.00,
+                                "averageAmount": 1000.00,
+                                "minAmount": 500.00,
+                                "maxAmount": 1500.00
+                            },
+                            {
+                                "claimType": "HEALTH",
+                                "count": 1,
+                                "totalAmount": 4500.00,
+                                "averageAmount": 4500.00,
+                                "minAmount": 4500.00,
+                                "maxAmount": 4500.00
+                            }
+                        ]
+                    }
+                    """)
+            )
+        )
+    })
+    public ResponseEntity<ClaimStats> getClaimStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        return ResponseEntity.ok(claimAnalyticsService.summarize(createdFrom, createdTo));
+    }
+
+    @GetMapping("/amounts")
+    @Operation(
+        summary = "Get Claim Amount Percentiles",
+        description = "Returns the median, 90th and 99th percentile claim amount overall and per claim type. Read from streaming quantile sketches of a few kilobytes per type, so the values are approximate and include claims deleted since startup."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Percentiles computed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClaimAmountPercentiles.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "count": 3,
+                        "p50": 1500.00,
+                        "p90": 4500.00,
+                        "p99": 4500.00,
+                        "types": [
+                            {
+                                "claimType": "AUTO",
+                                "count": 2,
+                                "p50": 500.00,
+                                "p90": 1500.00,
+                                "p99": 1500.00
+                            },
+                            {
+                                "claimType": "HEALTH",
+                                "count": 1,
+                                "p50": 4500.00,
+                                "p90": 4500.00,
+                                "p99": 4500.00
+                            }
+                        ]
+                    }
+                    """)
+            )
+        )
+    })
+    public ResponseEntity<ClaimAmountPercentiles> getClaimAmountPercentiles() {
+        return ResponseEntity.ok(claimAnalyticsService.amountPercentiles());
+    }
+}
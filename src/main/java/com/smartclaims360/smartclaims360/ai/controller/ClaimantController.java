@@ -0,0 +1,61 @@
+package com.smartclaims360.smartclaims360.ai.controller;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimantProfile;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/claimants")
+@Tag(name = "AI-Assisted Features", description = "AI-powered claim validation, fraud detection, summarization, and routing")
+public class ClaimantController {
+
+    @Autowired
+    private ClaimantIndex claimantIndex;
+
+    @GetMapping("/{name}/profile")
+    @Operation(
+        summary = "Get Claimant Profile",
+        description = "Returns the number of stored claims and their IDs for a claimant name. Names are matched case-insensitively with surrounding and repeated whitespace ignored, the same way repeated-claimant fraud scoring matches them."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Claimant profile returned successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ClaimantProfile.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "claimantName": "john doe",
+                        "claimCount": 2,
+                        "claimIds": [
+                            "123e4567-e89b-12d3-a456-426614174000",
+                            "987fcdeb-51a2-43d1-9c4f-123456789abc"
+                        ]
+                    }
+                    """)
+            )
+        )
+    })
+    public ResponseEntity<ClaimantProfile> getClaimantProfile(@PathVariable String name) {
+        List<UUID> claimIds = new ArrayList<>(claimantIndex.claimIds(name));
+        ClaimantProfile profile = new ClaimantProfile(ClaimantIndex.normalize(name), claimIds.size(), claimIds);
+        return ResponseEntity.ok(profile);
+    }
+}
@@ -0,0 +1,235 @@
+package com.smartclaims360.smartclaims360.ai.controller;
+
+import com.smartclaims360.smartclaims360.ai.dto.RescoreJobStatus;
+import com.smartclaims360.smartclaims360.ai.service.RescoreJob;
+import com.smartclaims360.smartclaims360.ai.service.RescoreService;
+import com.smartclaims360.smartclaims360.exception.RescoreJobNotFoundException;
+import com.smartclaims360.smartclaims360.exception.RescoreRejectedException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admin/rescore")
+@Tag(name = "Claim Re-scoring", description = "Re-score every stored claim after scoring behavior changes")
+public class RescoreController {
+
+    @Autowired
+    private RescoreService rescoreService;
+
+    @PostMapping
+    @Operation(
+        summary = "Start Re-scoring",
+        description = "Re-scores every stored claim in the background against the statistics as they are when the job starts, writing the fraud score and risk level of claims whose score changed in versioned batch updates. Only one job runs at a time; poll the returned job for progress."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Re-scoring started",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RescoreJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d",
+                        "state": "RUNNING",
+                        "statisticsEpoch": 3,
+                        "totalClaims": 10000000,
+                        "claimsProcessed": 0,
+                        "claimsUpdated": 0,
+                        "claimsUnchanged": 0,
+                        "claimsConflicted": 0,
+                        "percentComplete": 0.0,
+                        "claimsPerSecond": 0.0,
+                        "maxClaimsPerSecond": 0.0,
+                        "startedAt": "2025-08-17T03:00:00",
+                        "finishedAt": null,
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A re-scoring job is already running or fraud scoring is disabled",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Re-scoring job 3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d is already running")
+            )
+        )
+    })
+    public ResponseEntity<RescoreJobStatus> startRescore(
+        @Parameter(description = "Throttle in claims per second; defaults to ai.rescore.max-claims-per-second, 0 for none") @RequestParam(required = false) Double maxClaimsPerSecond) {
+        RescoreJob job = rescoreService.start(maxClaimsPerSecond);
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/rescore/" + job.getId()))
+                .body(job.status());
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+        summary = "Get Re-scoring Job Status",
+        description = "Returns the progress and throughput of a re-scoring job"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RescoreJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d",
+                        "state": "RUNNING",
+                        "statisticsEpoch": 3,
+                        "totalClaims": 10000000,
+                        "claimsProcessed": 2500000,
+                        "claimsUpdated": 180000,
+                        "claimsUnchanged": 2319950,
+                        "claimsConflicted": 50,
+                        "percentComplete": 25.0,
+                        "claimsPerSecond": 52000.0,
+                        "maxClaimsPerSecond": 0.0,
+                        "startedAt": "2025-08-17T03:00:00",
+                        "finishedAt": null,
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No re-scoring job with this id",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Re-scoring job not found with id: 3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d")
+            )
+        )
+    })
+    public ResponseEntity<RescoreJobStatus> getRescoreStatus(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(findJob(jobId).status());
+    }
+
+    @PutMapping("/{jobId}/throttle")
+    @Operation(
+        summary = "Throttle Re-scoring",
+        description = "Changes how many claims per second a running job may process; 0 removes the limit"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Throttle changed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RescoreJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d",
+                        "state": "RUNNING",
+                        "statisticsEpoch": 3,
+                        "totalClaims": 10000000,
+                        "claimsProcessed": 2500000,
+                        "claimsUpdated": 180000,
+                        "claimsUnchanged": 2319950,
+                        "claimsConflicted": 50,
+                        "percentComplete": 25.0,
+                        "claimsPerSecond": 52000.0,
+                        "maxClaimsPerSecond": 5000.0,
+                        "startedAt": "2025-08-17T03:00:00",
+                        "finishedAt": null,
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No re-scoring job with this id",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Re-scoring job not found with id: 3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d")
+            )
+        )
+    })
+    public ResponseEntity<RescoreJobStatus> throttleRescore(
+        @PathVariable UUID jobId,
+        @Parameter(description = "Claims per second, 0 for no limit") @RequestParam double maxClaimsPerSecond) {
+        RescoreJob job = findJob(jobId);
+        job.throttle(maxClaimsPerSecond);
+        return ResponseEntity.ok(job.status());
+    }
+
+    @DeleteMapping("/{jobId}")
+    @Operation(
+        summary = "Cancel Re-scoring",
+        description = "Stops a running job once the chunk in progress is written; claims already re-scored keep their new scores. Cancelling a finished job has no effect."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cancellation requested",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RescoreJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d",
+                        "state": "CANCELLING",
+                        "statisticsEpoch": 3,
+                        "totalClaims": 10000000,
+                        "claimsProcessed": 2500000,
+                        "claimsUpdated": 180000,
+                        "claimsUnchanged": 2319950,
+                        "claimsConflicted": 50,
+                        "percentComplete": 25.0,
+                        "claimsPerSecond": 52000.0,
+                        "maxClaimsPerSecond": 0.0,
+                        "startedAt": "2025-08-17T03:00:00",
+                        "finishedAt": null,
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No re-scoring job with this id",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Re-scoring job not found with id: 3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d")
+            )
+        )
+    })
+    public ResponseEntity<RescoreJobStatus> cancelRescore(@PathVariable UUID jobId) {
+        RescoreJob job = findJob(jobId);
+        job.cancel();
+        return ResponseEntity.ok(job.status());
+    }
+
+    private RescoreJob findJob(UUID jobId) {
+        return rescoreService.getJob(jobId).orElseThrow(() -> new RescoreJobNotFoundException(jobId));
+    }
+
+    @ExceptionHandler(RescoreJobNotFoundException.class)
+    public ResponseEntity<String> handleRescoreJobNotFound(RescoreJobNotFoundException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(RescoreRejectedException.class)
+    public ResponseEntity<String> handleRescoreRejected(RescoreRejectedException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+}
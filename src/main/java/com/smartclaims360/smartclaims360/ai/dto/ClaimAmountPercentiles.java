@@ -0,0 +1,31 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Approximate claim amount percentiles from streaming sketches, overall and per claim type")
+public class ClaimAmountPercentiles {
+
+    @Schema(description = "Number of claims the sketches have seen", example = "3400")
+    private long count;
+
+    @Schema(description = "Median claimed amount; null when no claims were recorded", example = "1200.00")
+    private BigDecimal p50;
+
+    @Schema(description = "90th percentile of claimed amounts", example = "4800.00")
+    private BigDecimal p90;
+
+    @Schema(description = "99th percentile of claimed amounts", example = "21000.00")
+    private BigDecimal p99;
+
+    @Schema(description = "Percentiles per claim type, ordered by type")
+    private List<ClaimTypeAmountPercentiles> types;
+}
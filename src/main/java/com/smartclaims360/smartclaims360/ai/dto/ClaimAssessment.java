@@ -0,0 +1,19 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Validation and fraud scoring results computed once for a claim and shared by routing and summarization")
+public class ClaimAssessment {
+
+    @Schema(description = "Rule-based validation result including AI hints")
+    private ValidationResponse validation;
+
+    @Schema(description = "Fraud risk analysis result")
+    private FraudScoreResponse fraudScore;
+}
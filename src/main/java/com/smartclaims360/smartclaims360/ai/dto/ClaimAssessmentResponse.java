@@ -0,0 +1,25 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary, routing suggestion and fraud score for a claim, produced from a single assessment")
+public class ClaimAssessmentResponse {
+
+    @Schema(description = "Plain-text claim summary", example = "CLAIM SUMMARY\n=============\nID: 123e4567-e89b-12d3-a456-426614174000\n...")
+    private String summary;
+
+    @Schema(description = "Routing recommendation for the claim")
+    private RoutingSuggestion route;
+
+    @Schema(description = "Fraud risk analysis for the claim")
+    private FraudScoreResponse score;
+
+    @Schema(description = "Validation result including AI hints")
+    private ValidationResponse validation;
+}
@@ -0,0 +1,28 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Claim count and amount aggregates over the stored claims, overall and per claim type")
+public class ClaimStats {
+
+    @Schema(description = "Number of matching claims", example = "3400")
+    private long count;
+
+    @Schema(description = "Sum of the claimed amounts", example = "5100000.00")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Mean claimed amount, rounded to cents; 0 when nothing matched", example = "1500.00")
+    private BigDecimal averageAmount;
+
+    @Schema(description = "Aggregates per claim type, most frequent first")
+    private List<ClaimTypeStats> types;
+}
@@ -0,0 +1,30 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Approximate claim amount percentiles for one claim type")
+public class ClaimTypeAmountPercentiles {
+
+    @Schema(description = "Claim type", example = "AUTO")
+    private String claimType;
+
+    @Schema(description = "Number of claims of this type the sketch has seen", example = "1200")
+    private long count;
+
+    @Schema(description = "Median claimed amount", example = "1100.00")
+    private BigDecimal p50;
+
+    @Schema(description = "90th percentile of claimed amounts", example = "3900.00")
+    private BigDecimal p90;
+
+    @Schema(description = "99th percentile of claimed amounts", example = "15500.00")
+    private BigDecimal p99;
+}
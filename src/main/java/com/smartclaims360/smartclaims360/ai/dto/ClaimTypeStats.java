@@ -0,0 +1,33 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Claim count and amount aggregates for one claim type")
+public class ClaimTypeStats {
+
+    @Schema(description = "Claim type", example = "AUTO")
+    private String claimType;
+
+    @Schema(description = "Number of claims of this type", example = "1200")
+    private long count;
+
+    @Schema(description = "Sum of the claimed amounts", example = "1800000.00")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Mean claimed amount, rounded to cents", example = "1500.00")
+    private BigDecimal averageAmount;
+
+    @Schema(description = "Smallest claimed amount", example = "25.00")
+    private BigDecimal minAmount;
+
+    @Schema(description = "Largest claimed amount", example = "48000.00")
+    private BigDecimal maxAmount;
+}
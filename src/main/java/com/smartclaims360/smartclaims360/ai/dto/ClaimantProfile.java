@@ -0,0 +1,25 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Claim history for a claimant, matched on the case-folded, whitespace-normalized name")
+public class ClaimantProfile {
+
+    @Schema(description = "Normalized claimant name used as the index key", example = "john doe")
+    private String claimantName;
+
+    @Schema(description = "Number of stored claims filed under this name", example = "3")
+    private long claimCount;
+
+    @Schema(description = "Identifiers of the stored claims filed under this name", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> claimIds;
+}
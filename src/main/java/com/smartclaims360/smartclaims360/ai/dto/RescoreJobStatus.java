@@ -0,0 +1,59 @@
+package com.smartclaims360.smartclaims360.ai.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a job re-scoring every stored claim")
+public class RescoreJobStatus {
+
+    @Schema(description = "Identifier of the re-scoring job", example = "3f2c1b7e-9a4d-4c8e-b1f0-6d5e4a3b2c1d")
+    private UUID jobId;
+
+    @Schema(description = "Job state; CANCELLING until the chunk in progress is written", example = "RUNNING",
+            allowableValues = {"RUNNING", "CANCELLING", "COMPLETED", "CANCELLED", "FAILED"})
+    private String state;
+
+    @Schema(description = "Epoch of the scoring statistics every claim of this run is scored against", example = "3")
+    private long statisticsEpoch;
+
+    @Schema(description = "Claims stored when the job started", example = "10000000")
+    private long totalClaims;
+
+    @Schema(description = "Claims read and scored so far", example = "2500000")
+    private long claimsProcessed;
+
+    @Schema(description = "Claims whose fraud score or risk level changed and was written", example = "180000")
+    private long claimsUpdated;
+
+    @Schema(description = "Claims whose stored score was already current", example = "2319950")
+    private long claimsUnchanged;
+
+    @Schema(description = "Claims modified or deleted while the job scored them; left as they are", example = "50")
+    private long claimsConflicted;
+
+    @Schema(description = "Share of the starting claim count processed, in percent", example = "25.0")
+    private double percentComplete;
+
+    @Schema(description = "Claims processed per second since the job started", example = "52000.0")
+    private double claimsPerSecond;
+
+    @Schema(description = "Throttle in claims per second; 0 when unthrottled", example = "0.0")
+    private double maxClaimsPerSecond;
+
+    @Schema(description = "When the job started", example = "2025-08-17T03:00:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the job completed, was cancelled or failed", example = "null")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Why the job failed", example = "null")
+    private String error;
+}
@@ -21,4 +21,11 @@ public class ValidationResponse {
     
     @Schema(description = "AI-generated hints and recommendations for improving the claim", example = "[\"Consider adding additional documentation for faster processing\", \"Claim amount is within normal range for AUTO claims\"]")
     private List<String> llmHints;
+
+    @Schema(description = "True when the LLM provider did not answer within ai.llm.timeout and llmHints was left empty", example = "false")
+    private boolean llmHintsTimedOut;
+
+    public ValidationResponse(boolean valid, List<String> reasons, List<String> llmHints) {
+        this(valid, reasons, llmHints, false);
+    }
 }
@@ -0,0 +1,51 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+/**
+ * AIMD concurrency limit: every successful call made while at least half the limit was in use raises
+ * the limit by one, every failed or timed-out call multiplies it by {@code backoffRatio}. The limit
+ * never leaves [{@code minLimit}, {@code maxConcurrency}], the latter acting as a hard bulkhead.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxConcurrency;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxConcurrency, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxConcurrency = maxConcurrency;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxConcurrency));
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxConcurrency, limit + 1);
+        }
+        inFlight--;
+    }
+
+    public synchronized void onDropped() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
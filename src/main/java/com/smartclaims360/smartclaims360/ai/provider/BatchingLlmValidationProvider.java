@@ -0,0 +1,148 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent hint requests into one {@link LlmValidationProvider#getValidationHintsBatch}
+ * call of up to {@code maxBatchSize} claims, flushed at the latest {@code maxWait} after the first
+ * request of the batch arrived, and fans the results back out to the callers.
+ */
+public class BatchingLlmValidationProvider implements LlmValidationProvider, AutoCloseable {
+
+    private record PendingRequest(Claim claim, CompletableFuture<List<String>> result, long enqueuedAt) {
+    }
+
+    private final LlmValidationProvider delegate;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Executor executor;
+    private final ScheduledExecutorService flushScheduler;
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+
+    private final Object lock = new Object();
+    private List<PendingRequest> pending = new ArrayList<>();
+    private ScheduledFuture<?> flushTimer;
+
+    public BatchingLlmValidationProvider(LlmValidationProvider delegate, int maxBatchSize, Duration maxWait,
+                                         Executor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.executor = executor;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("llm-batch-flush").daemon().factory());
+        this.batchSize = DistributionSummary.builder("ai.llm.batch.size")
+                .description("Claims sent per LLM batch call")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("ai.llm.batch.queue.wait")
+                .description("Time a hint request waited for its batch to be dispatched")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> getValidationHints(Claim claim) {
+        return enqueue(claim).join();
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        return enqueue(claim);
+    }
+
+    @Override
+    public List<List<String>> getValidationHintsBatch(List<Claim> claims) {
+        return delegate.getValidationHintsBatch(claims);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return delegate.isCacheable();
+    }
+
+    @Override
+    public void close() {
+        flushScheduler.shutdownNow();
+        flush();
+    }
+
+    private CompletableFuture<List<String>> enqueue(Claim claim) {
+        PendingRequest request = new PendingRequest(claim, new CompletableFuture<>(), System.nanoTime());
+        List<PendingRequest> full = null;
+
+        synchronized (lock) {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                full = drain();
+            } else if (pending.size() == 1) {
+                flushTimer = flushScheduler.schedule(this::flush, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return request.result();
+    }
+
+    private void flush() {
+        List<PendingRequest> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private List<PendingRequest> drain() {
+        if (flushTimer != null) {
+            flushTimer.cancel(false);
+            flushTimer = null;
+        }
+        List<PendingRequest> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void dispatch(List<PendingRequest> batch) {
+        long dispatchedAt = System.nanoTime();
+        batchSize.record(batch.size());
+        for (PendingRequest request : batch) {
+            queueWait.record(dispatchedAt - request.enqueuedAt(), TimeUnit.NANOSECONDS);
+        }
+
+        executor.execute(() -> {
+            try {
+                List<List<String>> hints = delegate.getValidationHintsBatch(
+                        batch.stream().map(PendingRequest::claim).toList());
+                if (hints.size() != batch.size()) {
+                    throw new IllegalStateException("LLM batch returned " + hints.size() + " results for " + batch.size() + " claims");
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result().complete(hints.get(i));
+                }
+            } catch (RuntimeException e) {
+                batch.forEach(request -> request.result().completeExceptionally(e));
+            }
+        });
+    }
+}
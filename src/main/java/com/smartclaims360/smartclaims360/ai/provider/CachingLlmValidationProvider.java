@@ -0,0 +1,109 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Caches hints by {@link ClaimFingerprint}. Caffeine's W-TinyLFU policy only admits a new fingerprint
+ * over the eviction victim when it has been seen more often, so one-off profiles do not flush the hot
+ * ones. Entries are weighed by their approximate heap size and expire after {@code ttl}. Failed loads,
+ * including calls shed with {@link LlmCallShedException}, are not stored. Providers that report
+ * {@code isCacheable() == false} are always called directly.
+ */
+public class CachingLlmValidationProvider implements LlmValidationProvider {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final LlmValidationProvider delegate;
+    private final AsyncCache<ClaimFingerprint, List<String>> cache;
+
+    public CachingLlmValidationProvider(LlmValidationProvider delegate, DataSize maxSize, Duration ttl,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ClaimFingerprint key, List<String> hints) -> weigh(hints))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "llmHints");
+    }
+
+    @Override
+    public List<String> getValidationHints(Claim claim) {
+        if (!delegate.isCacheable()) {
+            return delegate.getValidationHints(claim);
+        }
+        return cache.synchronous().get(ClaimFingerprint.of(claim), key -> List.copyOf(delegate.getValidationHints(claim)));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        if (!delegate.isCacheable()) {
+            return delegate.getValidationHintsAsync(claim, executor);
+        }
+        // Callers cancel on timeout; hand out a copy so that does not cancel the shared cached load.
+        return cache.get(ClaimFingerprint.of(claim),
+                (key, cacheExecutor) -> delegate.getValidationHintsAsync(claim, executor).thenApply(List::copyOf)).copy();
+    }
+
+    @Override
+    public List<List<String>> getValidationHintsBatch(List<Claim> claims) {
+        if (!delegate.isCacheable()) {
+            return delegate.getValidationHintsBatch(claims);
+        }
+
+        Cache<ClaimFingerprint, List<String>> entries = cache.synchronous();
+        List<List<String>> hints = new ArrayList<>(claims.size());
+        List<Claim> misses = new ArrayList<>();
+        List<Integer> missIndexes = new ArrayList<>();
+        for (Claim claim : claims) {
+            List<String> cached = entries.getIfPresent(ClaimFingerprint.of(claim));
+            if (cached == null) {
+                misses.add(claim);
+                missIndexes.add(hints.size());
+            }
+            hints.add(cached);
+        }
+
+        if (!misses.isEmpty()) {
+            List<List<String>> loaded = delegate.getValidationHintsBatch(misses);
+            for (int i = 0; i < misses.size(); i++) {
+                List<String> claimHints = List.copyOf(loaded.get(i));
+                entries.put(ClaimFingerprint.of(misses.get(i)), claimHints);
+                hints.set(missIndexes.get(i), claimHints);
+            }
+        }
+        return hints;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return delegate.isCacheable();
+    }
+
+    private static int weigh(List<String> hints) {
+        int bytes = ENTRY_OVERHEAD_BYTES;
+        for (String hint : hints) {
+            bytes += STRING_OVERHEAD_BYTES + 2 * hint.length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import java.time.Duration;
+
+/**
+ * Count-based circuit breaker. Opens when at least {@code failureRateThreshold} of the last
+ * {@code windowSize} calls failed (once {@code minimumCalls} were recorded), rejects everything for
+ * {@code openDuration}, then lets a single trial call through: its outcome closes or re-opens it.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int failures;
+    private int next;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(double failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = openDuration.toNanos();
+        this.outcomes = new boolean[windowSize];
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            reset(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+            open();
+        }
+    }
+
+    /**
+     * Gives back a permit whose call was never made, without recording an outcome.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        recorded = 0;
+        failures = 0;
+        next = 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.ai.rules.ClaimConditions;
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+import java.math.BigDecimal;
+
+/**
+ * The claim features LLM hints are derived from. Two claims with equal fingerprints get the same hints.
+ *
+ * @param amountBand smallest k with amount &lt;= 10^k, so every band shares one side of a power-of-ten
+ *                   threshold such as "more than 10000"; {@code Integer.MIN_VALUE} for a missing or
+ *                   non-positive amount
+ * @param claimType  claim type exactly as submitted
+ * @param nameTokens number of space-separated name tokens, capped at 3
+ * @param testMarker whether the claimant name contains "test"
+ */
+public record ClaimFingerprint(int amountBand, String claimType, int nameTokens, boolean testMarker) {
+
+    private static final int MAX_NAME_TOKENS = 3;
+
+    public static ClaimFingerprint of(Claim claim) {
+        String name = claim.getClaimantName();
+        return new ClaimFingerprint(
+                amountBand(claim.getClaimAmount()),
+                claim.getClaimType(),
+                name == null ? 0 : Math.min(ClaimConditions.tokenCount(name), MAX_NAME_TOKENS),
+                name != null && ClaimConditions.containsIgnoreCase(name, "test"));
+    }
+
+    private static int amountBand(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            return Integer.MIN_VALUE;
+        }
+        int band = amount.precision() - amount.scale() - 1;
+        return amount.compareTo(BigDecimal.ONE.scaleByPowerOfTen(band)) <= 0 ? band : band + 1;
+    }
+}
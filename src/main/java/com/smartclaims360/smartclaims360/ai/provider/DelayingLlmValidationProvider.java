@@ -0,0 +1,58 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleEngine;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mock provider that answers with the configured hint rules after a fixed delay, to exercise
+ * LLM timeouts offline. Enable with {@code ai.llm.provider=delaying}.
+ */
+@Component
+@Qualifier("base")
+@ConditionalOnProperty(name = "ai.llm.provider", havingValue = "delaying")
+public class DelayingLlmValidationProvider implements LlmValidationProvider {
+
+    @Autowired
+    private ValidationRuleEngine validationRuleEngine;
+
+    @Value("${ai.llm.delay:3s}")
+    private Duration delay;
+
+    @Override
+    public List<String> getValidationHints(Claim claim) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+        return validationRuleEngine.getHintRules().evaluate(claim);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        Executor delayed = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, executor);
+        return CompletableFuture.supplyAsync(() -> validationRuleEngine.getHintRules().evaluate(claim), delayed);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+}
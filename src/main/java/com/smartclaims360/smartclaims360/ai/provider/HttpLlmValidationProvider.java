@@ -0,0 +1,119 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Calls a remote hint service. Request: {@code {"claims":[{claimantName, claimAmount, claimType}]}};
+ * response: {@code {"hints":[[...], ...]}} with one entry per claim, in order.
+ */
+@Component
+@Qualifier("base")
+@ConditionalOnProperty(name = "ai.llm.provider", havingValue = "http")
+public class HttpLlmValidationProvider implements LlmValidationProvider {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${ai.llm.http.url}")
+    private URI endpoint;
+
+    @Value("${ai.llm.timeout:2s}")
+    private Duration timeout;
+
+    @Override
+    public List<String> getValidationHints(Claim claim) {
+        return getValidationHintsBatch(List.of(claim)).get(0);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        return httpClient.sendAsync(request(List.of(claim)), HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> parse(response, 1).get(0));
+    }
+
+    @Override
+    public List<List<String>> getValidationHintsBatch(List<Claim> claims) {
+        try {
+            return parse(httpClient.send(request(claims), HttpResponse.BodyHandlers.ofString()), claims.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for LLM hints", e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    private HttpRequest request(List<Claim> claims) {
+        ObjectNode body = objectMapper.createObjectNode();
+        ArrayNode items = body.putArray("claims");
+        for (Claim claim : claims) {
+            items.addObject()
+                    .put("claimantName", claim.getClaimantName())
+                    .put("claimAmount", claim.getClaimAmount())
+                    .put("claimType", claim.getClaimType());
+        }
+
+        try {
+            return HttpRequest.newBuilder(endpoint)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<List<String>> parse(HttpResponse<String> response, int expected) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("LLM hint service returned HTTP " + response.statusCode());
+        }
+
+        JsonNode hints;
+        try {
+            hints = objectMapper.readTree(response.body()).path("hints");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed LLM hint response", e);
+        }
+        if (!hints.isArray() || hints.size() != expected) {
+            throw new IllegalStateException("LLM hint service returned " + hints.size() + " results for " + expected + " claims");
+        }
+
+        List<List<String>> result = new ArrayList<>(expected);
+        for (JsonNode claimHints : hints) {
+            List<String> texts = new ArrayList<>(claimHints.size());
+            claimHints.forEach(hint -> texts.add(hint.asText()));
+            result.add(texts);
+        }
+        return result;
+    }
+}
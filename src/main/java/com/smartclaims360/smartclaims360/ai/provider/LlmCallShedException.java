@@ -0,0 +1,12 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+/**
+ * Signals that {@link ProtectedLlmValidationProvider} did not admit a call, as opposed to the model
+ * answering with no hints. Callers treat it as no hints; the hint cache does not store it.
+ */
+public class LlmCallShedException extends RuntimeException {
+
+    public LlmCallShedException(String reason) {
+        super("LLM call shed: " + reason);
+    }
+}
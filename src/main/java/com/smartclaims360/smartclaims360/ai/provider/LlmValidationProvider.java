@@ -3,10 +3,35 @@ package com.smartclaims360.smartclaims360.ai.provider;
 import com.smartclaims360.smartclaims360.entity.Claim;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface LlmValidationProvider {
     
     List<String> getValidationHints(Claim claim);
+
+    /**
+     * Non-blocking variant used by {@code AiValidationService}. The default runs the blocking call
+     * on {@code executor}; providers backed by an asynchronous client should override it.
+     */
+    default CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> getValidationHints(claim), executor);
+    }
+
+    /**
+     * Hints for several claims in one call, in the same order as {@code claims}. Providers with a
+     * batch endpoint should override the per-claim default.
+     */
+    default List<List<String>> getValidationHintsBatch(List<Claim> claims) {
+        return claims.stream().map(this::getValidationHints).toList();
+    }
     
     boolean isEnabled();
+
+    /**
+     * Whether hints depend only on the {@link ClaimFingerprint} and may be served from the hint cache.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
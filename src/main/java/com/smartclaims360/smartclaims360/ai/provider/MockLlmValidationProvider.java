@@ -1,40 +1,38 @@
 package com.smartclaims360.smartclaims360.ai.provider;
 
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleEngine;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Answers with the hint rules configured under {@code ai.validation.hints}.
+ */
 @Component
+@Qualifier("base")
+@ConditionalOnProperty(name = "ai.llm.provider", havingValue = "mock", matchIfMissing = true)
 public class MockLlmValidationProvider implements LlmValidationProvider {
 
+    @Autowired
+    private ValidationRuleEngine validationRuleEngine;
+
     @Override
     public List<String> getValidationHints(Claim claim) {
-        List<String> hints = new ArrayList<>();
-        
-        if (claim.getClaimAmount().compareTo(new BigDecimal("10000")) > 0) {
-            hints.add("High claim amount detected - consider additional documentation");
-        }
-        
-        if (claim.getClaimantName().toLowerCase().contains("test")) {
-            hints.add("Test claimant name detected - verify authenticity");
-        }
-        
-        if ("LIFE".equals(claim.getClaimType())) {
-            hints.add("Life insurance claim requires death certificate verification");
-        }
-        
-        if (claim.getClaimantName().split(" ").length < 2) {
-            hints.add("Single name provided - consider requesting full legal name");
-        }
-        
-        return hints;
+        return validationRuleEngine.getHintRules().evaluate(claim);
     }
 
     @Override
     public boolean isEnabled() {
         return true;
     }
+
+    @Override
+    public boolean isCacheable() {
+        // Compiled rules are cheaper than a cache lookup, and may use thresholds the fingerprint does not capture.
+        return false;
+    }
 }
@@ -0,0 +1,141 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Guards the provider with a circuit breaker and an adaptive concurrency limit. Calls that are not
+ * admitted are shed immediately with {@link LlmCallShedException}, so validation never queues behind
+ * an unhealthy model and a shed is never mistaken for (or cached as) an empty answer.
+ * Failures and calls slower than {@code callTimeout} count against both the breaker and the limit.
+ */
+public class ProtectedLlmValidationProvider implements LlmValidationProvider {
+
+    private final LlmValidationProvider delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration callTimeout;
+    private final Counter shedByCircuit;
+    private final Counter shedByLimit;
+
+    public ProtectedLlmValidationProvider(LlmValidationProvider delegate, AdaptiveConcurrencyLimiter limiter,
+                                          CircuitBreaker circuitBreaker, Duration callTimeout,
+                                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+        this.circuitBreaker = circuitBreaker;
+        this.callTimeout = callTimeout;
+
+        Gauge.builder("ai.llm.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for LLM calls")
+                .register(meterRegistry);
+        Gauge.builder("ai.llm.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("LLM calls currently in flight")
+                .register(meterRegistry);
+        Gauge.builder("ai.llm.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("LLM circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        this.shedByCircuit = Counter.builder("ai.llm.shed").tag("reason", "circuit-open")
+                .description("LLM calls shed without calling the provider")
+                .register(meterRegistry);
+        this.shedByLimit = Counter.builder("ai.llm.shed").tag("reason", "concurrency-limit")
+                .description("LLM calls shed without calling the provider")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<String> getValidationHints(Claim claim) {
+        admit();
+        return call(() -> delegate.getValidationHints(claim));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+        try {
+            admit();
+        } catch (LlmCallShedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<List<String>> result;
+        try {
+            result = delegate.getValidationHintsAsync(claim, executor);
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+        return result.orTimeout(callTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((hints, failure) -> {
+                    if (failure == null && System.nanoTime() - startedAt <= callTimeout.toNanos()) {
+                        onSuccess();
+                    } else {
+                        onFailure();
+                    }
+                });
+    }
+
+    @Override
+    public List<List<String>> getValidationHintsBatch(List<Claim> claims) {
+        admit();
+        return call(() -> delegate.getValidationHintsBatch(claims));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return delegate.isCacheable();
+    }
+
+    private void admit() {
+        if (!circuitBreaker.tryAcquire()) {
+            shedByCircuit.increment();
+            throw new LlmCallShedException("circuit open");
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.release();
+            shedByLimit.increment();
+            throw new LlmCallShedException("concurrency limit reached");
+        }
+    }
+
+    private <T> T call(Supplier<T> providerCall) {
+        long startedAt = System.nanoTime();
+        T result;
+        try {
+            result = providerCall.get();
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+        if (System.nanoTime() - startedAt <= callTimeout.toNanos()) {
+            onSuccess();
+        } else {
+            onFailure();
+        }
+        return result;
+    }
+
+    private void onSuccess() {
+        limiter.onSuccess();
+        circuitBreaker.onSuccess();
+    }
+
+    private void onFailure() {
+        limiter.onDropped();
+        circuitBreaker.onFailure();
+    }
+}
@@ -0,0 +1,9 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+@FunctionalInterface
+public interface ClaimCondition {
+
+    boolean test(Claim claim);
+}
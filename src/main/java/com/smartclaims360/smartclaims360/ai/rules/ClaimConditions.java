@@ -0,0 +1,119 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compiles rule conditions into {@link ClaimCondition}s. Every constant (thresholds, needles, type
+ * sets) is prepared here, so evaluating a condition never allocates.
+ */
+public final class ClaimConditions {
+
+    private ClaimConditions() {
+    }
+
+    public static ClaimCondition compile(RuleDefinition rule) {
+        if (rule.getWhen() == null) {
+            throw new IllegalArgumentException("Rule '" + rule.getMessage() + "' has no condition");
+        }
+        return switch (rule.getWhen()) {
+            case "name-blank" -> claim -> isBlank(claim.getClaimantName());
+            case "name-contains" -> nameContains(required(rule));
+            case "name-tokens-below" -> nameTokensBelow(Integer.parseInt(required(rule)));
+            case "amount-not-positive" -> claim -> claim.getClaimAmount() == null || claim.getClaimAmount().signum() <= 0;
+            case "amount-above" -> amountAbove(new BigDecimal(required(rule)));
+            case "type-equals" -> typeEquals(required(rule));
+            case "type-not-in" -> typeNotIn(rule.getValues());
+            default -> throw new IllegalArgumentException("Unknown rule condition: " + rule.getWhen());
+        };
+    }
+
+    /**
+     * Same result as {@code s.trim().isEmpty()}.
+     */
+    public static boolean isBlank(String s) {
+        if (s == null) {
+            return true;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same result as {@code s.split(" ").length}: one token per separating space, minus the empty
+     * trailing tokens that {@code split} drops.
+     */
+    public static int tokenCount(String s) {
+        if (s.isEmpty()) {
+            return 1;
+        }
+        int last = s.length() - 1;
+        while (last >= 0 && s.charAt(last) == ' ') {
+            last--;
+        }
+        if (last < 0) {
+            return 0;
+        }
+        int tokens = 1;
+        for (int i = 0; i < last; i++) {
+            if (s.charAt(i) == ' ') {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+
+    public static boolean containsIgnoreCase(String s, String needle) {
+        for (int i = 0; i + needle.length() <= s.length(); i++) {
+            if (s.regionMatches(true, i, needle, 0, needle.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ClaimCondition nameContains(String needle) {
+        String lowerNeedle = needle.toLowerCase(Locale.ROOT);
+        return claim -> claim.getClaimantName() != null && containsIgnoreCase(claim.getClaimantName(), lowerNeedle);
+    }
+
+    private static ClaimCondition nameTokensBelow(int minimum) {
+        return claim -> claim.getClaimantName() != null && tokenCount(claim.getClaimantName()) < minimum;
+    }
+
+    private static ClaimCondition amountAbove(BigDecimal threshold) {
+        return claim -> claim.getClaimAmount() != null && claim.getClaimAmount().compareTo(threshold) > 0;
+    }
+
+    private static ClaimCondition typeEquals(String type) {
+        return claim -> type.equals(claim.getClaimType());
+    }
+
+    private static ClaimCondition typeNotIn(List<String> types) {
+        String[] allowed = types.toArray(String[]::new);
+        return claim -> {
+            String type = claim.getClaimType();
+            if (type == null) {
+                return true;
+            }
+            for (String candidate : allowed) {
+                if (candidate.equalsIgnoreCase(type)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static String required(RuleDefinition rule) {
+        if (rule.getValue() == null) {
+            throw new IllegalArgumentException("Rule condition " + rule.getWhen() + " requires a value");
+        }
+        return rule.getValue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, ordered chain of compiled conditions and the messages they report.
+ */
+public final class CompiledRules {
+
+    private final ClaimCondition[] conditions;
+    private final String[] messages;
+
+    private CompiledRules(ClaimCondition[] conditions, String[] messages) {
+        this.conditions = conditions;
+        this.messages = messages;
+    }
+
+    public static CompiledRules compile(List<RuleDefinition> rules) {
+        ClaimCondition[] conditions = new ClaimCondition[rules.size()];
+        String[] messages = new String[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            RuleDefinition rule = rules.get(i);
+            if (rule.getMessage() == null) {
+                throw new IllegalArgumentException("Rule condition " + rule.getWhen() + " has no message");
+            }
+            conditions[i] = ClaimConditions.compile(rule);
+            messages[i] = rule.getMessage();
+        }
+        return new CompiledRules(conditions, messages);
+    }
+
+    /**
+     * Messages of the matching rules in declaration order; allocates only when a rule matches.
+     */
+    public List<String> evaluate(Claim claim) {
+        List<String> matched = null;
+        for (int i = 0; i < conditions.length; i++) {
+            if (conditions[i].test(claim)) {
+                if (matched == null) {
+                    matched = new ArrayList<>(conditions.length - i);
+                }
+                matched.add(messages[i]);
+            }
+        }
+        return matched == null ? List.of() : matched;
+    }
+
+    public boolean anyMatch(Claim claim) {
+        for (ClaimCondition condition : conditions) {
+            if (condition.test(claim)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return conditions.length;
+    }
+}
@@ -0,0 +1,24 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One declarative rule: when the {@code when} condition (see {@link ClaimConditions}) holds for a
+ * claim, {@code message} is reported.
+ */
+@Data
+@NoArgsConstructor
+public class RuleDefinition {
+
+    private String when;
+
+    private String value;
+
+    private List<String> values = new ArrayList<>();
+
+    private String message;
+}
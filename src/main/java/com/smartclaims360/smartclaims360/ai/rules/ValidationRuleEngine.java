@@ -0,0 +1,104 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+/**
+ * Holds the compiled validation and hint rules. The rule set is an immutable snapshot swapped
+ * atomically on reload, so evaluation never takes a lock. When {@code ai.validation.rules-file} is
+ * set, that file replaces the rules from application.yml and is re-read whenever it changes; a file
+ * that fails to bind or compile leaves the previous rules in place.
+ */
+@Component
+public class ValidationRuleEngine {
+
+    public record RuleSet(CompiledRules validationRules, CompiledRules hintRules) {
+    }
+
+    @Autowired
+    private ValidationRuleProperties properties;
+
+    private volatile RuleSet ruleSet;
+
+    private FileTime rulesFileModified;
+
+    private volatile long generation;
+
+    public static ValidationRuleEngine of(ValidationRuleProperties properties) {
+        ValidationRuleEngine engine = new ValidationRuleEngine();
+        engine.properties = properties;
+        engine.init();
+        return engine;
+    }
+
+    public static ValidationRuleProperties bind(Resource yaml) {
+        try {
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader().load(yaml.getDescription(), yaml);
+            return new Binder(ConfigurationPropertySources.from(sources))
+                    .bind("ai.validation", ValidationRuleProperties.class)
+                    .orElseGet(ValidationRuleProperties::new);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        ruleSet = compile(properties);
+        reloadIfChanged();
+    }
+
+    public CompiledRules getValidationRules() {
+        return ruleSet.validationRules();
+    }
+
+    public CompiledRules getHintRules() {
+        return ruleSet.hintRules();
+    }
+
+    /**
+     * Incremented every time a changed rules file is loaded.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.validation.reload-interval:10s}")
+    public synchronized void reloadIfChanged() {
+        if (properties.getRulesFile() == null || properties.getRulesFile().isBlank()) {
+            return;
+        }
+
+        Path rulesFile = Path.of(properties.getRulesFile());
+        try {
+            FileTime modified = Files.getLastModifiedTime(rulesFile);
+            if (modified.equals(rulesFileModified)) {
+                return;
+            }
+            ruleSet = compile(bind(new FileSystemResource(rulesFile)));
+            rulesFileModified = modified;
+            generation++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read validation rules from " + rulesFile, e);
+        }
+    }
+
+    private static RuleSet compile(ValidationRuleProperties properties) {
+        return new RuleSet(CompiledRules.compile(properties.getRules()), CompiledRules.compile(properties.getHints()));
+    }
+}
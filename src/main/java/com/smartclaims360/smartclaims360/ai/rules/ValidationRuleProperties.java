@@ -0,0 +1,26 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "ai.validation")
+public class ValidationRuleProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Optional YAML file with the same {@code ai.validation} layout; polled and hot-reloaded when it changes.
+     */
+    private String rulesFile;
+
+    private Duration reloadInterval = Duration.ofSeconds(10);
+
+    private List<RuleDefinition> rules = new ArrayList<>();
+
+    private List<RuleDefinition> hints = new ArrayList<>();
+}
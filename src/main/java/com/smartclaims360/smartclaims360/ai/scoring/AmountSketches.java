@@ -0,0 +1,113 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link KllSketch} of claim amounts per claim type, so amount percentiles cost kilobytes per type however many
+ * claims are stored. Fed from the same committed-write path as {@link ClaimStatistics} and rebuilt from
+ * {@link ClaimColumns} at startup. Sketches cannot forget values, so deleted claims stay in them until the next
+ * restart.
+ * <p>
+ * Writers are serialized. Each type's quantiles are computed on the first read after a write and then served
+ * without locking until the next write to that type.
+ */
+@Component
+public class AmountSketches {
+
+    @Value("${ai.scoring.sketch.k:200}")
+    private int k;
+
+    private volatile Map<String, TypeSketch> sketches = new ConcurrentHashMap<>();
+
+    private static final class TypeSketch {
+
+        private final KllSketch sketch;
+        private volatile KllSketch.Quantiles published;
+
+        private TypeSketch(int k) {
+            sketch = new KllSketch(k);
+        }
+
+        private synchronized void update(double amount) {
+            sketch.update(amount);
+            published = null;
+        }
+
+        private KllSketch.Quantiles quantiles() {
+            KllSketch.Quantiles current = published;
+            if (current != null) {
+                return current;
+            }
+            synchronized (this) {
+                if (published == null) {
+                    published = sketch.quantiles();
+                }
+                return published;
+            }
+        }
+
+        private synchronized void mergeInto(KllSketch target) {
+            target.merge(sketch);
+        }
+    }
+
+    public void record(BigDecimal amount, String claimType) {
+        if (amount == null || claimType == null) {
+            return;
+        }
+        sketches.computeIfAbsent(claimType, type -> new TypeSketch(k)).update(amount.doubleValue());
+    }
+
+    /**
+     * Replaces every sketch with one built from the live rows of the columns.
+     */
+    public synchronized void rebuild(ClaimColumns.View columns) {
+        TypeSketch[] byCode = new TypeSketch[ClaimColumns.MAX_TYPES + 1];
+        Map<String, TypeSketch> rebuilt = new ConcurrentHashMap<>();
+        long[] amountCents = columns.amountCents();
+        byte[] typeCodes = columns.typeCodes();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isDeleted(row)) {
+                continue;
+            }
+            int code = typeCodes[row] & 0xFF;
+            if (byCode[code] == null) {
+                byCode[code] = rebuilt.computeIfAbsent(columns.types()[code], type -> new TypeSketch(k));
+            }
+            byCode[code].sketch.update(amountCents[row] / 100.0);
+        }
+        sketches = rebuilt;
+    }
+
+    /**
+     * Quantiles of the amounts of one claim type; empty when no claim of the type has been recorded.
+     */
+    public KllSketch.Quantiles quantiles(String claimType) {
+        TypeSketch typeSketch = claimType == null ? null : sketches.get(claimType);
+        return typeSketch == null ? KllSketch.Quantiles.EMPTY : typeSketch.quantiles();
+    }
+
+    /**
+     * Quantiles per claim type, ordered by type.
+     */
+    public Map<String, KllSketch.Quantiles> quantilesByType() {
+        Map<String, KllSketch.Quantiles> byType = new TreeMap<>();
+        sketches.forEach((type, typeSketch) -> byType.put(type, typeSketch.quantiles()));
+        return byType;
+    }
+
+    /**
+     * Quantiles over all claim types, from a merge of the per-type sketches.
+     */
+    public KllSketch.Quantiles overallQuantiles() {
+        KllSketch merged = new KllSketch(k);
+        sketches.values().forEach(typeSketch -> typeSketch.mergeInto(merged));
+        return merged.quantiles();
+    }
+}
@@ -0,0 +1,238 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Every stored claim as primitive columns: amount in cents, dictionary-encoded claim type, interned normalized
+ * claimant name, creation time in epoch millis (UTC) and the id. Rows are appended when a claim commits and
+ * deleted rows are only flagged, so scans are tight loops over arrays instead of walks over {@code Claim} objects.
+ * <p>
+ * Writers are serialized. Readers take the last published {@link View} without locking: rows below a published
+ * size never change apart from their deleted flag, and growing a column copies it into a new array.
+ * At most {@value #MAX_TYPES} distinct claim types get their own code; further types share {@link #OTHER_TYPE}.
+ */
+@Component
+public class ClaimColumns {
+
+    public static final int MAX_TYPES = 255;
+    public static final byte OTHER_TYPE = 0;
+    public static final String OTHER_TYPE_NAME = "OTHER";
+    public static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * A consistent prefix of the columns. Arrays may be longer than {@code size}; rows past it are not part of the
+     * view. {@code types[code]} and {@code names[id]} decode the dictionary columns.
+     */
+    public record View(int size, long[] idHigh, long[] idLow, long[] amountCents, byte[] typeCodes, int[] nameIds,
+                       long[] createdAtMillis, long[] deleted, String[] types, int typeCount, String[] names,
+                       int nameCount) {
+
+        public static final View EMPTY = new View(0, new long[0], new long[0], new long[0], new byte[0], new int[0],
+                new long[0], new long[0], new String[] {OTHER_TYPE_NAME}, 1, new String[0], 0);
+
+        public boolean isDeleted(int row) {
+            return (deleted[row >>> 6] & (1L << row)) != 0;
+        }
+
+        public UUID id(int row) {
+            return new UUID(idHigh[row], idLow[row]);
+        }
+
+        public String type(int row) {
+            return types[typeCodes[row] & 0xFF];
+        }
+
+        public String name(int row) {
+            return names[nameIds[row]];
+        }
+
+        public int liveCount() {
+            int live = size;
+            for (int word = 0; word < (size + 63) >>> 6; word++) {
+                live -= Long.bitCount(deleted[word]);
+            }
+            return live;
+        }
+    }
+
+    private long[] idHigh;
+    private long[] idLow;
+    private long[] amountCents;
+    private byte[] typeCodes;
+    private int[] nameIds;
+    private long[] createdAtMillis;
+    private long[] deleted;
+    private int size;
+
+    private String[] types;
+    private int typeCount;
+    private final Map<String, Byte> typeCodesByName = new HashMap<>();
+
+    private String[] names;
+    private int nameCount;
+    private final Map<String, Integer> nameIdsByName = new HashMap<>();
+
+    private volatile View view = View.EMPTY;
+
+    public ClaimColumns() {
+        clear();
+    }
+
+    public View view() {
+        return view;
+    }
+
+    /**
+     * The current view with its own copy of the deleted flags, so rows deleted later still show as live in it.
+     */
+    public synchronized View frozenView() {
+        View current = view;
+        return new View(current.size(), current.idHigh(), current.idLow(), current.amountCents(), current.typeCodes(),
+                current.nameIds(), current.createdAtMillis(), Arrays.copyOf(deleted, deleted.length),
+                current.types(), current.typeCount(), current.names(), current.nameCount());
+    }
+
+    public synchronized void append(UUID id, BigDecimal amount, String claimType, String claimantName,
+                                    LocalDateTime createdAt) {
+        if (id == null || amount == null) {
+            return;
+        }
+        if (size == amountCents.length) {
+            grow(size * 2);
+        }
+        idHigh[size] = id.getMostSignificantBits();
+        idLow[size] = id.getLeastSignificantBits();
+        amountCents[size] = toCents(amount);
+        typeCodes[size] = typeCode(claimType);
+        nameIds[size] = nameId(ClaimantIndex.normalize(claimantName));
+        createdAtMillis[size] = createdAt == null ? NO_TIMESTAMP : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        size++;
+        publish();
+    }
+
+    /**
+     * Flags the newest row with this id as deleted. Deletes are rare, so this scans the id columns backwards
+     * instead of keeping a per-row index. Returns false when no live row has the id.
+     */
+    public synchronized boolean remove(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        for (int row = size - 1; row >= 0; row--) {
+            if (idLow[row] == low && idHigh[row] == high && (deleted[row >>> 6] & (1L << row)) == 0) {
+                deleted[row >>> 6] |= 1L << row;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void clear() {
+        idHigh = new long[INITIAL_CAPACITY];
+        idLow = new long[INITIAL_CAPACITY];
+        amountCents = new long[INITIAL_CAPACITY];
+        typeCodes = new byte[INITIAL_CAPACITY];
+        nameIds = new int[INITIAL_CAPACITY];
+        createdAtMillis = new long[INITIAL_CAPACITY];
+        deleted = new long[INITIAL_CAPACITY >>> 6];
+        size = 0;
+        types = new String[MAX_TYPES + 1];
+        types[OTHER_TYPE] = OTHER_TYPE_NAME;
+        typeCount = 1;
+        typeCodesByName.clear();
+        names = new String[INITIAL_CAPACITY];
+        nameCount = 0;
+        nameIdsByName.clear();
+        publish();
+    }
+
+    /**
+     * Replaces the columns with a previously captured view, dropping its deleted rows.
+     */
+    public synchronized void restore(View restored) {
+        clear();
+        // Re-interning the dictionaries in order keeps every type code and name id unchanged.
+        for (int code = 1; code < restored.typeCount(); code++) {
+            typeCode(restored.types()[code]);
+        }
+        for (int id = 0; id < restored.nameCount(); id++) {
+            nameId(restored.names()[id]);
+        }
+        grow(Math.max(INITIAL_CAPACITY, restored.size()));
+        for (int row = 0; row < restored.size(); row++) {
+            if (restored.isDeleted(row)) {
+                continue;
+            }
+            idHigh[size] = restored.idHigh()[row];
+            idLow[size] = restored.idLow()[row];
+            amountCents[size] = restored.amountCents()[row];
+            typeCodes[size] = restored.typeCodes()[row];
+            nameIds[size] = restored.nameIds()[row];
+            createdAtMillis[size] = restored.createdAtMillis()[row];
+            size++;
+        }
+        publish();
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private byte typeCode(String claimType) {
+        if (claimType == null) {
+            return OTHER_TYPE;
+        }
+        Byte code = typeCodesByName.get(claimType);
+        if (code != null) {
+            return code;
+        }
+        if (typeCount > MAX_TYPES) {
+            return OTHER_TYPE;
+        }
+        byte assigned = (byte) typeCount;
+        types[typeCount++] = claimType;
+        typeCodesByName.put(claimType, assigned);
+        return assigned;
+    }
+
+    private int nameId(String normalizedName) {
+        Integer id = nameIdsByName.get(normalizedName);
+        if (id != null) {
+            return id;
+        }
+        if (nameCount == names.length) {
+            names = Arrays.copyOf(names, nameCount * 2);
+        }
+        names[nameCount] = normalizedName;
+        nameIdsByName.put(normalizedName, nameCount);
+        return nameCount++;
+    }
+
+    private void grow(int capacity) {
+        if (capacity <= amountCents.length) {
+            return;
+        }
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        typeCodes = Arrays.copyOf(typeCodes, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        createdAtMillis = Arrays.copyOf(createdAtMillis, capacity);
+        deleted = Arrays.copyOf(deleted, (capacity + 63) >>> 6);
+    }
+
+    private void publish() {
+        view = new View(size, idHigh, idLow, amountCents, typeCodes, nameIds, createdAtMillis, deleted,
+                types, typeCount, names, nameCount);
+    }
+}
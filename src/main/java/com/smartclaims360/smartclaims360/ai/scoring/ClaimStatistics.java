@@ -0,0 +1,133 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running amount moments (Welford) and per-type counts over all persisted claims.
+ * Writers are serialized; readers take the last published immutable snapshot without locking.
+ */
+@Component
+public class ClaimStatistics {
+
+    private long count;
+    private double mean;
+    private double m2;
+    private final Map<String, Long> typeCounts = new HashMap<>();
+
+    private volatile StatisticsSnapshot snapshot = StatisticsSnapshot.EMPTY;
+
+    private volatile long epoch;
+
+    public StatisticsSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Advances whenever the statistics are replaced wholesale by {@link #rebuild} or {@link #restore}. Incremental
+     * updates keep the epoch; they only affect claims that are rescored, which changes their version anyway.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public synchronized void record(BigDecimal amount, String claimType) {
+        add(amount, claimType);
+        publish();
+    }
+
+    private void add(BigDecimal amount, String claimType) {
+        if (amount == null || claimType == null) {
+            return;
+        }
+        double x = amount.doubleValue();
+        count++;
+        double delta = x - mean;
+        mean += delta / count;
+        m2 += delta * (x - mean);
+        typeCounts.merge(claimType, 1L, Long::sum);
+    }
+
+    public synchronized void remove(BigDecimal amount, String claimType) {
+        if (amount == null || claimType == null || count == 0) {
+            return;
+        }
+        if (count == 1) {
+            clear();
+            publish();
+            return;
+        }
+        double x = amount.doubleValue();
+        double previousMean = mean;
+        count--;
+        mean = (previousMean * (count + 1) - x) / count;
+        m2 = Math.max(0.0, m2 - (x - previousMean) * (x - mean));
+        typeCounts.computeIfPresent(claimType, (type, n) -> n > 1 ? n - 1 : null);
+        publish();
+    }
+
+    public synchronized void rebuild(Iterable<Claim> claims) {
+        clear();
+        for (Claim claim : claims) {
+            add(claim.getClaimAmount(), claim.getClaimType());
+        }
+        epoch++;
+        publish();
+    }
+
+    /**
+     * Rebuilds from the live rows of the columns in one pass over the amount and type columns.
+     */
+    public synchronized void rebuild(ClaimColumns.View columns) {
+        clear();
+        long[] countsByCode = new long[ClaimColumns.MAX_TYPES + 1];
+        long[] amountCents = columns.amountCents();
+        byte[] typeCodes = columns.typeCodes();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isDeleted(row)) {
+                continue;
+            }
+            double x = amountCents[row] / 100.0;
+            count++;
+            double delta = x - mean;
+            mean += delta / count;
+            m2 += delta * (x - mean);
+            countsByCode[typeCodes[row] & 0xFF]++;
+        }
+        for (int code = 0; code < columns.typeCount(); code++) {
+            if (countsByCode[code] > 0) {
+                typeCounts.put(columns.types()[code], countsByCode[code]);
+            }
+        }
+        epoch++;
+        publish();
+    }
+
+    /**
+     * Replaces the running state with a previously captured snapshot.
+     */
+    public synchronized void restore(StatisticsSnapshot restored) {
+        count = restored.getCount();
+        mean = restored.getMean();
+        m2 = restored.getSumOfSquaredDeviations();
+        typeCounts.clear();
+        typeCounts.putAll(restored.getTypeCounts());
+        epoch++;
+        publish();
+    }
+
+    private void clear() {
+        count = 0;
+        mean = 0.0;
+        m2 = 0.0;
+        typeCounts.clear();
+    }
+
+    private void publish() {
+        snapshot = new StatisticsSnapshot(count, mean, m2, Map.copyOf(typeCounts));
+    }
+}
@@ -0,0 +1,89 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keeps {@link ClaimStatistics}, {@link WindowedClaimStatistics}, {@link AmountSketches}, {@link ClaimantIndex} and
+ * {@link ClaimColumns} in step with the claims table. Changes are applied only once the surrounding transaction commits so rolled-back
+ * inserts never leak into fraud scoring. All of them are updated under the {@code ClaimStatistics} monitor, which
+ * {@link ClaimStatisticsLoader} also holds while restoring or capturing them, and the index doubles as the record of
+ * which claims the others already contain.
+ */
+@Component
+public class ClaimStatisticsListener {
+
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Autowired
+    private WindowedClaimStatistics windowedClaimStatistics;
+
+    @Autowired
+    private AmountSketches amountSketches;
+
+    @Autowired
+    private ClaimantIndex claimantIndex;
+
+    @Autowired
+    private ClaimColumns claimColumns;
+
+    @PostPersist
+    public void onPersist(Claim claim) {
+        BigDecimal amount = claim.getClaimAmount();
+        String claimType = claim.getClaimType();
+        String claimantName = claim.getClaimantName();
+        UUID claimId = claim.getId();
+        LocalDateTime createdAt = claim.getCreatedAt();
+        afterCommit(() -> {
+            synchronized (claimStatistics) {
+                if (claimantIndex.add(claimantName, claimId) || claimantName == null) {
+                    claimStatistics.record(amount, claimType);
+                    windowedClaimStatistics.record(amount, claimType, createdAt);
+                    amountSketches.record(amount, claimType);
+                    claimColumns.append(claimId, amount, claimType, claimantName, createdAt);
+                }
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Claim claim) {
+        BigDecimal amount = claim.getClaimAmount();
+        String claimType = claim.getClaimType();
+        String claimantName = claim.getClaimantName();
+        UUID claimId = claim.getId();
+        LocalDateTime createdAt = claim.getCreatedAt();
+        afterCommit(() -> {
+            synchronized (claimStatistics) {
+                if (claimantIndex.remove(claimantName, claimId) || claimantName == null) {
+                    claimStatistics.remove(amount, claimType);
+                    windowedClaimStatistics.remove(amount, claimType, createdAt);
+                    claimColumns.remove(claimId);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,203 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.repository.ClaimRow;
+import com.smartclaims360.smartclaims360.repository.ClaimTableFingerprint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Loads {@link ClaimColumns}, {@link ClaimStatistics} and {@link ClaimantIndex} at startup. With
+ * {@code ai.scoring.snapshot.enabled} the aggregates and columns are restored from a {@link ScoringSnapshot}, then
+ * claims created since its high-water mark minus {@code replay-grace} are replayed; claims already in the index are
+ * skipped, so transactions that committed late are counted once. If the result does not match the table's row count,
+ * amount total and latest creation time (e.g. claims were deleted or replaced while the node was down, another node
+ * wrote to the table, or the database was restored) or there is no usable snapshot, the columns are reloaded from
+ * the table with a projection query and the statistics and index are rebuilt from them. The snapshot is rewritten
+ * every {@code interval} and on shutdown. {@link WindowedClaimStatistics} and {@link AmountSketches} are rebuilt
+ * from the loaded columns either way: the window's buckets depend on the current time, and the sketches are cheap
+ * to rebuild and thereby drop deleted claims.
+ */
+@Component
+public class ClaimStatisticsLoader implements SmartInitializingSingleton {
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Autowired
+    private WindowedClaimStatistics windowedClaimStatistics;
+
+    @Autowired
+    private AmountSketches amountSketches;
+
+    @Autowired
+    private ClaimantIndex claimantIndex;
+
+    @Autowired
+    private ClaimColumns claimColumns;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${ai.scoring.snapshot.enabled:false}")
+    private boolean snapshotEnabled;
+
+    @Value("${ai.scoring.snapshot.file:./data/scoring.snapshot}")
+    private Path snapshotFile;
+
+    @Value("${ai.scoring.snapshot.replay-grace:5m}")
+    private Duration replayGrace;
+
+    private volatile boolean loaded;
+    private volatile String loadedFrom;
+    private volatile long replayed;
+    private volatile Duration loadTime;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        synchronized (claimStatistics) {
+            if (snapshotEnabled && restoreFromSnapshot()) {
+                loadedFrom = "snapshot";
+            } else {
+                loadColumns();
+                claimStatistics.rebuild(claimColumns.view());
+                claimantIndex.rebuild(claimColumns.view());
+                loadedFrom = "table";
+            }
+            windowedClaimStatistics.rebuild(claimColumns.view());
+            amountSketches.rebuild(claimColumns.view());
+        }
+        loadTime = Duration.ofNanos(System.nanoTime() - start);
+        loaded = true;
+    }
+
+    @Scheduled(fixedDelayString = "${ai.scoring.snapshot.interval:5m}", initialDelayString = "${ai.scoring.snapshot.interval:5m}")
+    public void saveSnapshot() {
+        if (!snapshotEnabled || !loaded) {
+            return;
+        }
+        ScoringSnapshot snapshot;
+        synchronized (claimStatistics) {
+            snapshot = new ScoringSnapshot(LocalDateTime.now(), claimStatistics.snapshot(), claimColumns.frozenView());
+        }
+        try {
+            Files.createDirectories(snapshotFile.toAbsolutePath().getParent());
+            snapshot.write(snapshotFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write scoring snapshot " + snapshotFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public String getLoadedFrom() {
+        return loadedFrom;
+    }
+
+    public long getReplayed() {
+        return replayed;
+    }
+
+    public Duration getLoadTime() {
+        return loadTime;
+    }
+
+    private boolean restoreFromSnapshot() {
+        Optional<ScoringSnapshot> snapshot;
+        try {
+            snapshot = ScoringSnapshot.read(snapshotFile);
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+        if (snapshot.isEmpty()) {
+            return false;
+        }
+
+        claimStatistics.restore(snapshot.get().statistics());
+        claimColumns.restore(snapshot.get().columns());
+        claimantIndex.rebuild(claimColumns.view());
+        replayed = replaySince(snapshot.get().highWaterMark().minus(replayGrace));
+        return matchesTable(claimColumns.view());
+    }
+
+    private boolean matchesTable(ClaimColumns.View columns) {
+        long count = 0;
+        long amountCents = 0;
+        long latestCreatedAt = ClaimColumns.NO_TIMESTAMP;
+        for (int row = 0; row < columns.size(); row++) {
+            if (!columns.isDeleted(row)) {
+                count++;
+                amountCents += columns.amountCents()[row];
+                latestCreatedAt = Math.max(latestCreatedAt, columns.createdAtMillis()[row]);
+            }
+        }
+
+        ClaimTableFingerprint table = claimRepository.fingerprint();
+        long tableAmountCents = table.amountSum() == null ? 0 : ClaimColumns.toCents(table.amountSum());
+        long tableLatestCreatedAt = table.latestCreatedAt() == null
+                ? ClaimColumns.NO_TIMESTAMP : table.latestCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return count == table.count() && claimStatistics.snapshot().getCount() == count
+                && amountCents == tableAmountCents && latestCreatedAt == tableLatestCreatedAt;
+    }
+
+    private void loadColumns() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        claimColumns.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ClaimRow> rows = claimRepository.streamRows()) {
+                rows.forEach(row -> claimColumns.append(row.id(), row.claimAmount(), row.claimType(),
+                        row.claimantName(), row.createdAt()));
+            }
+        });
+    }
+
+    private long replaySince(LocalDateTime from) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        Long count = transactionTemplate.execute(status -> {
+            long added = 0;
+            try (Stream<Claim> claims = claimRepository.streamAfter(from, new UUID(0, 0))) {
+                for (Claim claim : (Iterable<Claim>) claims::iterator) {
+                    if (claimantIndex.add(claim.getClaimantName(), claim.getId())) {
+                        claimStatistics.record(claim.getClaimAmount(), claim.getClaimType());
+                        claimColumns.append(claim.getId(), claim.getClaimAmount(), claim.getClaimType(),
+                                claim.getClaimantName(), claim.getCreatedAt());
+                        added++;
+                    }
+                }
+            }
+            return added;
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,86 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Claim IDs per normalized claimant name, so repeat-claimant lookups do not scan the claims table.
+ */
+@Component
+public class ClaimantIndex {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Set<UUID>> claimIdsByName = new ConcurrentHashMap<>();
+
+    public static String normalize(String claimantName) {
+        if (claimantName == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(claimantName.trim()).replaceAll(" ")
+                .toUpperCase(Locale.ROOT)
+                .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns false when the claim was already indexed.
+     */
+    public boolean add(String claimantName, UUID claimId) {
+        if (claimantName == null || claimId == null) {
+            return false;
+        }
+        return claimIdsByName.computeIfAbsent(normalize(claimantName), name -> ConcurrentHashMap.newKeySet()).add(claimId);
+    }
+
+    /**
+     * Returns false when the claim was not indexed.
+     */
+    public boolean remove(String claimantName, UUID claimId) {
+        if (claimantName == null || claimId == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        claimIdsByName.computeIfPresent(normalize(claimantName), (name, ids) -> {
+            removed[0] = ids.remove(claimId);
+            return ids.isEmpty() ? null : ids;
+        });
+        return removed[0];
+    }
+
+    public long count(String claimantName) {
+        Set<UUID> ids = claimIdsByName.get(normalize(claimantName));
+        return ids == null ? 0 : ids.size();
+    }
+
+    public Set<UUID> claimIds(String claimantName) {
+        Set<UUID> ids = claimIdsByName.get(normalize(claimantName));
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Rebuilds from the live rows of the columns, whose names are already normalized.
+     */
+    public synchronized void rebuild(ClaimColumns.View columns) {
+        claimIdsByName.clear();
+        for (int row = 0; row < columns.size(); row++) {
+            if (!columns.isDeleted(row)) {
+                claimIdsByName.computeIfAbsent(columns.name(row), name -> ConcurrentHashMap.newKeySet()).add(columns.id(row));
+            }
+        }
+    }
+
+    public synchronized void rebuild(Iterable<Claim> claims) {
+        claimIdsByName.clear();
+        for (Claim claim : claims) {
+            add(claim.getClaimantName(), claim.getId());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL streaming quantile sketch. Values enter level 0; a level that reaches its capacity is sorted and every other
+ * item (starting at a random offset) is promoted to the next level with twice the weight, the rest dropped. Level
+ * capacities shrink geometrically by 2/3 from the top level, never below {@value #MIN_CAPACITY}, so about 3k items are
+ * retained however many values were added, and the rank error of a quantile shrinks roughly as 1/k. Sketches are
+ * mergeable: {@link #merge} gives the same guarantees as if both streams had gone into one sketch.
+ * <p>
+ * Not thread-safe. Values cannot be removed.
+ */
+public class KllSketch {
+
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 8;
+
+    private final int k;
+    private double[][] levels = new double[1][MIN_CAPACITY];
+    private int[] sizes = new int[1];
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * Values in ascending order with the cumulative weight up to and including each, for quantile lookups.
+     */
+    public record Quantiles(long count, double min, double max, double[] values, long[] cumulativeWeights) {
+
+        public static final Quantiles EMPTY = new Quantiles(0, Double.NaN, Double.NaN, new double[0], new long[0]);
+
+        /**
+         * The smallest retained value whose cumulative weight reaches {@code rank * count}; NaN when empty.
+         */
+        public double quantile(double rank) {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            if (rank <= 0.0) {
+                return min;
+            }
+            if (rank >= 1.0) {
+                return max;
+            }
+            long total = cumulativeWeights[cumulativeWeights.length - 1];
+            long target = (long) Math.ceil(rank * total);
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return values[index >= 0 ? index : -index - 1];
+        }
+    }
+
+    public KllSketch(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY + " but was " + k);
+        }
+        this.k = k;
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        append(0, value);
+        count++;
+        min = Double.isNaN(min) ? value : Math.min(min, value);
+        max = Double.isNaN(max) ? value : Math.max(max, value);
+        compress();
+    }
+
+    /**
+     * Adds everything {@code other} has seen to this sketch; {@code other} is left unchanged.
+     */
+    public void merge(KllSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int level = 0; level < other.levels.length; level++) {
+            while (levels.length <= level) {
+                addLevel();
+            }
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        count += other.count;
+        min = Double.isNaN(min) ? other.min : Math.min(min, other.min);
+        max = Double.isNaN(max) ? other.max : Math.max(max, other.max);
+        compress();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Number of values held, which is what the sketch's memory is proportional to.
+     */
+    public int retainedItems() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    public Quantiles quantiles() {
+        if (count == 0) {
+            return Quantiles.EMPTY;
+        }
+        double[] values = new double[0];
+        long[] weights = new long[0];
+        for (int level = 0; level < levels.length; level++) {
+            double[] items = Arrays.copyOf(levels[level], sizes[level]);
+            Arrays.sort(items);
+            double[] mergedValues = new double[values.length + items.length];
+            long[] mergedWeights = new long[mergedValues.length];
+            int i = 0;
+            int j = 0;
+            for (int out = 0; out < mergedValues.length; out++) {
+                if (j == items.length || (i < values.length && values[i] <= items[j])) {
+                    mergedValues[out] = values[i];
+                    mergedWeights[out] = weights[i++];
+                } else {
+                    mergedValues[out] = items[j++];
+                    mergedWeights[out] = 1L << level;
+                }
+            }
+            values = mergedValues;
+            weights = mergedWeights;
+        }
+        for (int i = 1; i < weights.length; i++) {
+            weights[i] += weights[i - 1];
+        }
+        return new Quantiles(count, min, max, values, weights);
+    }
+
+    private int capacity(int level) {
+        int depth = levels.length - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void compress() {
+        for (int level = 0; level < levels.length; level++) {
+            if (sizes[level] < capacity(level)) {
+                continue;
+            }
+            if (level + 1 == levels.length) {
+                addLevel();
+            }
+            double[] items = levels[level];
+            int size = sizes[level];
+            Arrays.sort(items, 0, size);
+            // An odd item out stays behind, so only an even number of items is halved.
+            int compacted = size & ~1;
+            for (int i = ThreadLocalRandom.current().nextInt(2); i < compacted; i += 2) {
+                append(level + 1, items[i]);
+            }
+            if (compacted < size) {
+                items[0] = items[size - 1];
+            }
+            sizes[level] = size - compacted;
+            // A level's capacity shrinks as levels are added above it; release what it no longer needs.
+            if (items.length > 2 * capacity(level)) {
+                levels[level] = Arrays.copyOf(items, capacity(level));
+            }
+        }
+    }
+
+    private void append(int level, double value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levels.length + 1);
+        levels[levels.length - 1] = new double[MIN_CAPACITY];
+        sizes = Arrays.copyOf(sizes, sizes.length + 1);
+    }
+}
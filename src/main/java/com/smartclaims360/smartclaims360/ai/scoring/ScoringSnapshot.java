@@ -0,0 +1,185 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Scoring aggregates and claim columns as of {@code highWaterMark}: every claim committed before that instant is
+ * included. Stored as a big-endian binary file ending in a CRC32 of everything before it:
+ * <pre>
+ * int magic, int version
+ * long high-water mark epoch second (UTC), int nano
+ * long count, double mean, double sum of squared deviations
+ * int types,  then per type:  int length, UTF-8 bytes, long count
+ * int type codes, then per code from 1:  int length, UTF-8 bytes
+ * int names,  then per name:  int length, UTF-8 bytes
+ * int rows,   then each column in turn: long id high[rows], long id low[rows], long amount cents[rows],
+ *             byte type code[rows], int name id[rows], long created-at millis[rows]
+ * int crc32
+ * </pre>
+ * Deleted rows are left out. The claimant index is rebuilt from the id and name columns on restore.
+ */
+record ScoringSnapshot(LocalDateTime highWaterMark, StatisticsSnapshot statistics, ClaimColumns.View columns) {
+
+    private static final int MAGIC = 0x53435353;
+    private static final int VERSION = 2;
+
+    void write(Path file) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream raw = Files.newOutputStream(temp)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(raw, crc), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(highWaterMark.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(highWaterMark.getNano());
+            out.writeLong(statistics.getCount());
+            out.writeDouble(statistics.getMean());
+            out.writeDouble(statistics.getSumOfSquaredDeviations());
+
+            out.writeInt(statistics.getTypeCounts().size());
+            for (Map.Entry<String, Long> type : statistics.getTypeCounts().entrySet()) {
+                writeString(out, type.getKey());
+                out.writeLong(type.getValue());
+            }
+
+            out.writeInt(columns.typeCount());
+            for (int code = 1; code < columns.typeCount(); code++) {
+                writeString(out, columns.types()[code]);
+            }
+            out.writeInt(columns.nameCount());
+            for (int id = 0; id < columns.nameCount(); id++) {
+                writeString(out, columns.names()[id]);
+            }
+
+            int size = columns.size();
+            out.writeInt(columns.liveCount());
+            for (long[] column : new long[][] {columns.idHigh(), columns.idLow(), columns.amountCents()}) {
+                for (int row = 0; row < size; row++) {
+                    if (!columns.isDeleted(row)) {
+                        out.writeLong(column[row]);
+                    }
+                }
+            }
+            for (int row = 0; row < size; row++) {
+                if (!columns.isDeleted(row)) {
+                    out.writeByte(columns.typeCodes()[row]);
+                }
+            }
+            for (int row = 0; row < size; row++) {
+                if (!columns.isDeleted(row)) {
+                    out.writeInt(columns.nameIds()[row]);
+                }
+            }
+            for (int row = 0; row < size; row++) {
+                if (!columns.isDeleted(row)) {
+                    out.writeLong(columns.createdAtMillis()[row]);
+                }
+            }
+            out.flush();
+            new DataOutputStream(raw).writeInt((int) crc.getValue());
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the file read-only and decodes it. Empty when the file is missing, truncated, corrupt or of
+     * another format version, in which case the caller rebuilds from the database.
+     */
+    static Optional<ScoringSnapshot> read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 8 || size > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - 4));
+            if ((int) crc.getValue() != buffer.getInt((int) size - 4)) {
+                return Optional.empty();
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Optional.empty();
+            }
+
+            LocalDateTime highWaterMark = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            long count = buffer.getLong();
+            double mean = buffer.getDouble();
+            double m2 = buffer.getDouble();
+
+            int types = buffer.getInt();
+            Map<String, Long> typeCounts = new HashMap<>(types * 2);
+            for (int i = 0; i < types; i++) {
+                typeCounts.put(readString(buffer), buffer.getLong());
+            }
+
+            int typeCount = buffer.getInt();
+            String[] typeNames = new String[Math.max(1, typeCount)];
+            typeNames[ClaimColumns.OTHER_TYPE] = ClaimColumns.OTHER_TYPE_NAME;
+            for (int code = 1; code < typeCount; code++) {
+                typeNames[code] = readString(buffer);
+            }
+            int nameCount = buffer.getInt();
+            String[] names = new String[nameCount];
+            for (int id = 0; id < nameCount; id++) {
+                names[id] = readString(buffer);
+            }
+
+            int rows = buffer.getInt();
+            long[] idHigh = readLongs(buffer, rows);
+            long[] idLow = readLongs(buffer, rows);
+            long[] amountCents = readLongs(buffer, rows);
+            byte[] typeCodes = new byte[rows];
+            buffer.get(typeCodes);
+            int[] nameIds = new int[rows];
+            buffer.asIntBuffer().get(nameIds);
+            buffer.position(buffer.position() + rows * Integer.BYTES);
+            long[] createdAtMillis = readLongs(buffer, rows);
+
+            ClaimColumns.View columns = new ClaimColumns.View(rows, idHigh, idLow, amountCents, typeCodes, nameIds,
+                    createdAtMillis, new long[(rows + 63) >>> 6], typeNames, typeCount, names, nameCount);
+            return Optional.of(new ScoringSnapshot(highWaterMark,
+                    new StatisticsSnapshot(count, mean, m2, Map.copyOf(typeCounts)), columns));
+        }
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int count) {
+        long[] values = new long[count];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
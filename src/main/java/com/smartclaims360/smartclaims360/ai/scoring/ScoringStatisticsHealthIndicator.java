@@ -0,0 +1,32 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Part of the readiness group: the node is not ready to score claims until its statistics are loaded.
+ */
+@Component
+public class ScoringStatisticsHealthIndicator implements HealthIndicator {
+
+    @Autowired
+    private ClaimStatisticsLoader claimStatisticsLoader;
+
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Override
+    public Health health() {
+        if (!claimStatisticsLoader.isLoaded()) {
+            return Health.outOfService().build();
+        }
+        return Health.up()
+                .withDetail("loadedFrom", claimStatisticsLoader.getLoadedFrom())
+                .withDetail("replayedClaims", claimStatisticsLoader.getReplayed())
+                .withDetail("loadTimeMs", claimStatisticsLoader.getLoadTime().toMillis())
+                .withDetail("claims", claimStatistics.snapshot().getCount())
+                .build();
+    }
+}
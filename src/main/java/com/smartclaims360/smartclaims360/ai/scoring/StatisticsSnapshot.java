@@ -0,0 +1,42 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+import java.util.Map;
+
+@Value
+@AllArgsConstructor
+public class StatisticsSnapshot {
+
+    public static final StatisticsSnapshot EMPTY = new StatisticsSnapshot(0, 0.0, 0.0, Map.of());
+
+    long count;
+    double mean;
+    double sumOfSquaredDeviations;
+    Map<String, Long> typeCounts;
+
+    /**
+     * Amount quantiles per claim type, only filled in for percentile scoring. They always cover all stored claims,
+     * also when the other fields describe a window.
+     */
+    @With
+    Map<String, KllSketch.Quantiles> amountQuantiles;
+
+    public StatisticsSnapshot(long count, double mean, double sumOfSquaredDeviations, Map<String, Long> typeCounts) {
+        this(count, mean, sumOfSquaredDeviations, typeCounts, Map.of());
+    }
+
+    public double getVariance() {
+        return count == 0 ? 0.0 : Math.max(0.0, sumOfSquaredDeviations / count);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public long getTypeCount(String claimType) {
+        return typeCounts.getOrDefault(claimType, 0L);
+    }
+}
@@ -0,0 +1,218 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Amount moments and per-type counts over the claims created in the last {@code ai.scoring.window}, kept in a ring
+ * of one-hour buckets by {@code createdAt}. Each bucket holds a count, the running mean and sum of squared deviations
+ * of its amounts (Welford) and the count per type. A bucket is reset when its slot is next used for a later hour, so
+ * expiry costs nothing per claim, and a query merges the buckets still inside the window with Chan's parallel
+ * formula. The merged snapshot is cached until the next write or the next hour, so scoring reads it without locking.
+ * <p>
+ * A zero window disables this and scoring uses {@link ClaimStatistics} over all history. Claims created after the
+ * current hour (clock skew) count towards the current hour. Writers are serialized.
+ */
+@Component
+public class WindowedClaimStatistics {
+
+    private static final long MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+    private static final long EMPTY_SLOT = Long.MIN_VALUE;
+
+    @Value("${ai.scoring.window:0s}")
+    private Duration window;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    private int bucketCount;
+    private long[] hours;
+    private long[] counts;
+    private double[] means;
+    private double[] m2s;
+    private List<Map<String, Long>> typeCounts;
+
+    private volatile Published published;
+
+    private record Published(long hour, StatisticsSnapshot snapshot) {
+    }
+
+    @PostConstruct
+    void init() {
+        bucketCount = (int) Math.min(Integer.MAX_VALUE, (window.toMillis() + MILLIS_PER_HOUR - 1) / MILLIS_PER_HOUR);
+        hours = new long[bucketCount];
+        counts = new long[bucketCount];
+        means = new double[bucketCount];
+        m2s = new double[bucketCount];
+        typeCounts = new ArrayList<>(bucketCount);
+        for (int slot = 0; slot < bucketCount; slot++) {
+            typeCounts.add(new HashMap<>());
+        }
+        clear();
+    }
+
+    public boolean isEnabled() {
+        return bucketCount > 0;
+    }
+
+    public Duration getWindow() {
+        return Duration.ofHours(bucketCount);
+    }
+
+    /**
+     * The current hour while the window is enabled, and 0 otherwise. It advances as buckets expire, which changes
+     * the statistics without any write.
+     */
+    public long getEpoch() {
+        return isEnabled() ? currentHour() : 0;
+    }
+
+    public synchronized void record(BigDecimal amount, String claimType, LocalDateTime createdAt) {
+        if (!isEnabled() || amount == null || claimType == null || createdAt == null) {
+            return;
+        }
+        add(hourOf(createdAt), ClaimColumns.toCents(amount), claimType, 1, currentHour());
+    }
+
+    public synchronized void remove(BigDecimal amount, String claimType, LocalDateTime createdAt) {
+        if (!isEnabled() || amount == null || claimType == null || createdAt == null) {
+            return;
+        }
+        long now = currentHour();
+        long hour = Math.min(hourOf(createdAt), now);
+        int slot = slot(hour);
+        // The claim was never counted, or its bucket has already expired.
+        if (hours[slot] != hour || counts[slot] == 0) {
+            return;
+        }
+        add(hour, ClaimColumns.toCents(amount), claimType, -1, now);
+    }
+
+    /**
+     * Rebuilds from the live rows of the columns created inside the window.
+     */
+    public synchronized void rebuild(ClaimColumns.View columns) {
+        if (!isEnabled()) {
+            return;
+        }
+        clear();
+        long now = currentHour();
+        long[] amountCents = columns.amountCents();
+        long[] createdAtMillis = columns.createdAtMillis();
+        for (int row = 0; row < columns.size(); row++) {
+            if (columns.isDeleted(row) || createdAtMillis[row] == ClaimColumns.NO_TIMESTAMP) {
+                continue;
+            }
+            add(Math.floorDiv(createdAtMillis[row], MILLIS_PER_HOUR), amountCents[row], columns.type(row), 1, now);
+        }
+    }
+
+    /**
+     * Statistics over the buckets inside the window as of the current hour. Costs one pass over the buckets after a
+     * write or when the hour changes, and nothing otherwise.
+     */
+    public StatisticsSnapshot snapshot() {
+        if (!isEnabled()) {
+            return StatisticsSnapshot.EMPTY;
+        }
+        long now = currentHour();
+        Published current = published;
+        if (current != null && current.hour() == now) {
+            return current.snapshot();
+        }
+        synchronized (this) {
+            StatisticsSnapshot merged = merge(now);
+            published = new Published(now, merged);
+            return merged;
+        }
+    }
+
+    private void add(long hour, long cents, String claimType, int sign, long now) {
+        if (hour <= now - bucketCount) {
+            return;
+        }
+        hour = Math.min(hour, now);
+        int slot = slot(hour);
+        if (hours[slot] != hour) {
+            hours[slot] = hour;
+            resetMoments(slot);
+            typeCounts.get(slot).clear();
+        }
+        double x = cents / 100.0;
+        if (sign > 0) {
+            counts[slot]++;
+            double delta = x - means[slot];
+            means[slot] += delta / counts[slot];
+            m2s[slot] += delta * (x - means[slot]);
+        } else if (counts[slot] == 1) {
+            resetMoments(slot);
+        } else {
+            double previousMean = means[slot];
+            counts[slot]--;
+            means[slot] = (previousMean * (counts[slot] + 1) - x) / counts[slot];
+            m2s[slot] = Math.max(0.0, m2s[slot] - (x - previousMean) * (x - means[slot]));
+        }
+        typeCounts.get(slot).merge(claimType, (long) sign, (a, b) -> a + b == 0 ? null : a + b);
+        published = null;
+    }
+
+    private StatisticsSnapshot merge(long now) {
+        long count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        Map<String, Long> types = new HashMap<>();
+        for (int slot = 0; slot < bucketCount; slot++) {
+            if (hours[slot] > now - bucketCount && hours[slot] <= now && counts[slot] > 0) {
+                long n = counts[slot];
+                long total = count + n;
+                double delta = means[slot] - mean;
+                mean += delta * n / total;
+                m2 += m2s[slot] + delta * delta * ((double) count * n / total);
+                count = total;
+                typeCounts.get(slot).forEach((type, c) -> types.merge(type, c, Long::sum));
+            }
+        }
+        if (count == 0) {
+            return StatisticsSnapshot.EMPTY;
+        }
+        return new StatisticsSnapshot(count, mean, Math.max(0.0, m2), Map.copyOf(types));
+    }
+
+    private void resetMoments(int slot) {
+        counts[slot] = 0;
+        means[slot] = 0.0;
+        m2s[slot] = 0.0;
+    }
+
+    private void clear() {
+        Arrays.fill(hours, EMPTY_SLOT);
+        Arrays.fill(counts, 0);
+        Arrays.fill(means, 0.0);
+        Arrays.fill(m2s, 0.0);
+        typeCounts.forEach(Map::clear);
+        published = null;
+    }
+
+    private int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) bucketCount);
+    }
+
+    private long currentHour() {
+        return hourOf(LocalDateTime.now(clock));
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toInstant(ZoneOffset.UTC).toEpochMilli(), MILLIS_PER_HOUR);
+    }
+}
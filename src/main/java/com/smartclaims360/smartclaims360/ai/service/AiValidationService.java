@@ -2,15 +2,20 @@ package com.smartclaims360.smartclaims360.ai.service;
 
 import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
 import com.smartclaims360.smartclaims360.ai.provider.LlmValidationProvider;
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleEngine;
 import com.smartclaims360.smartclaims360.entity.Claim;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class AiValidationService {
@@ -18,39 +23,60 @@ public class AiValidationService {
     @Autowired
     private LlmValidationProvider llmValidationProvider;
 
+    @Autowired
+    private ExecutorService assessmentExecutor;
+
+    @Autowired
+    private ValidationRuleEngine validationRuleEngine;
+
     @Value("${ai.validation.enabled:true}")
     private boolean validationEnabled;
 
-    private static final List<String> VALID_CLAIM_TYPES = Arrays.asList("AUTO", "HEALTH", "PROPERTY", "LIFE");
+    @Value("${ai.llm.timeout:2s}")
+    private Duration llmTimeout;
 
     public ValidationResponse validateClaim(Claim claim) {
         if (!validationEnabled) {
             return new ValidationResponse(true, new ArrayList<>(), new ArrayList<>());
         }
 
-        List<String> reasons = new ArrayList<>();
-        boolean isValid = true;
-
-        if (claim.getClaimantName() == null || claim.getClaimantName().trim().isEmpty()) {
-            reasons.add("Claimant name cannot be blank");
-            isValid = false;
+        CompletableFuture<List<String>> llmHintsFuture = null;
+        if (llmValidationProvider.isEnabled()) {
+            llmHintsFuture = llmValidationProvider.getValidationHintsAsync(claim, assessmentExecutor);
         }
 
-        if (claim.getClaimAmount() == null || claim.getClaimAmount().compareTo(BigDecimal.ZERO) <= 0) {
-            reasons.add("Claim amount must be greater than 0");
-            isValid = false;
+        List<String> reasons = validationRuleEngine.getValidationRules().evaluate(claim);
+        boolean isValid = reasons.isEmpty();
+
+        if (llmHintsFuture == null) {
+            return new ValidationResponse(isValid, reasons, new ArrayList<>());
         }
 
-        if (claim.getClaimType() == null || !VALID_CLAIM_TYPES.contains(claim.getClaimType().toUpperCase())) {
-            reasons.add("Claim type must be one of: AUTO, HEALTH, PROPERTY, LIFE");
-            isValid = false;
+        try {
+            List<String> llmHints = llmHintsFuture.get(llmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return new ValidationResponse(isValid, reasons, llmHints);
+        } catch (TimeoutException e) {
+            llmHintsFuture.cancel(true);
+            return new ValidationResponse(isValid, reasons, new ArrayList<>(), true);
+        } catch (InterruptedException e) {
+            llmHintsFuture.cancel(true);
+            Thread.currentThread().interrupt();
+            return new ValidationResponse(isValid, reasons, new ArrayList<>(), true);
+        } catch (ExecutionException e) {
+            // Hints are advisory; a failing provider must not fail validation.
+            return new ValidationResponse(isValid, reasons, new ArrayList<>());
         }
+    }
 
-        List<String> llmHints = new ArrayList<>();
-        if (llmValidationProvider.isEnabled()) {
-            llmHints = llmValidationProvider.getValidationHints(claim);
+    /**
+     * The rules-engine verdict alone, without asking the LLM provider for hints.
+     */
+    public ValidationResponse validateWithoutHints(Claim claim) {
+        if (!validationEnabled) {
+            return new ValidationResponse(true, new ArrayList<>(), new ArrayList<>());
         }
 
-        return new ValidationResponse(isValid, reasons, llmHints);
+        List<String> reasons = validationRuleEngine.getValidationRules().evaluate(claim);
+        return new ValidationResponse(reasons.isEmpty(), reasons, new ArrayList<>());
     }
 }
@@ -0,0 +1,40 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Component
+public class AssessmentStalenessPolicy {
+
+    @Value("${ai.assessment.version:1}")
+    private int assessmentVersion;
+
+    @Value("${ai.assessment.max-age:24h}")
+    private Duration maxAge;
+
+    public int getAssessmentVersion() {
+        return assessmentVersion;
+    }
+
+    /**
+     * A claim is stale until it has been assessed under the current version within {@code ai.assessment.max-age}.
+     * An invalid verdict does not need a score, since it routes to MANUAL_REVIEW regardless.
+     */
+    public boolean isStale(Claim claim) {
+        if (claim.getAssessedAt() == null) {
+            return true;
+        }
+        if (claim.getFraudScore() == null && !"INVALID".equals(claim.getValidationStatus())) {
+            return true;
+        }
+        if (!Objects.equals(claim.getAssessmentVersion(), assessmentVersion)) {
+            return true;
+        }
+        return claim.getAssessedAt().plus(maxAge).isBefore(LocalDateTime.now());
+    }
+}
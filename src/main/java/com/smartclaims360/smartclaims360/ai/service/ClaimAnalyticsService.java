@@ -0,0 +1,108 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAmountPercentiles;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimStats;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimTypeAmountPercentiles;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimTypeStats;
+import com.smartclaims360.smartclaims360.ai.scoring.AmountSketches;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimColumns;
+import com.smartclaims360.smartclaims360.ai.scoring.KllSketch;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Aggregates over {@link ClaimColumns}: a single pass over the amount, type and creation-time columns, accumulating
+ * into arrays indexed by type code, so no claim objects are created however many claims match. Amount percentiles
+ * come from {@link AmountSketches} instead and cost nothing per claim.
+ */
+@Service
+public class ClaimAnalyticsService {
+
+    @Autowired
+    private ClaimColumns claimColumns;
+
+    @Autowired
+    private AmountSketches amountSketches;
+
+    public ClaimStats summarize(LocalDateTime createdFrom, LocalDateTime createdTo) {
+        ClaimColumns.View columns = claimColumns.view();
+        long from = createdFrom == null ? Long.MIN_VALUE : createdFrom.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long to = createdTo == null ? Long.MAX_VALUE : createdTo.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        int codes = ClaimColumns.MAX_TYPES + 1;
+        long[] counts = new long[codes];
+        long[] sums = new long[codes];
+        long[] mins = new long[codes];
+        long[] maxs = new long[codes];
+        Arrays.fill(mins, Long.MAX_VALUE);
+        Arrays.fill(maxs, Long.MIN_VALUE);
+
+        long[] amountCents = columns.amountCents();
+        byte[] typeCodes = columns.typeCodes();
+        long[] createdAtMillis = columns.createdAtMillis();
+        for (int row = 0; row < columns.size(); row++) {
+            long createdAt = createdAtMillis[row];
+            if (createdAt < from || createdAt > to || columns.isDeleted(row)) {
+                continue;
+            }
+            int code = typeCodes[row] & 0xFF;
+            long cents = amountCents[row];
+            counts[code]++;
+            sums[code] += cents;
+            mins[code] = Math.min(mins[code], cents);
+            maxs[code] = Math.max(maxs[code], cents);
+        }
+
+        long count = 0;
+        long total = 0;
+        List<ClaimTypeStats> types = new ArrayList<>();
+        for (int code = 0; code < columns.typeCount(); code++) {
+            if (counts[code] == 0) {
+                continue;
+            }
+            count += counts[code];
+            total += sums[code];
+            types.add(new ClaimTypeStats(columns.types()[code], counts[code], cents(sums[code]),
+                    average(sums[code], counts[code]), cents(mins[code]), cents(maxs[code])));
+        }
+        types.sort(Comparator.comparingLong(ClaimTypeStats::getCount).reversed()
+                .thenComparing(ClaimTypeStats::getClaimType));
+        return new ClaimStats(count, cents(total), average(total, count), types);
+    }
+
+    public ClaimAmountPercentiles amountPercentiles() {
+        List<ClaimTypeAmountPercentiles> types = new ArrayList<>();
+        amountSketches.quantilesByType().forEach((claimType, quantiles) -> types.add(new ClaimTypeAmountPercentiles(
+                claimType, quantiles.count(), amount(quantiles, 0.5), amount(quantiles, 0.9), amount(quantiles, 0.99))));
+        KllSketch.Quantiles overall = amountSketches.overallQuantiles();
+        return new ClaimAmountPercentiles(overall.count(), amount(overall, 0.5), amount(overall, 0.9),
+                amount(overall, 0.99), types);
+    }
+
+    private static BigDecimal amount(KllSketch.Quantiles quantiles, double rank) {
+        if (quantiles.count() == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(quantiles.quantile(rank)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal cents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static BigDecimal average(long sumCents, long count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(sumCents).divide(BigDecimal.valueOf(count * 100), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,176 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessmentResponse;
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.dto.RoutingSuggestion;
+import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleEngine;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.WindowedClaimStatistics;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs validation (with LLM hints) and fraud scoring once per claim and request, and owns the
+ * assessment materialized on {@link Claim}. Write paths call {@link #refresh(Claim)}; read paths
+ * answer from the stored validation status, fraud score, risk level and suggested queue, and only
+ * reassess when the staleness policy says so. Reassessment runs validation and scoring concurrently
+ * through {@link ClaimEvaluator}.
+ */
+@Service
+public class ClaimAssessmentService {
+
+    @Autowired
+    private AiValidationService aiValidationService;
+
+    @Autowired
+    private FraudScoringService fraudScoringService;
+
+    @Autowired
+    private ClaimEvaluator claimEvaluator;
+
+    @Autowired
+    private RoutingService routingService;
+
+    @Autowired
+    private SummarizationService summarizationService;
+
+    @Autowired
+    private AssessmentStalenessPolicy stalenessPolicy;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Autowired
+    private WindowedClaimStatistics windowedClaimStatistics;
+
+    @Autowired
+    private ValidationRuleEngine validationRuleEngine;
+
+    public ClaimAssessment assess(Claim claim) {
+        if (stalenessPolicy.isStale(claim)) {
+            ClaimAssessment assessment = claimEvaluator.evaluate(claim);
+            materialize(claim, assessment);
+            return assessment;
+        }
+
+        return storedAssessment(claim);
+    }
+
+    /**
+     * Reassesses the claim and stores the result. A claim without an id is only assessed; its caller saves it.
+     */
+    public Claim refresh(Claim claim) {
+        return materialize(claim, claimEvaluator.evaluate(claim));
+    }
+
+    /**
+     * Assesses a new, unsaved claim without calling the LLM provider: the rules-engine verdict, a score against the
+     * current statistics and the routing queue. Hints are never stored, so this materializes the same assessment a
+     * full evaluation would. Used where claims are ingested in bulk.
+     */
+    public Claim assessWithoutHints(Claim claim) {
+        ClaimAssessment assessment = new ClaimAssessment(
+                aiValidationService.validateWithoutHints(claim), fraudScoringService.evaluateClaim(claim));
+        return materialize(claim, assessment);
+    }
+
+    public RoutingSuggestion route(Claim claim) {
+        if (!stalenessPolicy.isStale(claim)) {
+            RoutingSuggestion suggestion = routingService.suggest(claim, storedAssessment(claim));
+            if (claim.getSuggestedQueue() != null) {
+                suggestion.setQueue(claim.getSuggestedQueue());
+            }
+            return suggestion;
+        }
+
+        // An invalid claim is routed to MANUAL_REVIEW whatever its score, so concurrent scoring is cancelled
+        // and the score is read from the running statistics instead, which lets the verdict be stored.
+        ClaimAssessment assessment = claimEvaluator.evaluate(claim, true);
+        if (assessment.getFraudScore() == null) {
+            assessment = new ClaimAssessment(assessment.getValidation(), fraudScoringService.evaluateClaim(claim));
+        }
+        materialize(claim, assessment);
+        return routingService.suggest(claim, assessment);
+    }
+
+    /**
+     * Strong entity tag for the summary and route of a claim, built from the claim version, the statistics epoch, the
+     * validation rules generation and the scoring window's epoch (its current hour, since buckets expire without a
+     * write). Empty while the stored assessment is stale, since the next read rescores it.
+     */
+    public Optional<String> etag(Claim claim) {
+        if (claim.getVersion() == null || stalenessPolicy.isStale(claim)) {
+            return Optional.empty();
+        }
+        return Optional.of("\"" + claim.getVersion() + "-" + claimStatistics.getEpoch() + "-"
+                + validationRuleEngine.getGeneration() + "-" + windowedClaimStatistics.getEpoch() + "\"");
+    }
+
+    public String summarize(Claim claim) {
+        return summarizationService.summarize(claim, assess(claim));
+    }
+
+    public ClaimAssessmentResponse report(Claim claim) {
+        ClaimAssessment assessment = assess(claim);
+        return new ClaimAssessmentResponse(
+                summarizationService.summarize(claim, assessment),
+                routingService.suggest(claim, assessment),
+                assessment.getFraudScore(),
+                assessment.getValidation());
+    }
+
+    /**
+     * The materialized assessment, without calling the validator or the scorer. LLM hints are not stored, and the
+     * reasons of an invalid claim are re-derived from the local rules engine. An invalid verdict stored without a
+     * score is scored against the current statistics.
+     */
+    private ClaimAssessment storedAssessment(Claim claim) {
+        boolean valid = !"INVALID".equals(claim.getValidationStatus());
+        List<String> reasons = valid ? new ArrayList<>() : validationRuleEngine.getValidationRules().evaluate(claim);
+        if (claim.getFraudScore() == null) {
+            return new ClaimAssessment(new ValidationResponse(valid, reasons, new ArrayList<>()),
+                    fraudScoringService.evaluateClaim(claim));
+        }
+        FraudScoreResponse fraudScore = fraudScoringService.describe(claim.getFraudScore());
+        if (claim.getRiskLevel() != null) {
+            fraudScore.setRiskLevel(claim.getRiskLevel());
+        }
+        return new ClaimAssessment(new ValidationResponse(valid, reasons, new ArrayList<>()), fraudScore);
+    }
+
+    private Claim materialize(Claim claim, ClaimAssessment assessment) {
+        RoutingSuggestion routing = routingService.suggest(claim, assessment);
+
+        claim.setValidationStatus(assessment.getValidation().isValid() ? "VALID" : "INVALID");
+        claim.setFraudScore(assessment.getFraudScore().getFraudScore());
+        claim.setRiskLevel(assessment.getFraudScore().getRiskLevel());
+        claim.setSuggestedQueue(routing.getQueue());
+        claim.setAssessmentVersion(stalenessPolicy.getAssessmentVersion());
+        claim.setAssessedAt(LocalDateTime.now());
+
+        if (claim.getId() == null) {
+            return claim;
+        }
+        try {
+            Claim saved = claimRepository.save(claim);
+            claim.setVersion(saved.getVersion());
+            return saved;
+        } catch (OptimisticLockingFailureException e) {
+            // Another request stored a newer score first; keep it and serve this assessment without storing it.
+            return claim;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs validation and fraud scoring for a claim concurrently on the assessment executor,
+ * bounded by a single per-request deadline.
+ */
+@Component
+public class ClaimEvaluator {
+
+    @Autowired
+    private AiValidationService aiValidationService;
+
+    @Autowired
+    private FraudScoringService fraudScoringService;
+
+    @Autowired
+    private ExecutorService assessmentExecutor;
+
+    @Value("${ai.assessment.deadline:5s}")
+    private Duration deadline;
+
+    public ClaimAssessment evaluate(Claim claim) {
+        return evaluate(claim, false);
+    }
+
+    /**
+     * With {@code stopOnInvalid}, a failed validation cancels the scoring branch and the returned
+     * assessment carries no fraud score, since routing sends the claim to MANUAL_REVIEW anyway.
+     */
+    public ClaimAssessment evaluate(Claim claim, boolean stopOnInvalid) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        Future<FraudScoreResponse> fraudScore = assessmentExecutor.submit(() -> fraudScoringService.evaluateClaim(claim));
+        Future<ValidationResponse> validation = assessmentExecutor.submit(() -> aiValidationService.validateClaim(claim));
+
+        try {
+            ValidationResponse validationResponse = await(validation, deadlineNanos, claim);
+            if (stopOnInvalid && !validationResponse.isValid()) {
+                fraudScore.cancel(true);
+                return new ClaimAssessment(validationResponse, null);
+            }
+            return new ClaimAssessment(validationResponse, await(fraudScore, deadlineNanos, claim));
+        } finally {
+            validation.cancel(true);
+            fraudScore.cancel(true);
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadlineNanos, Claim claim) {
+        try {
+            return future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new AssessmentTimeoutException(claim.getId(), deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssessmentTimeoutException(claim.getId(), deadline);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.smartclaims360.smartclaims360.ai.service;
 
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.scoring.AmountSketches;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import com.smartclaims360.smartclaims360.ai.scoring.KllSketch;
+import com.smartclaims360.smartclaims360.ai.scoring.StatisticsSnapshot;
+import com.smartclaims360.smartclaims360.ai.scoring.WindowedClaimStatistics;
 import com.smartclaims360.smartclaims360.entity.Claim;
 import com.smartclaims360.smartclaims360.repository.ClaimRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,9 +15,8 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class FraudScoringService {
@@ -19,58 +24,137 @@ public class FraudScoringService {
     @Autowired
     private ClaimRepository claimRepository;
 
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Autowired
+    private WindowedClaimStatistics windowedClaimStatistics;
+
+    @Autowired
+    private AmountSketches amountSketches;
+
+    @Autowired
+    private ClaimantIndex claimantIndex;
+
     @Value("${ai.scoring.enabled:true}")
     private boolean scoringEnabled;
 
+    @Value("${ai.scoring.amount-mode:z-score}")
+    private String amountMode;
+
     public FraudScoreResponse scoreClaim(Claim claim) {
+        FraudScoreResponse response = evaluateClaim(claim);
+
+        if (scoringEnabled && claim.getId() != null) {
+            claim.setFraudScore(response.getFraudScore());
+            claim.setRiskLevel(response.getRiskLevel());
+            claimRepository.updateFraudScores(List.of(claim));
+        }
+
+        return response;
+    }
+
+    public FraudScoreResponse evaluateClaim(Claim claim) {
+        if (!scoringEnabled) {
+            return new FraudScoreResponse(BigDecimal.ZERO, "LOW", "Fraud scoring is disabled");
+        }
+
+        return score(claim, currentStatistics());
+    }
+
+    /**
+     * The statistics claims are scored against: those of the last {@code ai.scoring.window} when it is set,
+     * otherwise those of all stored claims. In percentile mode the snapshot also carries the per-type amount
+     * quantiles, which cover all stored claims regardless of the window.
+     */
+    public StatisticsSnapshot currentStatistics() {
+        StatisticsSnapshot statistics = windowedClaimStatistics.isEnabled()
+                ? windowedClaimStatistics.snapshot() : claimStatistics.snapshot();
+        return isPercentileMode() ? statistics.withAmountQuantiles(amountSketches.quantilesByType()) : statistics;
+    }
+
+    /**
+     * Scores against the given statistics instead of the current ones, so a batch can be scored consistently.
+     * Nothing is stored and the enabled flag is not consulted.
+     */
+    public FraudScoreResponse evaluateClaim(Claim claim, StatisticsSnapshot statistics) {
+        return score(claim, statistics);
+    }
+
+    public boolean isEnabled() {
+        return scoringEnabled;
+    }
+
+    public FraudScoreResponse describe(BigDecimal fraudScore) {
         if (!scoringEnabled) {
             return new FraudScoreResponse(BigDecimal.ZERO, "LOW", "Fraud scoring is disabled");
         }
 
-        double score = calculateFraudScore(claim);
+        return new FraudScoreResponse(fraudScore, getRiskLevel(fraudScore), generateExplanation(fraudScore));
+    }
+
+    public List<FraudScoreResponse> scoreClaims(List<Claim> claims) {
+        if (!scoringEnabled) {
+            return claims.stream()
+                    .map(claim -> new FraudScoreResponse(BigDecimal.ZERO, "LOW", "Fraud scoring is disabled"))
+                    .toList();
+        }
+
+        StatisticsSnapshot statistics = currentStatistics();
+        List<FraudScoreResponse> responses = claims.parallelStream()
+                .map(claim -> score(claim, statistics))
+                .toList();
+
+        List<Claim> storedClaims = new ArrayList<>();
+        for (int i = 0; i < claims.size(); i++) {
+            Claim claim = claims.get(i);
+            if (claim.getId() != null) {
+                claim.setFraudScore(responses.get(i).getFraudScore());
+                claim.setRiskLevel(responses.get(i).getRiskLevel());
+                storedClaims.add(claim);
+            }
+        }
+        claimRepository.updateFraudScores(storedClaims);
+
+        return responses;
+    }
+
+    private FraudScoreResponse score(Claim claim, StatisticsSnapshot statistics) {
+        double score = calculateFraudScore(claim, statistics);
         BigDecimal fraudScore = BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
         
         String riskLevel = getRiskLevel(fraudScore);
-        String explanation = generateExplanation(claim, fraudScore);
-
-        if (claim.getId() != null) {
-            claim.setFraudScore(fraudScore);
-            claimRepository.save(claim);
-        }
+        String explanation = generateExplanation(fraudScore);
 
         return new FraudScoreResponse(fraudScore, riskLevel, explanation);
     }
 
-    private double calculateFraudScore(Claim claim) {
+    private double calculateFraudScore(Claim claim, StatisticsSnapshot statistics) {
         double score = 0.0;
-        List<Claim> historicalClaims = claimRepository.findAll();
 
-        if (historicalClaims.isEmpty()) {
+        if (statistics.getCount() == 0) {
             return 0.1;
         }
 
-        double amountScore = calculateAmountAnomalyScore(claim, historicalClaims);
+        double amountScore = calculateAmountAnomalyScore(claim, statistics);
         score += amountScore * 0.4;
 
-        double typeScore = calculateClaimTypeFrequencyScore(claim, historicalClaims);
+        double typeScore = calculateClaimTypeFrequencyScore(claim, statistics);
         score += typeScore * 0.3;
 
-        double nameScore = calculateRepeatedNameScore(claim, historicalClaims);
+        double nameScore = calculateRepeatedNameScore(claim);
         score += nameScore * 0.3;
 
         return Math.min(1.0, Math.max(0.0, score));
     }
 
-    private double calculateAmountAnomalyScore(Claim claim, List<Claim> historicalClaims) {
-        List<Double> amounts = historicalClaims.stream()
-                .map(c -> c.getClaimAmount().doubleValue())
-                .collect(Collectors.toList());
+    private double calculateAmountAnomalyScore(Claim claim, StatisticsSnapshot statistics) {
+        if (isPercentileMode()) {
+            return calculateAmountPercentileScore(claim, statistics);
+        }
 
-        double mean = amounts.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-        double variance = amounts.stream()
-                .mapToDouble(amount -> Math.pow(amount - mean, 2))
-                .average().orElse(0.0);
-        double stdDev = Math.sqrt(variance);
+        double mean = statistics.getMean();
+        double stdDev = statistics.getStandardDeviation();
 
         if (stdDev == 0) return 0.0;
 
@@ -79,22 +163,39 @@ public class FraudScoringService {
         return Math.min(1.0, zScore / 3.0);
     }
 
-    private double calculateClaimTypeFrequencyScore(Claim claim, List<Claim> historicalClaims) {
-        Map<String, Long> typeFrequency = historicalClaims.stream()
-                .collect(Collectors.groupingBy(Claim::getClaimType, Collectors.counting()));
+    /**
+     * Distance from the median amount of the claim's type, scaled by the distance from the median to p99 (or to p1 for
+     * amounts below it), so p99 scores as a z-score of 3 does. Unlike the standard deviation, these percentiles
+     * barely move when a few huge claims arrive.
+     */
+    private double calculateAmountPercentileScore(Claim claim, StatisticsSnapshot statistics) {
+        KllSketch.Quantiles quantiles = statistics.getAmountQuantiles().get(claim.getClaimType());
+        if (quantiles == null || quantiles.count() < 2) return 0.0;
+
+        double amount = claim.getClaimAmount().doubleValue();
+        double median = quantiles.quantile(0.5);
+        double spread = amount >= median ? quantiles.quantile(0.99) - median : median - quantiles.quantile(0.01);
+
+        if (spread <= 0) return 0.0;
+
+        return Math.min(1.0, Math.abs(amount - median) / spread);
+    }
+
+    private boolean isPercentileMode() {
+        return "percentile".equals(amountMode);
+    }
 
-        long totalClaims = historicalClaims.size();
-        long typeCount = typeFrequency.getOrDefault(claim.getClaimType(), 0L);
+    private double calculateClaimTypeFrequencyScore(Claim claim, StatisticsSnapshot statistics) {
+        long totalClaims = statistics.getCount();
+        long typeCount = statistics.getTypeCount(claim.getClaimType());
         
         double frequency = (double) typeCount / totalClaims;
         
         return Math.max(0.0, 1.0 - (frequency * 2.0));
     }
 
-    private double calculateRepeatedNameScore(Claim claim, List<Claim> historicalClaims) {
-        long nameCount = historicalClaims.stream()
-                .filter(c -> c.getClaimantName().equalsIgnoreCase(claim.getClaimantName()))
-                .count();
+    private double calculateRepeatedNameScore(Claim claim) {
+        long nameCount = claimantIndex.count(claim.getClaimantName());
 
         if (nameCount <= 1) return 0.0;
         
@@ -108,7 +209,7 @@ public class FraudScoringService {
         return "LOW";
     }
 
-    private String generateExplanation(Claim claim, BigDecimal fraudScore) {
+    private String generateExplanation(BigDecimal fraudScore) {
         double score = fraudScore.doubleValue();
         
         if (score >= 0.7) {
@@ -0,0 +1,137 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.RescoreJobStatus;
+import com.smartclaims360.smartclaims360.ai.scoring.StatisticsSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live progress of one re-scoring run. Counters are written by the running thread only; the throttle and the
+ * cancel request may be changed by any thread while it runs.
+ */
+public class RescoreJob {
+
+    public enum State {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final UUID id = UUID.randomUUID();
+    private final long totalClaims;
+    private final long statisticsEpoch;
+    private final StatisticsSnapshot statistics;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final CountDownLatch cancelRequest = new CountDownLatch(1);
+
+    private volatile State state = State.RUNNING;
+    private volatile long claimsProcessed;
+    private volatile long claimsUpdated;
+    private volatile long claimsConflicted;
+    private volatile long finishNanos;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    private double maxClaimsPerSecond;
+    private long paceStartNanos = startNanos;
+    private long paceStartClaims;
+
+    RescoreJob(long totalClaims, long statisticsEpoch, StatisticsSnapshot statistics, double maxClaimsPerSecond) {
+        this.totalClaims = totalClaims;
+        this.statisticsEpoch = statisticsEpoch;
+        this.statistics = statistics;
+        this.maxClaimsPerSecond = Math.max(0.0, maxClaimsPerSecond);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequest.getCount() == 0;
+    }
+
+    /**
+     * Asks the job to stop after the chunk it is working on. Claims already written keep their new scores.
+     */
+    public void cancel() {
+        cancelRequest.countDown();
+    }
+
+    /**
+     * Changes the throttle of a running job; zero or less removes it. Pacing restarts from the current count, so
+     * time spent under the old limit is neither owed nor credited.
+     */
+    public synchronized void throttle(double maxClaimsPerSecond) {
+        this.maxClaimsPerSecond = Math.max(0.0, maxClaimsPerSecond);
+        paceStartNanos = System.nanoTime();
+        paceStartClaims = claimsProcessed;
+    }
+
+    /**
+     * The statistics every claim of this run is scored against, frozen when the job was created.
+     */
+    StatisticsSnapshot getStatistics() {
+        return statistics;
+    }
+
+    void processed(int claims, int updated, int conflicted) {
+        claimsProcessed += claims;
+        claimsUpdated += updated;
+        claimsConflicted += conflicted;
+    }
+
+    /**
+     * Waits until the claims processed so far are within the throttle, returning early when the job is cancelled.
+     */
+    void awaitPace() throws InterruptedException {
+        long due;
+        synchronized (this) {
+            if (maxClaimsPerSecond <= 0) {
+                return;
+            }
+            due = paceStartNanos + (long) ((claimsProcessed - paceStartClaims) / maxClaimsPerSecond * 1e9);
+        }
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+            cancelRequest.await(wait, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void complete() {
+        finish(isCancelRequested() ? State.CANCELLED : State.COMPLETED);
+    }
+
+    void fail(String reason) {
+        error = reason;
+        finish(State.FAILED);
+    }
+
+    private void finish(State finalState) {
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        state = finalState;
+    }
+
+    public RescoreJobStatus status() {
+        State current = state;
+        double seconds = ((current == State.RUNNING ? System.nanoTime() : finishNanos) - startNanos) / 1e9;
+        long processed = claimsProcessed;
+        double throttle;
+        synchronized (this) {
+            throttle = maxClaimsPerSecond;
+        }
+        String reported = current == State.RUNNING && isCancelRequested() ? "CANCELLING" : current.name();
+        double percentComplete = totalClaims > 0 ? Math.min(100.0, processed * 100.0 / totalClaims)
+                : current == State.COMPLETED ? 100.0 : 0.0;
+        return new RescoreJobStatus(id, reported, statisticsEpoch, totalClaims, processed, claimsUpdated,
+                processed - claimsUpdated - claimsConflicted, claimsConflicted, percentComplete,
+                seconds == 0 ? 0.0 : processed / seconds, throttle, startedAt, finishedAt, error);
+    }
+}
@@ -0,0 +1,223 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.StatisticsSnapshot;
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.RescoreRejectedException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Re-scores every stored claim in the background. Claims are read in (createdAt, id) keyset pages of
+ * {@code ai.rescore.chunk-size}, each page is scored on a dedicated fork-join pool, and only claims whose score or
+ * risk level changed are written, through the versioned batch update. Amount and type statistics are frozen when the
+ * job starts so every claim is judged against the same baseline; repeat-claimant counts are read live, as they are
+ * when a single claim is scored.
+ * <p>
+ * One job runs at a time. A claim modified while its page was being scored fails the version check and is left as
+ * it is, since whoever modified it scored it against fresher data.
+ */
+@Service
+public class RescoreService {
+
+    private static final int SLICE_SIZE = 64;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimStatistics claimStatistics;
+
+    @Autowired
+    private FraudScoringService fraudScoringService;
+
+    @Autowired
+    private ExecutorService assessmentExecutor;
+
+    @Value("${ai.rescore.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${ai.rescore.parallelism:0}")
+    private int parallelism;
+
+    @Value("${ai.rescore.max-claims-per-second:0}")
+    private double defaultMaxClaimsPerSecond;
+
+    private final Map<UUID, RescoreJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<RescoreJob> running = new AtomicReference<>();
+
+    private ForkJoinPool scoringPool;
+
+    @PostConstruct
+    void init() {
+        scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        RescoreJob job = running.get();
+        if (job != null) {
+            job.cancel();
+        }
+        scoringPool.shutdownNow();
+    }
+
+    /**
+     * Starts a job throttled to {@code maxClaimsPerSecond}, or to {@code ai.rescore.max-claims-per-second} when null.
+     */
+    public RescoreJob start(Double maxClaimsPerSecond) {
+        if (!fraudScoringService.isEnabled()) {
+            throw new RescoreRejectedException("Fraud scoring is disabled");
+        }
+        long epoch = claimStatistics.getEpoch();
+        StatisticsSnapshot statistics = fraudScoringService.currentStatistics();
+        RescoreJob job = new RescoreJob(claimRepository.count(), epoch, statistics,
+                maxClaimsPerSecond != null ? maxClaimsPerSecond : defaultMaxClaimsPerSecond);
+        if (!running.compareAndSet(null, job)) {
+            throw new RescoreRejectedException("Re-scoring job " + running.get().getId() + " is already running");
+        }
+        jobs.put(job.getId(), job);
+        assessmentExecutor.execute(() -> run(job));
+        return job;
+    }
+
+    @Scheduled(cron = "${ai.rescore.cron:-}")
+    public void scheduledRescore() {
+        try {
+            start(null);
+        } catch (RescoreRejectedException e) {
+            // A job is already running or scoring is disabled; the next trigger tries again.
+        }
+    }
+
+    public Optional<RescoreJob> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Runs the job on the calling thread, recording the outcome on the job.
+     */
+    void run(RescoreJob job) {
+        try {
+            StatisticsSnapshot statistics = job.getStatistics();
+            ClaimFilter allClaims = new ClaimFilter();
+            ClaimCursor after = null;
+            while (!job.isCancelRequested()) {
+                List<Claim> page = claimRepository.findPage(allClaims, after, chunkSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+                after = ClaimCursor.after(page.get(page.size() - 1));
+
+                FraudScoreResponse[] scores = new FraudScoreResponse[page.size()];
+                scoringPool.invoke(new ScoreSlice(page, statistics, scores, 0, page.size()));
+                List<Claim> changed = changedClaims(page, scores);
+                int conflicted = write(changed);
+                job.processed(page.size(), changed.size() - conflicted, conflicted);
+
+                if (page.size() < chunkSize) {
+                    break;
+                }
+                job.awaitPace();
+            }
+            job.complete();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted");
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            running.compareAndSet(job, null);
+        }
+    }
+
+    private static List<Claim> changedClaims(List<Claim> page, FraudScoreResponse[] scores) {
+        List<Claim> changed = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            Claim claim = page.get(i);
+            FraudScoreResponse score = scores[i];
+            if (claim.getFraudScore() == null || claim.getFraudScore().compareTo(score.getFraudScore()) != 0
+                    || !Objects.equals(claim.getRiskLevel(), score.getRiskLevel())) {
+                claim.setFraudScore(score.getFraudScore());
+                claim.setRiskLevel(score.getRiskLevel());
+                changed.add(claim);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Writes the chunk as one batch. If any claim in it conflicts the batch is retried claim by claim, so only the
+     * conflicting ones are skipped. Returns how many were skipped.
+     */
+    private int write(List<Claim> changed) {
+        try {
+            claimRepository.updateFraudScores(changed);
+            return 0;
+        } catch (OptimisticLockingFailureException e) {
+            int conflicted = 0;
+            for (Claim claim : changed) {
+                try {
+                    claimRepository.updateFraudScores(List.of(claim));
+                } catch (OptimisticLockingFailureException conflict) {
+                    conflicted++;
+                }
+            }
+            return conflicted;
+        }
+    }
+
+    /**
+     * Scores {@code claims[from, to)} into {@code scores}, splitting until a slice is small enough to score directly.
+     */
+    private final class ScoreSlice extends RecursiveAction {
+
+        private final List<Claim> claims;
+        private final StatisticsSnapshot statistics;
+        private final FraudScoreResponse[] scores;
+        private final int from;
+        private final int to;
+
+        ScoreSlice(List<Claim> claims, StatisticsSnapshot statistics, FraudScoreResponse[] scores, int from, int to) {
+            this.claims = claims;
+            this.statistics = statistics;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE_SIZE) {
+                for (int i = from; i < to; i++) {
+                    scores[i] = fraudScoringService.evaluateClaim(claims.get(i), statistics);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoreSlice(claims, statistics, scores, from, middle),
+                    new ScoreSlice(claims, statistics, scores, middle, to));
+        }
+    }
+}
@@ -1,34 +1,32 @@
 package com.smartclaims360.smartclaims360.ai.service;
 
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
 import com.smartclaims360.smartclaims360.ai.dto.RoutingSuggestion;
 import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
 import com.smartclaims360.smartclaims360.entity.Claim;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 
+/**
+ * Picks a queue for a claim from its assessment. The assessment comes from {@link ClaimAssessmentService}, which owns
+ * running validation and scoring.
+ */
 @Service
 public class RoutingService {
 
-    @Autowired
-    private AiValidationService aiValidationService;
-
-    @Autowired
-    private FraudScoringService fraudScoringService;
-
     @Value("${ai.routing.enabled:true}")
     private boolean routingEnabled;
 
-    public RoutingSuggestion suggest(Claim claim) {
+    public RoutingSuggestion suggest(Claim claim, ClaimAssessment assessment) {
         if (!routingEnabled) {
             return new RoutingSuggestion("MANUAL_REVIEW", "Routing service is disabled");
         }
 
-        ValidationResponse validation = aiValidationService.validateClaim(claim);
-        FraudScoreResponse fraudScore = fraudScoringService.scoreClaim(claim);
+        ValidationResponse validation = assessment.getValidation();
+        FraudScoreResponse fraudScore = assessment.getFraudScore();
 
         if (!validation.isValid()) {
             return new RoutingSuggestion("MANUAL_REVIEW", 
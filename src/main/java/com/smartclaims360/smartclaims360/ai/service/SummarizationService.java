@@ -1,32 +1,33 @@
 package com.smartclaims360.smartclaims360.ai.service;
 
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
 import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
 import com.smartclaims360.smartclaims360.entity.Claim;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.text.NumberFormat;
 import java.util.Locale;
 
+/**
+ * Formats a claim and its assessment. The assessment comes from {@link ClaimAssessmentService}, which owns running
+ * validation and scoring.
+ */
 @Service
 public class SummarizationService {
 
-    @Autowired
-    private AiValidationService aiValidationService;
-
-    @Autowired
-    private FraudScoringService fraudScoringService;
-
     @Value("${ai.summarization.enabled:true}")
     private boolean summarizationEnabled;
 
-    public String summarize(Claim claim) {
+    public String summarize(Claim claim, ClaimAssessment assessment) {
         if (!summarizationEnabled) {
             return "Claim summarization is disabled";
         }
 
+        ValidationResponse validation = assessment.getValidation();
+        FraudScoreResponse fraudScore = assessment.getFraudScore();
+
         StringBuilder summary = new StringBuilder();
         
         summary.append("CLAIM SUMMARY\n");
@@ -38,7 +39,6 @@ public class SummarizationService {
         summary.append("Status: ").append(claim.getStatus()).append("\n");
         summary.append("Created: ").append(claim.getCreatedAt()).append("\n");
 
-        ValidationResponse validation = aiValidationService.validateClaim(claim);
         summary.append("\nVALIDATION STATUS: ").append(validation.isValid() ? "VALID" : "INVALID").append("\n");
         
         if (!validation.getReasons().isEmpty()) {
@@ -55,7 +55,6 @@ public class SummarizationService {
             }
         }
 
-        FraudScoreResponse fraudScore = fraudScoringService.scoreClaim(claim);
         summary.append("\nFRAUD RISK: ").append(fraudScore.getRiskLevel()).append("\n");
         summary.append("Fraud Score: ").append(fraudScore.getFraudScore()).append("/1.00\n");
         summary.append("Risk Analysis: ").append(fraudScore.getExplanation()).append("\n");
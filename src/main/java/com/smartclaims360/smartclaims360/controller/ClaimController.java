@@ -1,10 +1,19 @@
 package com.smartclaims360.smartclaims360.controller;
 
+import com.smartclaims360.smartclaims360.dto.BulkClaimResponse;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.dto.ClaimPage;
 import com.smartclaims360.smartclaims360.dto.ClaimRequest;
 import com.smartclaims360.smartclaims360.entity.Claim;
 import com.smartclaims360.smartclaims360.exception.ClaimNotFoundException;
+import com.smartclaims360.smartclaims360.exception.InvalidCursorException;
+import com.smartclaims360.smartclaims360.exception.MalformedBulkRequestException;
+import com.smartclaims360.smartclaims360.service.ClaimBulkService;
+import com.smartclaims360.smartclaims360.service.ClaimExportService;
 import com.smartclaims360.smartclaims360.service.ClaimService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -13,20 +22,36 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
 @Tag(name = "Claim Management", description = "Traditional CRUD operations for claim management")
 public class ClaimController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private ClaimService claimService;
 
+    @Autowired
+    private ClaimExportService claimExportService;
+
+    @Autowired
+    private ClaimBulkService claimBulkService;
+
     @GetMapping("/health")
     @Operation(
         summary = "Health Check",
@@ -108,15 +133,69 @@ public class ClaimController {
         return new ResponseEntity<>(createdClaim, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/claims/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Create Claims in Bulk",
+        description = "Creates claims from a JSON array of claim requests. The array is read incrementally, each item is validated with the same rules as Create New Claim, and valid items are stored in chunked transactions. Invalid items are reported without failing the request."
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "JSON array of claim creation requests",
+        required = true,
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = ClaimRequest.class)),
+            examples = @ExampleObject(value = """
+                [
+                    {"claimantName": "John Doe", "claimAmount": 1500.00, "claimType": "AUTO"},
+                    {"claimantName": "", "claimAmount": 0, "claimType": "HEALTH"}
+                ]
+                """)
+        )
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Request processed; see the per-item summary",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BulkClaimResponse.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "received": 2,
+                        "accepted": 1,
+                        "rejected": 1,
+                        "items": [
+                            {"index": 0, "status": "ACCEPTED", "id": "123e4567-e89b-12d3-a456-426614174000", "errors": null},
+                            {"index": 1, "status": "REJECTED", "id": null, "errors": ["Claim amount must be greater than 0", "Claimant name cannot be blank"]}
+                        ]
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Body is not a well-formed JSON array; items before the error have been processed",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Malformed JSON after item 1; items before it were processed: Unexpected end-of-input")
+            )
+        )
+    })
+    public ResponseEntity<BulkClaimResponse> createClaims(InputStream body) {
+        return ResponseEntity.ok(claimBulkService.ingest(body));
+    }
+
     @GetMapping("/claims")
     @Operation(
-        summary = "List All Claims",
-        description = "Retrieves a list of all claims in the system with their current status and fraud scores"
+        summary = "List Claims",
+        description = "Retrieves one page of claims, oldest first, with their current status and fraud scores. "
+            + "Pass the X-Next-Cursor response header back as 'cursor' to fetch the next page; the header is absent on the last page."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Claims retrieved successfully",
+            headers = @Header(name = "X-Next-Cursor", description = "Opaque cursor for the next page", schema = @Schema(type = "string")),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = Claim.class),
@@ -143,11 +222,63 @@ public class ClaimController {
                     ]
                     """)
             )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Invalid cursor: not-a-cursor")
+            )
         )
     })
-    public ResponseEntity<List<Claim>> getAllClaims() {
-        List<Claim> claims = claimService.getAllClaims();
-        return ResponseEntity.ok(claims);
+    public ResponseEntity<List<Claim>> getAllClaims(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + ClaimService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String claimType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) BigDecimal minFraudScore,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        ClaimFilter filter = new ClaimFilter(claimType, status, minAmount, maxAmount, minFraudScore, createdFrom, createdTo);
+        ClaimPage page = claimService.getClaims(filter, cursor, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.claims());
+    }
+
+    @GetMapping(value = "/claims/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export Claims",
+        description = "Streams every claim as newline-delimited JSON, oldest first, with constant server memory. "
+            + "An interrupted export can be resumed with 'afterId' (the last claim received) or with a 'cursor' from GET /claims."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Claims streamed successfully",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                examples = @ExampleObject(value = """
+                    {"id":"123e4567-e89b-12d3-a456-426614174000","claimantName":"John Doe","claimAmount":1500.00,"claimType":"AUTO","status":"NEW","createdAt":"2025-08-17T14:30:00","fraudScore":0.25}
+                    {"id":"987fcdeb-51a2-43d1-9c4f-123456789abc","claimantName":"Jane Smith","claimAmount":5000.00,"claimType":"HEALTH","status":"PROCESSING","createdAt":"2025-08-17T15:15:00","fraudScore":0.75}
+                    """)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "404", description = "Claim given as afterId not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportClaims(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) UUID afterId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(claimExportService.export(cursor, afterId));
     }
 
     @GetMapping("/claims/{id}")
@@ -159,6 +290,7 @@ public class ClaimController {
         @ApiResponse(
             responseCode = "200",
             description = "Claim found and returned successfully",
+            headers = @Header(name = "ETag", description = "Claim version; send it back in If-None-Match to get 304 while the claim is unchanged"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = Claim.class),
@@ -175,6 +307,7 @@ public class ClaimController {
                     """)
             )
         ),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(
             responseCode = "404",
             description = "Claim not found with the provided ID",
@@ -192,14 +325,29 @@ public class ClaimController {
             )
         )
     })
-    public ResponseEntity<Claim> getClaimById(@PathVariable UUID id) {
-        return claimService.getClaimById(id)
-                .map(claim -> ResponseEntity.ok(claim))
+    public ResponseEntity<Claim> getClaimById(@PathVariable UUID id, WebRequest request) {
+        Claim claim = claimService.getClaimById(id)
                 .orElseThrow(() -> new ClaimNotFoundException(id));
+
+        Optional<String> etag = claimService.etag(claim);
+        if (etag.isPresent() && request.checkNotModified(etag.get())) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag.orElse(null)).body(claim);
     }
 
     @ExceptionHandler(ClaimNotFoundException.class)
     public ResponseEntity<String> handleClaimNotFound(ClaimNotFoundException ex) {
         return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursor(InvalidCursorException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(MalformedBulkRequestException.class)
+    public ResponseEntity<String> handleMalformedBulkRequest(MalformedBulkRequestException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
 }
@@ -0,0 +1,143 @@
+package com.smartclaims360.smartclaims360.controller;
+
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import com.smartclaims360.smartclaims360.dto.ImportJobStatus;
+import com.smartclaims360.smartclaims360.exception.ImportJobNotFoundException;
+import com.smartclaims360.smartclaims360.exception.InvalidImportRequestException;
+import com.smartclaims360.smartclaims360.service.ClaimImportJob;
+import com.smartclaims360.smartclaims360.service.ClaimImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@Tag(name = "Claim Import", description = "Import large claim extracts from CSV or NDJSON files")
+public class ClaimImportController {
+
+    @Autowired
+    private ClaimImportService claimImportService;
+
+    @PostMapping(value = "/claims/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Start Claim Import",
+        description = "Uploads a CSV (claimantName, claimAmount, claimType) or NDJSON claim file and imports it in the background. Rows are validated like Create New Claim and committed in chunks; poll the returned job for progress."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Import started",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ImportJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "0190f5c2-7a4e-7b1a-9c3d-2f4e5a6b7c8d",
+                        "fileName": "claims-2025-08.csv",
+                        "format": "CSV",
+                        "state": "RUNNING",
+                        "totalBytes": 2147483648,
+                        "bytesRead": 0,
+                        "percentComplete": 0.0,
+                        "rowsImported": 0,
+                        "rowsRejected": 0,
+                        "rowsPerSecond": 0.0,
+                        "resumedFromOffset": 0,
+                        "startedAt": "2025-08-17T14:30:00",
+                        "finishedAt": null,
+                        "rejections": [],
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "The format could not be determined from the file name and was not given",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Cannot tell the format of 'claims.txt'; pass format=CSV or format=NDJSON")
+            )
+        )
+    })
+    public ResponseEntity<ImportJobStatus> startImport(
+        @Parameter(description = "Claim file (.csv, .ndjson or .jsonl)") @RequestParam("file") MultipartFile file,
+        @Parameter(description = "File layout; inferred from the file extension when omitted") @RequestParam(required = false) ImportFormat format) throws IOException {
+        ClaimImportJob job = claimImportService.upload(file, format);
+        return ResponseEntity.accepted()
+                .location(URI.create("/claims/import/" + job.getId()))
+                .body(job.status());
+    }
+
+    @GetMapping("/claims/import/{jobId}")
+    @Operation(
+        summary = "Get Import Job Status",
+        description = "Returns the progress and throughput of a claim import, including a sample of rejected rows"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ImportJobStatus.class),
+                examples = @ExampleObject(value = """
+                    {
+                        "jobId": "0190f5c2-7a4e-7b1a-9c3d-2f4e5a6b7c8d",
+                        "fileName": "claims-2025-08.csv",
+                        "format": "CSV",
+                        "state": "RUNNING",
+                        "totalBytes": 2147483648,
+                        "bytesRead": 536870912,
+                        "percentComplete": 25.0,
+                        "rowsImported": 4980000,
+                        "rowsRejected": 20000,
+                        "rowsPerSecond": 41000.0,
+                        "resumedFromOffset": 0,
+                        "startedAt": "2025-08-17T14:30:00",
+                        "finishedAt": null,
+                        "rejections": ["line 12: Claim amount must be greater than 0"],
+                        "error": null
+                    }
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No import job with this id",
+            content = @Content(
+                mediaType = "text/plain",
+                examples = @ExampleObject(value = "Import job not found with id: 0190f5c2-7a4e-7b1a-9c3d-2f4e5a6b7c8d")
+            )
+        )
+    })
+    public ResponseEntity<ImportJobStatus> getImportStatus(@PathVariable UUID jobId) {
+        return claimImportService.getJob(jobId)
+                .map(job -> ResponseEntity.ok(job.status()))
+                .orElseThrow(() -> new ImportJobNotFoundException(jobId));
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<String> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidImportRequestException.class)
+    public ResponseEntity<String> handleInvalidImportRequest(InvalidImportRequestException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+}
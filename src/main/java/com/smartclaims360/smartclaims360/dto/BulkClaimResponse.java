@@ -0,0 +1,27 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk claim request")
+public class BulkClaimResponse {
+
+    @Schema(description = "Number of items read from the request", example = "3")
+    private int received;
+
+    @Schema(description = "Number of claims stored", example = "2")
+    private int accepted;
+
+    @Schema(description = "Number of items rejected", example = "1")
+    private int rejected;
+
+    @Schema(description = "Per-item outcome in request order")
+    private List<BulkItemResult> items;
+}
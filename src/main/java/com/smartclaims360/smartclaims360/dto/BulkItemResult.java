@@ -0,0 +1,28 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome for one element of a bulk claim request")
+public class BulkItemResult {
+
+    @Schema(description = "Zero-based position of the item in the request array", example = "0")
+    private int index;
+
+    @Schema(description = "Whether the item was stored", example = "ACCEPTED", allowableValues = {"ACCEPTED", "REJECTED"})
+    private String status;
+
+    @Schema(description = "Identifier of the stored claim, for accepted items", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Why the item was rejected", example = "[\"Claim amount must be greater than 0\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,39 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after a claim in (createdAt, id) order, handed to clients as an opaque token.
+ */
+public record ClaimCursor(LocalDateTime createdAt, UUID id) {
+
+    public static ClaimCursor after(Claim claim) {
+        return new ClaimCursor(claim.getCreatedAt(), claim.getId());
+    }
+
+    public static ClaimCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return new ClaimCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+
+    public String encode() {
+        String value = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,31 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for listing claims; null fields do not restrict the result.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimFilter {
+
+    private String claimType;
+
+    private String status;
+
+    private BigDecimal minAmount;
+
+    private BigDecimal maxAmount;
+
+    private BigDecimal minFraudScore;
+
+    private LocalDateTime createdFrom;
+
+    private LocalDateTime createdTo;
+}
@@ -0,0 +1,11 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+import java.util.List;
+
+/**
+ * One page of claims; {@code nextCursor} is null on the last page.
+ */
+public record ClaimPage(List<Claim> claims, String nextCursor) {
+}
@@ -0,0 +1,32 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+
+@Schema(description = "Layout of a claim import file")
+public enum ImportFormat {
+
+    @Schema(description = "Comma-separated claimantName, claimAmount, claimType; an optional header row may reorder the columns")
+    CSV,
+
+    @Schema(description = "One JSON claim request per line")
+    NDJSON;
+
+    /**
+     * Format implied by a file extension ({@code .csv}, {@code .ndjson} or {@code .jsonl}), or null.
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        return null;
+    }
+}
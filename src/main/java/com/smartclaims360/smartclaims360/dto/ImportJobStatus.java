@@ -0,0 +1,62 @@
+package com.smartclaims360.smartclaims360.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a claim file import")
+public class ImportJobStatus {
+
+    @Schema(description = "Identifier of the import job", example = "0190f5c2-7a4e-7b1a-9c3d-2f4e5a6b7c8d")
+    private UUID jobId;
+
+    @Schema(description = "Name of the imported file", example = "claims-2025-08.csv")
+    private String fileName;
+
+    @Schema(description = "Layout of the file", example = "CSV")
+    private ImportFormat format;
+
+    @Schema(description = "Job state", example = "RUNNING", allowableValues = {"RUNNING", "COMPLETED", "FAILED"})
+    private String state;
+
+    @Schema(description = "Size of the file in bytes", example = "2147483648")
+    private long totalBytes;
+
+    @Schema(description = "Bytes of the file read so far, including any resumed-from offset", example = "536870912")
+    private long bytesRead;
+
+    @Schema(description = "Share of the file read, in percent", example = "25.0")
+    private double percentComplete;
+
+    @Schema(description = "Claims committed so far", example = "4980000")
+    private long rowsImported;
+
+    @Schema(description = "Rows rejected so far", example = "20000")
+    private long rowsRejected;
+
+    @Schema(description = "Rows processed per second since this run started", example = "41000.0")
+    private double rowsPerSecond;
+
+    @Schema(description = "Offset the run resumed from after an interruption; 0 for a fresh import", example = "0")
+    private long resumedFromOffset;
+
+    @Schema(description = "When this run started", example = "2025-08-17T14:30:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the job completed or failed", example = "2025-08-17T14:32:00")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "The first rejected rows, by line number", example = "[\"line 12: Claim amount must be greater than 0\"]")
+    private List<String> rejections;
+
+    @Schema(description = "Why the job failed", example = "null")
+    private String error;
+}
@@ -1,5 +1,7 @@
 package com.smartclaims360.smartclaims360.entity;
 
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatisticsListener;
+import com.smartclaims360.smartclaims360.repository.ClaimCacheListener;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
@@ -15,7 +17,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+    @Index(name = "idx_claims_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_claims_type_created_at_id", columnList = "claim_type, created_at, id"),
+    @Index(name = "idx_claims_status_created_at_id", columnList = "status, created_at, id")
+})
+@EntityListeners({ClaimStatisticsListener.class, ClaimCacheListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +30,7 @@ import java.util.UUID;
 public class Claim {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     @Column(columnDefinition = "UUID")
     @Schema(description = "Unique identifier for the claim", example = "123e4567-e89b-12d3-a456-426614174000")
     private UUID id;
@@ -57,4 +64,26 @@ public class Claim {
     @Schema(description = "AI-calculated fraud risk score from 0.00 (no risk) to 1.00 (high risk)", example = "0.25", minimum = "0.00", maximum = "1.00")
     private BigDecimal fraudScore;
 
+    @Column(length = 10)
+    @Schema(description = "Validation verdict recorded by the last assessment", example = "VALID", allowableValues = {"VALID", "INVALID"})
+    private String validationStatus;
+
+    @Column(length = 10)
+    @Schema(description = "Fraud risk level recorded by the last assessment", example = "LOW", allowableValues = {"LOW", "MEDIUM", "HIGH"})
+    private String riskLevel;
+
+    @Column(length = 20)
+    @Schema(description = "Processing queue suggested by the last assessment", example = "AUTO", allowableValues = {"AUTO", "HEALTH", "PROPERTY", "LIFE", "MANUAL_REVIEW"})
+    private String suggestedQueue;
+
+    @Schema(description = "Version of the assessment rules that produced the recorded assessment", example = "1")
+    private Integer assessmentVersion;
+
+    @Schema(description = "Timestamp of the last assessment", example = "2025-08-17T14:30:00")
+    private LocalDateTime assessedAt;
+
+    @Version
+    @Schema(description = "Optimistic locking version, incremented on every update including fraud score updates", example = "0")
+    private Long version;
+
 }
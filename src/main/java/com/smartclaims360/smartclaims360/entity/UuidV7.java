@@ -0,0 +1,18 @@
+package com.smartclaims360.smartclaims360.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated {@code UUID} id as a time-ordered version 7 UUID (RFC 9562), so new rows land at
+ * the right-hand edge of the primary key index instead of at random positions.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
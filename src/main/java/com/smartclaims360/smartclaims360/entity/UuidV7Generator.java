@@ -0,0 +1,71 @@
+package com.smartclaims360.smartclaims360.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Version 7 UUIDs: 48 bits of Unix epoch milliseconds, then a 12-bit sequence in {@code rand_a}
+ * (RFC 9562 section 6.2, method 1), then 62 random bits. Timestamp and sequence advance together
+ * through a single CAS, so every id from this JVM sorts strictly after the previous one regardless
+ * of thread; when more than 4096 ids are drawn in one millisecond the timestamp borrows from the
+ * next one, and a clock that steps backwards is ignored until it catches up.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final RandomGenerator SECURE_RANDOM = new SecureRandom();
+    private static final AtomicLong SHARED_STATE = new AtomicLong();
+    private static final UuidV7Generator DEFAULT = new UuidV7Generator();
+
+    private final LongSupplier clock;
+    private final RandomGenerator random;
+    private final AtomicLong lastTimestampAndSequence;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis, SECURE_RANDOM, SHARED_STATE);
+    }
+
+    UuidV7Generator(LongSupplier clock, RandomGenerator random, AtomicLong lastTimestampAndSequence) {
+        this.clock = clock;
+        this.random = random;
+        this.lastTimestampAndSequence = lastTimestampAndSequence;
+    }
+
+    public static UUID next() {
+        return DEFAULT.generate();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generate();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    UUID generate() {
+        long now = clock.getAsLong() << SEQUENCE_BITS;
+        long timestampAndSequence = lastTimestampAndSequence.updateAndGet(last -> Math.max(now, last + 1));
+
+        long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+        long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+        long mostSignificantBits = (timestamp << 16) | VERSION | sequence;
+        long leastSignificantBits = VARIANT | (random.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
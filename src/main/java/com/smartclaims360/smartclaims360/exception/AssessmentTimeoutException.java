@@ -0,0 +1,11 @@
+package com.smartclaims360.smartclaims360.exception;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public class AssessmentTimeoutException extends RuntimeException {
+
+    public AssessmentTimeoutException(UUID id, Duration deadline) {
+        super("Assessment of claim " + id + " did not complete within " + deadline.toMillis() + " ms");
+    }
+}
@@ -0,0 +1,8 @@
+package com.smartclaims360.smartclaims360.exception;
+
+public class InvalidBatchItemException extends RuntimeException {
+
+    public InvalidBatchItemException(int index, String reason) {
+        super("Invalid batch item " + index + ": " + reason);
+    }
+}
@@ -0,0 +1,8 @@
+package com.smartclaims360.smartclaims360.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,8 @@
+package com.smartclaims360.smartclaims360.exception;
+
+public class InvalidImportRequestException extends RuntimeException {
+
+    public InvalidImportRequestException(String message) {
+        super(message);
+    }
+}
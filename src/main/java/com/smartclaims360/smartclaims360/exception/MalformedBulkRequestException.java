@@ -0,0 +1,8 @@
+package com.smartclaims360.smartclaims360.exception;
+
+public class MalformedBulkRequestException extends RuntimeException {
+
+    public MalformedBulkRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
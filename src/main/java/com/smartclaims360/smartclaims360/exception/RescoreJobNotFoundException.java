@@ -0,0 +1,10 @@
+package com.smartclaims360.smartclaims360.exception;
+
+import java.util.UUID;
+
+public class RescoreJobNotFoundException extends RuntimeException {
+
+    public RescoreJobNotFoundException(UUID id) {
+        super("Re-scoring job not found with id: " + id);
+    }
+}
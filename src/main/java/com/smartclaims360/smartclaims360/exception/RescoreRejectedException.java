@@ -0,0 +1,8 @@
+package com.smartclaims360.smartclaims360.exception;
+
+public class RescoreRejectedException extends RuntimeException {
+
+    public RescoreRejectedException(String message) {
+        super(message);
+    }
+}
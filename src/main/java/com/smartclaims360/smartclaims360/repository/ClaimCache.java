@@ -0,0 +1,128 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded near-cache of claims by id, sized by entry count and expired after {@code ttl}. Callers always get their own
+ * copy, so assessing or saving a claim never mutates the cached one.
+ * <p>
+ * Every committed write invalidates its ids. A read that raced with one of those writes may have loaded the old row, so
+ * a load is only stored if no invalidation hit the id's stripe since the load started; the check and the store run
+ * atomically against {@link #invalidate(UUID)}. Reads inside a transaction bypass the cache, as they may see
+ * uncommitted rows.
+ */
+@Component
+public class ClaimCache {
+
+    private static final int STRIPES = 256;
+
+    @Value("${claims.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${claims.cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${claims.cache.ttl:5m}")
+    private Duration ttl;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    private Cache<UUID, Claim> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "claims");
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", "claims")
+                .description("Share of claim lookups answered from the cache since startup")
+                .register(meterRegistry);
+    }
+
+    public Optional<Claim> get(UUID id, Function<UUID, Optional<Claim>> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(id);
+        }
+
+        Claim cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+
+        int stripe = stripe(id);
+        long stamp = invalidations.get(stripe);
+        Optional<Claim> loaded = loader.apply(id);
+        loaded.ifPresent(claim -> {
+            Claim entry = copyOf(claim);
+            cache.asMap().compute(id, (key, current) -> invalidations.get(stripe) == stamp ? entry : current);
+        });
+        return loaded.map(ClaimCache::copyOf);
+    }
+
+    public void invalidate(UUID id) {
+        invalidations.incrementAndGet(stripe(id));
+        cache.asMap().remove(id);
+    }
+
+    /**
+     * Invalidates the ids once the surrounding transaction commits, or right away when there is none. Invalidating
+     * before the commit would let a concurrent read re-cache the old row.
+     */
+    public void invalidateAfterCommit(Collection<UUID> ids) {
+        List<UUID> pending = List.copyOf(ids);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending.forEach(this::invalidate);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pending.forEach(ClaimCache.this::invalidate);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            invalidations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    private static int stripe(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    private static Claim copyOf(Claim claim) {
+        return new Claim(claim.getId(), claim.getClaimantName(), claim.getClaimAmount(), claim.getClaimType(),
+                claim.getStatus(), claim.getCreatedAt(), claim.getFraudScore(), claim.getValidationStatus(),
+                claim.getRiskLevel(), claim.getSuggestedQueue(), claim.getAssessmentVersion(), claim.getAssessedAt(),
+                claim.getVersion());
+    }
+}
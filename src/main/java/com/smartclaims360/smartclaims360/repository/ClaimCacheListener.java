@@ -0,0 +1,30 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Invalidates {@link ClaimCache} entries for claims written through JPA once the write commits. Bulk JDBC updates in
+ * {@link ClaimJdbcRepository} invalidate their ids themselves.
+ */
+@Component
+public class ClaimCacheListener {
+
+    @Autowired
+    private ClaimCache claimCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Claim claim) {
+        if (claim.getId() != null) {
+            claimCache.invalidateAfterCommit(List.of(claim.getId()));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+
+@Repository
+@Profile("!edge")
+public class ClaimJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClaimCache claimCache;
+
+    /**
+     * Stores fraud scores in JDBC batches and bumps each claim's version. A claim that carries a version is only
+     * updated if the row still has that version, so a concurrent update fails the whole batch with
+     * {@link OptimisticLockingFailureException} instead of being overwritten. Claims submitted without a version are
+     * updated unconditionally. Versions of the passed claims are advanced to match the stored rows. The stored
+     * suggested queue was routed on the old score, so it is cleared and re-derived on the next route.
+     */
+    @Transactional
+    public void updateFraudScores(List<Claim> scoredClaims) {
+        if (scoredClaims.isEmpty()) {
+            return;
+        }
+        // A batch may name the same stored claim twice; its second row would fail the version check.
+        List<Claim> claims = scoredClaims.stream().distinct().toList();
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE claims SET fraud_score = ?, risk_level = ?, suggested_queue = NULL, version = version + 1"
+                        + " WHERE id = ? AND (? IS NULL OR version = ?)",
+                claims, BATCH_SIZE,
+                (ps, claim) -> {
+                    ps.setBigDecimal(1, claim.getFraudScore());
+                    ps.setString(2, claim.getRiskLevel());
+                    ps.setObject(3, claim.getId());
+                    ps.setObject(4, claim.getVersion(), Types.BIGINT);
+                    ps.setObject(5, claim.getVersion(), Types.BIGINT);
+                });
+
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                Claim claim = claims.get(index++);
+                if (claim.getVersion() != null && count == 0) {
+                    throw new OptimisticLockingFailureException(
+                            "Claim " + claim.getId() + " was modified or deleted since version " + claim.getVersion());
+                }
+            }
+        }
+        for (Claim claim : claims) {
+            claim.setSuggestedQueue(null);
+            if (claim.getVersion() != null) {
+                claim.setVersion(claim.getVersion() + 1);
+            }
+        }
+        claimCache.invalidateAfterCommit(claims.stream().map(Claim::getId).toList());
+    }
+}
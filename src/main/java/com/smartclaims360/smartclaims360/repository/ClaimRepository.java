@@ -1,11 +1,41 @@
 package com.smartclaims360.smartclaims360.repository;
 
 import com.smartclaims360.smartclaims360.entity.Claim;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface ClaimRepository extends JpaRepository<Claim, UUID> {
+public interface ClaimRepository extends JpaRepository<Claim, UUID>, ClaimRepositoryCustom {
+
+    int STREAM_FETCH_SIZE = 500;
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Claim c ORDER BY c.createdAt, c.id")
+    Stream<Claim> streamAll();
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Claim c WHERE c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id) ORDER BY c.createdAt, c.id")
+    Stream<Claim> streamAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT new com.smartclaims360.smartclaims360.repository.ClaimRow(c.id, c.claimAmount, c.claimType, c.claimantName, c.createdAt) FROM Claim c")
+    Stream<ClaimRow> streamRows();
+
+    @Query("SELECT new com.smartclaims360.smartclaims360.repository.ClaimTableFingerprint(COUNT(c), SUM(c.claimAmount), MAX(c.createdAt)) FROM Claim c")
+    ClaimTableFingerprint fingerprint();
 }
@@ -0,0 +1,22 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+import java.util.List;
+
+public interface ClaimRepositoryCustom {
+
+    /**
+     * Up to {@code limit} claims matching {@code filter} in (createdAt, id) order, starting after
+     * {@code after} (or from the beginning when null).
+     */
+    List<Claim> findPage(ClaimFilter filter, ClaimCursor after, int limit);
+
+    /**
+     * Stores the fraud score and risk level of each claim and bumps its version. Claims that carry a version are
+     * only updated if the stored claim still has it; otherwise {@code OptimisticLockingFailureException} is thrown.
+     */
+    void updateFraudScores(List<Claim> scoredClaims);
+}
@@ -0,0 +1,88 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset pagination: the cursor becomes a range predicate on (createdAt, id), so each page is a
+ * range scan of the (created_at, id) indexes rather than an OFFSET that rereads every earlier row.
+ */
+public class ClaimRepositoryCustomImpl implements ClaimRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ClaimJdbcRepository claimJdbcRepository;
+
+    @Override
+    public List<Claim> findPage(ClaimFilter filter, ClaimCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Claim> query = cb.createQuery(Claim.class);
+        Root<Claim> claim = query.from(Claim.class);
+
+        List<Predicate> predicates = filterPredicates(cb, claim, filter);
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(claim.<LocalDateTime>get("createdAt"), after.createdAt()),
+                    cb.and(cb.equal(claim.get("createdAt"), after.createdAt()),
+                            cb.greaterThan(claim.<UUID>get("id"), after.id()))));
+        }
+
+        query.select(claim)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(claim.get("createdAt")), cb.asc(claim.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void updateFraudScores(List<Claim> scoredClaims) {
+        claimJdbcRepository.updateFraudScores(scoredClaims);
+    }
+
+    static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Claim> claim, ClaimFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.getClaimType() != null) {
+            predicates.add(cb.equal(claim.get("claimType"), filter.getClaimType()));
+        }
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(claim.get("status"), filter.getStatus()));
+        }
+        if (filter.getMinAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(claim.<BigDecimal>get("claimAmount"), filter.getMinAmount()));
+        }
+        if (filter.getMaxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(claim.<BigDecimal>get("claimAmount"), filter.getMaxAmount()));
+        }
+        if (filter.getMinFraudScore() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(claim.<BigDecimal>get("fraudScore"), filter.getMinFraudScore()));
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(claim.<LocalDateTime>get("createdAt"), filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(claim.<LocalDateTime>get("createdAt"), filter.getCreatedTo()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,11 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns scoring and analytics need, read without materializing {@code Claim} entities.
+ */
+public record ClaimRow(UUID id, BigDecimal claimAmount, String claimType, String claimantName, LocalDateTime createdAt) {
+}
@@ -0,0 +1,11 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Row count, amount total and latest creation time of the claims table, used to check that restored scoring data
+ * still describes the same claims. {@code amountSum} and {@code latestCreatedAt} are null for an empty table.
+ */
+public record ClaimTableFingerprint(long count, BigDecimal amountSum, LocalDateTime latestCreatedAt) {
+}
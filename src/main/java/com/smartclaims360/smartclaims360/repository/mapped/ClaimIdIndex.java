@@ -0,0 +1,211 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Open-addressing hash table from claim id to record location, held off-heap in a direct buffer: each entry is the
+ * id's two halves and the location plus one, so a zero location marks an empty entry. Removed entries are left as
+ * tombstones until the next resize, which keeps probe chains intact. The table doubles at half full.
+ * <p>
+ * Lookups are optimistic reads that retry under the read lock if a writer interfered; writers are serialized.
+ */
+final class ClaimIdIndex {
+
+    static final long ABSENT = -1;
+
+    private static final int ENTRY_SIZE = 24;
+    private static final long EMPTY = 0;
+    private static final long REMOVED = -1;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private ByteBuffer table;
+    private int size;
+    private int used;
+
+    ClaimIdIndex(int expectedEntries) {
+        table = allocate(capacityFor(expectedEntries));
+    }
+
+    /**
+     * The location stored for {@code id}, or {@link #ABSENT}.
+     */
+    long get(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            long location = find(table, high, low);
+            if (lock.validate(stamp)) {
+                return location;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return find(table, high, low);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Atomically replaces the location of {@code id}: {@code update} gets the current location (or {@link #ABSENT})
+     * and returns the new one, {@link #ABSENT} to remove the entry, or the current one to leave it. Exceptions from
+     * {@code update} leave the entry unchanged.
+     */
+    long update(UUID id, LongUnaryOperator update) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        long stamp = lock.writeLock();
+        try {
+            int entry = probe(table, high, low);
+            long current = entry >= 0 ? table.getLong(entry + 16) - 1 : ABSENT;
+            long location = update.applyAsLong(current);
+            if (location == current) {
+                return location;
+            }
+            if (location == ABSENT) {
+                table.putLong(entry + 16, REMOVED);
+                size--;
+                return location;
+            }
+            if (entry >= 0) {
+                table.putLong(entry + 16, location + 1);
+                return location;
+            }
+            if ((used + 1) * 2 > capacity(table)) {
+                // Grow if live entries need it, otherwise only purge tombstones.
+                table = rehash((size + 1) * 2 > capacity(table) ? capacity(table) * 2 : capacity(table));
+            }
+            insert(table, high, low, location);
+            size++;
+            used++;
+            return location;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * A copy of every entry as consecutive (id high bits, id low bits, location) triples, in table order.
+     */
+    long[] entries() {
+        long stamp = lock.readLock();
+        try {
+            long[] entries = new long[size * 3];
+            int count = 0;
+            for (int entry = 0; entry < table.capacity(); entry += ENTRY_SIZE) {
+                long stored = table.getLong(entry + 16);
+                if (stored != EMPTY && stored != REMOVED) {
+                    entries[count++] = table.getLong(entry);
+                    entries[count++] = table.getLong(entry + 8);
+                    entries[count++] = stored - 1;
+                }
+            }
+            return entries;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long find(ByteBuffer table, long high, long low) {
+        int capacity = capacity(table);
+        int mask = capacity - 1;
+        int slot = hash(high, low) & mask;
+        for (int probes = 0; probes < capacity; probes++) {
+            int entry = slot * ENTRY_SIZE;
+            long stored = table.getLong(entry + 16);
+            if (stored == EMPTY) {
+                return ABSENT;
+            }
+            if (stored != REMOVED && table.getLong(entry) == high && table.getLong(entry + 8) == low) {
+                return stored - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Byte offset of the live entry for the id, or -1 if there is none.
+     */
+    private static int probe(ByteBuffer table, long high, long low) {
+        int mask = capacity(table) - 1;
+        int slot = hash(high, low) & mask;
+        while (true) {
+            int entry = slot * ENTRY_SIZE;
+            long stored = table.getLong(entry + 16);
+            if (stored == EMPTY) {
+                return -1;
+            }
+            if (stored != REMOVED && table.getLong(entry) == high && table.getLong(entry + 8) == low) {
+                return entry;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static void insert(ByteBuffer table, long high, long low, long location) {
+        int mask = capacity(table) - 1;
+        int slot = hash(high, low) & mask;
+        while (true) {
+            int entry = slot * ENTRY_SIZE;
+            long stored = table.getLong(entry + 16);
+            if (stored == EMPTY || stored == REMOVED) {
+                table.putLong(entry, high);
+                table.putLong(entry + 8, low);
+                table.putLong(entry + 16, location + 1);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private ByteBuffer rehash(int capacity) {
+        ByteBuffer resized = allocate(capacity);
+        for (int entry = 0; entry < table.capacity(); entry += ENTRY_SIZE) {
+            long stored = table.getLong(entry + 16);
+            if (stored != EMPTY && stored != REMOVED) {
+                insert(resized, table.getLong(entry), table.getLong(entry + 8), stored - 1);
+            }
+        }
+        used = size;
+        return resized;
+    }
+
+    private static int hash(long high, long low) {
+        long h = high ^ low;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static int capacity(ByteBuffer table) {
+        return table.capacity() / ENTRY_SIZE;
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < entries * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * ENTRY_SIZE);
+    }
+}
@@ -0,0 +1,235 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Fixed {@value #SIZE}-byte layout of one claim in a segment file: a state word, presence flags, the numeric fields
+ * at fixed offsets and each string in a fixed slot with a two-byte length. Amounts and scores are stored as unscaled
+ * {@code long} plus scale, timestamps as UTC epoch seconds plus nanos. Strings longer than their slot are rejected
+ * before anything is written.
+ * <p>
+ * The state word is read and written with acquire/release semantics: a record only becomes {@link #LIVE} after all
+ * its other bytes are in place, and a crash leaves {@link #PENDING} records that recovery discards.
+ */
+final class ClaimRecord {
+
+    static final int SIZE = 768;
+
+    static final int EMPTY = 0;
+    static final int PENDING = 1;
+    static final int LIVE = 2;
+    static final int DEAD = 3;
+
+    private static final int STATE = 0;
+    private static final int FLAGS = 4;
+    private static final int ID_HIGH = 8;
+    private static final int ID_LOW = 16;
+    private static final int VERSION = 24;
+    private static final int CREATED_SECONDS = 32;
+    private static final int CREATED_NANOS = 40;
+    private static final int ASSESSMENT_VERSION = 44;
+    private static final int AMOUNT_UNSCALED = 48;
+    private static final int AMOUNT_SCALE = 56;
+    private static final int FRAUD_SCORE_SCALE = 60;
+    private static final int FRAUD_SCORE_UNSCALED = 64;
+    private static final int ASSESSED_SECONDS = 72;
+    private static final int ASSESSED_NANOS = 80;
+
+    private static final int CLAIMANT_NAME = 88;
+    private static final int CLAIM_TYPE = CLAIMANT_NAME + 512;
+    private static final int STATUS = CLAIM_TYPE + 64;
+    private static final int VALIDATION_STATUS = STATUS + 32;
+    private static final int RISK_LEVEL = VALIDATION_STATUS + 16;
+    private static final int SUGGESTED_QUEUE = RISK_LEVEL + 16;
+    private static final int END = SUGGESTED_QUEUE + 32;
+
+    private static final int HAS_CREATED_AT = 1;
+    private static final int HAS_AMOUNT = 1 << 1;
+    private static final int HAS_FRAUD_SCORE = 1 << 2;
+    private static final int HAS_ASSESSMENT_VERSION = 1 << 3;
+    private static final int HAS_ASSESSED_AT = 1 << 4;
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private static final VarHandle STATE_HANDLE =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    static {
+        if (END > SIZE) {
+            throw new ExceptionInInitializerError("Claim record layout exceeds " + SIZE + " bytes");
+        }
+    }
+
+    private ClaimRecord() {
+    }
+
+    /**
+     * Encodes a claim into a new {@link #PENDING} record. Throws {@link DataIntegrityViolationException} if a value
+     * does not fit its slot, as the database would for an over-long column.
+     */
+    static ByteBuffer encode(Claim claim) {
+        ByteBuffer record = ByteBuffer.allocate(SIZE);
+        int flags = 0;
+        record.putInt(STATE, PENDING);
+        record.putLong(ID_HIGH, claim.getId().getMostSignificantBits());
+        record.putLong(ID_LOW, claim.getId().getLeastSignificantBits());
+        record.putLong(VERSION, claim.getVersion() == null ? 0 : claim.getVersion());
+        if (claim.getCreatedAt() != null) {
+            flags |= HAS_CREATED_AT;
+            record.putLong(CREATED_SECONDS, claim.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            record.putInt(CREATED_NANOS, claim.getCreatedAt().getNano());
+        }
+        if (claim.getClaimAmount() != null) {
+            flags |= HAS_AMOUNT;
+            putDecimal(record, AMOUNT_UNSCALED, AMOUNT_SCALE, claim.getClaimAmount(), "claimAmount");
+        }
+        if (claim.getFraudScore() != null) {
+            flags |= HAS_FRAUD_SCORE;
+            putDecimal(record, FRAUD_SCORE_UNSCALED, FRAUD_SCORE_SCALE, claim.getFraudScore(), "fraudScore");
+        }
+        if (claim.getAssessmentVersion() != null) {
+            flags |= HAS_ASSESSMENT_VERSION;
+            record.putInt(ASSESSMENT_VERSION, claim.getAssessmentVersion());
+        }
+        if (claim.getAssessedAt() != null) {
+            flags |= HAS_ASSESSED_AT;
+            record.putLong(ASSESSED_SECONDS, claim.getAssessedAt().toEpochSecond(ZoneOffset.UTC));
+            record.putInt(ASSESSED_NANOS, claim.getAssessedAt().getNano());
+        }
+        record.putInt(FLAGS, flags);
+        putString(record, CLAIMANT_NAME, CLAIM_TYPE, claim.getClaimantName(), "claimantName");
+        putString(record, CLAIM_TYPE, STATUS, claim.getClaimType(), "claimType");
+        putString(record, STATUS, VALIDATION_STATUS, claim.getStatus(), "status");
+        putString(record, VALIDATION_STATUS, RISK_LEVEL, claim.getValidationStatus(), "validationStatus");
+        putString(record, RISK_LEVEL, SUGGESTED_QUEUE, claim.getRiskLevel(), "riskLevel");
+        putString(record, SUGGESTED_QUEUE, END, claim.getSuggestedQueue(), "suggestedQueue");
+        return record;
+    }
+
+    /**
+     * Decodes the record at {@code offset} straight from the (mapped) buffer.
+     */
+    static Claim decode(ByteBuffer buffer, int offset) {
+        int flags = buffer.getInt(offset + FLAGS);
+        Claim claim = new Claim();
+        claim.setId(id(buffer, offset));
+        claim.setVersion(version(buffer, offset));
+        if ((flags & HAS_CREATED_AT) != 0) {
+            claim.setCreatedAt(dateTime(buffer, offset + CREATED_SECONDS, offset + CREATED_NANOS));
+        }
+        if ((flags & HAS_AMOUNT) != 0) {
+            claim.setClaimAmount(decimal(buffer, offset + AMOUNT_UNSCALED, offset + AMOUNT_SCALE));
+        }
+        if ((flags & HAS_FRAUD_SCORE) != 0) {
+            claim.setFraudScore(decimal(buffer, offset + FRAUD_SCORE_UNSCALED, offset + FRAUD_SCORE_SCALE));
+        }
+        if ((flags & HAS_ASSESSMENT_VERSION) != 0) {
+            claim.setAssessmentVersion(buffer.getInt(offset + ASSESSMENT_VERSION));
+        }
+        if ((flags & HAS_ASSESSED_AT) != 0) {
+            claim.setAssessedAt(dateTime(buffer, offset + ASSESSED_SECONDS, offset + ASSESSED_NANOS));
+        }
+        claim.setClaimantName(string(buffer, offset + CLAIMANT_NAME));
+        claim.setClaimType(string(buffer, offset + CLAIM_TYPE));
+        claim.setStatus(string(buffer, offset + STATUS));
+        claim.setValidationStatus(string(buffer, offset + VALIDATION_STATUS));
+        claim.setRiskLevel(string(buffer, offset + RISK_LEVEL));
+        claim.setSuggestedQueue(string(buffer, offset + SUGGESTED_QUEUE));
+        return claim;
+    }
+
+    static int state(ByteBuffer buffer, int offset) {
+        return (int) STATE_HANDLE.getAcquire(buffer, offset + STATE);
+    }
+
+    static void setState(ByteBuffer buffer, int offset, int state) {
+        STATE_HANDLE.setRelease(buffer, offset + STATE, state);
+    }
+
+    static boolean compareAndSetState(ByteBuffer buffer, int offset, int expected, int state) {
+        return STATE_HANDLE.compareAndSet(buffer, offset + STATE, expected, state);
+    }
+
+    static UUID id(ByteBuffer buffer, int offset) {
+        return new UUID(idHigh(buffer, offset), idLow(buffer, offset));
+    }
+
+    static long idHigh(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + ID_HIGH);
+    }
+
+    static long idLow(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + ID_LOW);
+    }
+
+    static long version(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset + VERSION);
+    }
+
+    /**
+     * Creation time as UTC epoch seconds, or {@link Long#MIN_VALUE} when the claim has none.
+     */
+    static long createdSeconds(ByteBuffer buffer, int offset) {
+        return (buffer.getInt(offset + FLAGS) & HAS_CREATED_AT) == 0
+                ? Long.MIN_VALUE : buffer.getLong(offset + CREATED_SECONDS);
+    }
+
+    static int createdNanos(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset + CREATED_NANOS);
+    }
+
+    private static void putDecimal(ByteBuffer record, int unscaledOffset, int scaleOffset, BigDecimal value,
+                                   String field) {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            throw new DataIntegrityViolationException(field + " " + value + " does not fit the claim record");
+        }
+        record.putLong(unscaledOffset, unscaled.longValue());
+        record.putInt(scaleOffset, value.scale());
+    }
+
+    private static BigDecimal decimal(ByteBuffer buffer, int unscaledOffset, int scaleOffset) {
+        return BigDecimal.valueOf(buffer.getLong(unscaledOffset), buffer.getInt(scaleOffset));
+    }
+
+    private static LocalDateTime dateTime(ByteBuffer buffer, int secondsOffset, int nanosOffset) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(secondsOffset), buffer.getInt(nanosOffset), ZoneOffset.UTC);
+    }
+
+    private static void putString(ByteBuffer record, int offset, int end, String value, String field) {
+        if (value == null) {
+            record.putShort(offset, (short) NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int capacity = end - offset - 2;
+        if (bytes.length > capacity) {
+            throw new DataIntegrityViolationException(
+                    field + " is " + bytes.length + " bytes in UTF-8; the claim record holds at most " + capacity);
+        }
+        record.putShort(offset, (short) bytes.length);
+        record.put(offset + 2, bytes);
+    }
+
+    private static String string(ByteBuffer buffer, int offset) {
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One segment file of {@code capacity} fixed-size {@link ClaimRecord} slots, mapped into memory in full. Slots are
+ * handed out once each by a CAS on the next free slot, so concurrent appends never contend on a lock. Superseded
+ * and deleted records stay in place, flagged {@link ClaimRecord#DEAD}, until the segment is compacted.
+ */
+final class ClaimSegment implements Closeable {
+
+    private final int number;
+    private final Path file;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger dead = new AtomicInteger();
+
+    private ClaimSegment(int number, Path file, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+        this.number = number;
+        this.file = file;
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps {@code file}, creating it if needed. The file is grown to its full size up front; on most file systems
+     * the unwritten part stays sparse.
+     */
+    static ClaimSegment open(int number, Path file, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * ClaimRecord.SIZE);
+            return new ClaimSegment(number, file, capacity, channel, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    int number() {
+        return number;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Reserves the next free slot, or returns -1 once the segment is full.
+     */
+    int reserve() {
+        while (true) {
+            int slot = next.get();
+            if (slot >= capacity) {
+                return -1;
+            }
+            if (next.compareAndSet(slot, slot + 1)) {
+                return slot;
+            }
+        }
+    }
+
+    int used() {
+        return Math.min(next.get(), capacity);
+    }
+
+    boolean isFull() {
+        return next.get() >= capacity;
+    }
+
+    /**
+     * Flags the record in {@code slot} dead, counting it once even if several writers race.
+     */
+    boolean kill(int slot, int expectedState) {
+        if (ClaimRecord.compareAndSetState(buffer, offset(slot), expectedState, ClaimRecord.DEAD)) {
+            dead.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Share of used slots whose records are dead or were never written.
+     */
+    double deadRatio() {
+        int used = used();
+        return used == 0 ? 0.0 : (double) dead.get() / used;
+    }
+
+    /**
+     * Rebuilds the slot counters after a restart: the next free slot follows the last written record, and slots
+     * below it that were reserved but never written count as dead.
+     */
+    void recover(int lastWritten, int deadRecords) {
+        next.set(lastWritten + 1);
+        dead.addAndGet(deadRecords);
+    }
+
+    static int offset(int slot) {
+        return slot * ClaimRecord.SIZE;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file);
+    }
+}
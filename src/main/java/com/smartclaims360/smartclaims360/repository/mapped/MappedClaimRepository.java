@@ -0,0 +1,422 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatisticsListener;
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.entity.UuidV7Generator;
+import com.smartclaims360.smartclaims360.repository.ClaimCache;
+import com.smartclaims360.smartclaims360.repository.ClaimCacheListener;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.repository.ClaimRow;
+import com.smartclaims360.smartclaims360.repository.ClaimTableFingerprint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectRetrievalFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link ClaimRepository} over a {@link MappedClaimStore} for the {@code edge} profile, which runs without a
+ * database or Hibernate. Ids, creation timestamps and versions are assigned as the entity mapping would, a save
+ * with a stale version fails with {@link OptimisticLockingFailureException}, and the entity listeners are invoked
+ * directly after each write. Every call is applied on its own: there are no transactions to roll back.
+ * <p>
+ * Pages and streams in (createdAt, id) order sort the index on each call rather than keeping a second index, which
+ * suits edge-sized stores. Query-by-example and sorted queries are not supported.
+ */
+@Repository
+@Profile("edge")
+public class MappedClaimRepository implements ClaimRepository {
+
+    @Value("${claims.storage.data-dir:./data}")
+    private Path dataDir;
+
+    @Value("${claims.edge.segment-records:65536}")
+    private int segmentRecords;
+
+    @Value("${claims.edge.compaction.dead-ratio:0.5}")
+    private double compactionDeadRatio;
+
+    @Autowired
+    private ClaimStatisticsListener claimStatisticsListener;
+
+    @Autowired
+    private ClaimCacheListener claimCacheListener;
+
+    @Autowired
+    private ClaimCache claimCache;
+
+    private MappedClaimStore store;
+
+    @PostConstruct
+    void open() throws IOException {
+        store = MappedClaimStore.open(dataDir.resolve("segments"), segmentRecords);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        store.close();
+    }
+
+    @Scheduled(fixedDelayString = "${claims.edge.compaction.interval:1m}")
+    public void compact() {
+        store.compact(compactionDeadRatio);
+    }
+
+    @Scheduled(fixedDelayString = "${claims.edge.force-interval:1s}")
+    public void force() {
+        store.force();
+    }
+
+    @Override
+    public <S extends Claim> S save(S claim) {
+        Long expectedVersion = claim.getVersion();
+        boolean insert = expectedVersion == null;
+        if (claim.getId() == null) {
+            claim.setId(UuidV7Generator.next());
+        }
+        LocalDateTime createdAt = insert ? claim.getCreatedAt() : storedCreatedAt(claim.getId(), claim.getCreatedAt());
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+
+        Claim stored = copyOf(claim);
+        stored.setCreatedAt(createdAt);
+        stored.setVersion(insert ? 0L : expectedVersion + 1);
+        ByteBuffer record = ClaimRecord.encode(stored);
+        store.write(claim.getId(), record, current -> {
+            if (insert && current != ClaimIdIndex.ABSENT) {
+                throw new DuplicateKeyException("Claim " + claim.getId() + " already exists");
+            }
+            if (!insert && (current == ClaimIdIndex.ABSENT || store.version(current) != expectedVersion)) {
+                throw new OptimisticLockingFailureException(
+                        "Claim " + claim.getId() + " was modified or deleted since version " + expectedVersion);
+            }
+        });
+
+        claim.setCreatedAt(createdAt);
+        claim.setVersion(stored.getVersion());
+        if (insert) {
+            claimStatisticsListener.onPersist(claim);
+        }
+        claimCacheListener.onWrite(claim);
+        return claim;
+    }
+
+    @Override
+    public <S extends Claim> List<S> saveAll(Iterable<S> claims) {
+        List<S> saved = new ArrayList<>();
+        for (S claim : claims) {
+            saved.add(save(claim));
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends Claim> S saveAndFlush(S claim) {
+        return save(claim);
+    }
+
+    @Override
+    public <S extends Claim> List<S> saveAllAndFlush(Iterable<S> claims) {
+        return saveAll(claims);
+    }
+
+    /**
+     * Same contract as {@code ClaimJdbcRepository#updateFraudScores}, except that each claim is updated on its own:
+     * claims before a conflicting one in the list keep their new scores.
+     */
+    @Override
+    public void updateFraudScores(List<Claim> scoredClaims) {
+        List<Claim> claims = scoredClaims.stream().distinct().toList();
+        for (Claim claim : claims) {
+            Claim updated = store.update(claim.getId(), stored -> {
+                if (claim.getVersion() != null && !claim.getVersion().equals(stored.getVersion())) {
+                    throw new OptimisticLockingFailureException(
+                            "Claim " + claim.getId() + " was modified or deleted since version " + claim.getVersion());
+                }
+                stored.setFraudScore(claim.getFraudScore());
+                stored.setRiskLevel(claim.getRiskLevel());
+                stored.setSuggestedQueue(null);
+                stored.setVersion(stored.getVersion() + 1);
+                return stored;
+            });
+            if (updated == null && claim.getVersion() != null) {
+                throw new OptimisticLockingFailureException(
+                        "Claim " + claim.getId() + " was modified or deleted since version " + claim.getVersion());
+            }
+            claim.setSuggestedQueue(null);
+            if (claim.getVersion() != null) {
+                claim.setVersion(claim.getVersion() + 1);
+            }
+        }
+        claimCache.invalidateAfterCommit(claims.stream().map(Claim::getId).toList());
+    }
+
+    @Override
+    public Optional<Claim> findById(UUID id) {
+        return Optional.ofNullable(store.read(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return store.contains(id);
+    }
+
+    @Override
+    public List<Claim> findAll() {
+        try (Stream<Claim> claims = streamAll()) {
+            return claims.toList();
+        }
+    }
+
+    @Override
+    public List<Claim> findAll(Sort sort) {
+        if (sort.isSorted()) {
+            throw unsupported("Sorted queries");
+        }
+        return findAll();
+    }
+
+    @Override
+    public Page<Claim> findAll(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw unsupported("Sorted queries");
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll());
+        }
+        try (Stream<Claim> claims = streamAll()) {
+            List<Claim> content = claims.skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+            return new PageImpl<>(content, pageable, store.count());
+        }
+    }
+
+    @Override
+    public List<Claim> findAllById(Iterable<UUID> ids) {
+        List<Claim> claims = new ArrayList<>();
+        for (UUID id : ids) {
+            findById(id).ifPresent(claims::add);
+        }
+        return claims;
+    }
+
+    @Override
+    public long count() {
+        return store.count();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        Claim removed = store.delete(id, current -> { });
+        if (removed != null) {
+            claimStatisticsListener.onRemove(removed);
+            claimCacheListener.onWrite(removed);
+        }
+    }
+
+    @Override
+    public void delete(Claim claim) {
+        Claim removed = store.delete(claim.getId(), current -> {
+            if (claim.getVersion() != null && store.version(current) != claim.getVersion()) {
+                throw new OptimisticLockingFailureException(
+                        "Claim " + claim.getId() + " was modified since version " + claim.getVersion());
+            }
+        });
+        if (removed != null) {
+            claimStatisticsListener.onRemove(removed);
+            claimCacheListener.onWrite(removed);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends UUID> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Claim> claims) {
+        claims.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        try (Stream<Claim> claims = store.scan()) {
+            claims.map(Claim::getId).toList().forEach(this::deleteById);
+        }
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Claim> claims) {
+        deleteAll(claims);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<UUID> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    @Deprecated
+    public Claim getOne(UUID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Claim getById(UUID id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Claim getReferenceById(UUID id) {
+        return findById(id).orElseThrow(() -> new ObjectRetrievalFailureException(Claim.class, id));
+    }
+
+    @Override
+    public List<Claim> findPage(ClaimFilter filter, ClaimCursor after, int limit) {
+        try (Stream<Claim> claims = after == null
+                ? streamAll()
+                : streamAfter(after.createdAt(), after.id())) {
+            return claims.filter(claim -> matches(filter, claim)).limit(limit).toList();
+        }
+    }
+
+    @Override
+    public Stream<Claim> streamAll() {
+        return store.ordered(null, null);
+    }
+
+    @Override
+    public Stream<Claim> streamAfter(LocalDateTime createdAt, UUID id) {
+        return store.ordered(createdAt, id);
+    }
+
+    @Override
+    public Stream<ClaimRow> streamRows() {
+        return store.scan().map(claim -> new ClaimRow(claim.getId(), claim.getClaimAmount(), claim.getClaimType(),
+                claim.getClaimantName(), claim.getCreatedAt()));
+    }
+
+    @Override
+    public ClaimTableFingerprint fingerprint() {
+        long count = 0;
+        BigDecimal amountSum = null;
+        LocalDateTime latestCreatedAt = null;
+        try (Stream<Claim> claims = store.scan()) {
+            for (Claim claim : (Iterable<Claim>) claims::iterator) {
+                count++;
+                amountSum = amountSum == null ? claim.getClaimAmount() : amountSum.add(claim.getClaimAmount());
+                if (latestCreatedAt == null
+                        || claim.getCreatedAt() != null && claim.getCreatedAt().isAfter(latestCreatedAt)) {
+                    latestCreatedAt = claim.getCreatedAt();
+                }
+            }
+        }
+        return new ClaimTableFingerprint(count, amountSum, latestCreatedAt);
+    }
+
+    @Override
+    public <S extends Claim> Optional<S> findOne(Example<S> example) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim> List<S> findAll(Example<S> example) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim> long count(Example<S> example) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim> boolean exists(Example<S> example) {
+        throw unsupported("Query by example");
+    }
+
+    @Override
+    public <S extends Claim, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported("Query by example");
+    }
+
+    private LocalDateTime storedCreatedAt(UUID id, LocalDateTime fallback) {
+        Claim existing = store.read(id);
+        return existing != null && existing.getCreatedAt() != null ? existing.getCreatedAt() : fallback;
+    }
+
+    private static boolean matches(ClaimFilter filter, Claim claim) {
+        if (filter == null) {
+            return true;
+        }
+        return (filter.getClaimType() == null || filter.getClaimType().equals(claim.getClaimType()))
+                && (filter.getStatus() == null || filter.getStatus().equals(claim.getStatus()))
+                && (filter.getMinAmount() == null || atLeast(claim.getClaimAmount(), filter.getMinAmount()))
+                && (filter.getMaxAmount() == null || atLeast(filter.getMaxAmount(), claim.getClaimAmount()))
+                && (filter.getMinFraudScore() == null || atLeast(claim.getFraudScore(), filter.getMinFraudScore()))
+                && (filter.getCreatedFrom() == null
+                        || claim.getCreatedAt() != null && !claim.getCreatedAt().isBefore(filter.getCreatedFrom()))
+                && (filter.getCreatedTo() == null
+                        || claim.getCreatedAt() != null && claim.getCreatedAt().isBefore(filter.getCreatedTo()));
+    }
+
+    private static boolean atLeast(BigDecimal value, BigDecimal bound) {
+        return value != null && bound != null && value.compareTo(bound) >= 0;
+    }
+
+    private static Claim copyOf(Claim claim) {
+        return new Claim(claim.getId(), claim.getClaimantName(), claim.getClaimAmount(), claim.getClaimType(),
+                claim.getStatus(), claim.getCreatedAt(), claim.getFraudScore(), claim.getValidationStatus(),
+                claim.getRiskLevel(), claim.getSuggestedQueue(), claim.getAssessmentVersion(), claim.getAssessedAt(),
+                claim.getVersion());
+    }
+
+    private static UnsupportedOperationException unsupported(String feature) {
+        return new UnsupportedOperationException(feature + " is not supported by the edge storage profile");
+    }
+}
@@ -0,0 +1,416 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Claims stored as {@link ClaimRecord}s in memory-mapped {@link ClaimSegment} files under one directory, with a
+ * {@link ClaimIdIndex} from id to the current record. Records are never updated in place: a write appends a new
+ * record and, under the index's write lock, checks it against the current one, marks it live, points the index at it
+ * and flags the old record dead. Appending only reserves a slot with a CAS; rolling over to a new segment file is the
+ * one step that takes a lock.
+ * <p>
+ * On open every segment is scanned to rebuild the index. Records still pending when the process stopped are dropped,
+ * and if an update was interrupted between marking its new record live and flagging the old one dead, the higher
+ * version wins. Writes reach the page cache immediately and survive a process crash; {@link #force()} flushes them
+ * to disk.
+ */
+final class MappedClaimStore implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "claims-";
+    private static final String SEGMENT_SUFFIX = ".segment";
+
+    private static final Comparator<long[]> KEY_ORDER = Comparator
+            .<long[]>comparingLong(key -> key[0])
+            .thenComparingLong(key -> key[1])
+            .thenComparing((a, b) -> Long.compareUnsigned(a[2], b[2]))
+            .thenComparing((a, b) -> Long.compareUnsigned(a[3], b[3]));
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final ConcurrentHashMap<Integer, ClaimSegment> segments = new ConcurrentHashMap<>();
+    private final ClaimIdIndex index = new ClaimIdIndex(0);
+    private final Object rollLock = new Object();
+    private volatile ClaimSegment active;
+    private int nextSegment;
+
+    private MappedClaimStore(Path directory, int segmentRecords) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+    }
+
+    /**
+     * Opens the store in {@code directory}, creating it if needed. New segment files hold {@code segmentRecords}
+     * records each; existing files keep the size they were created with.
+     */
+    static MappedClaimStore open(Path directory, int segmentRecords) throws IOException {
+        if (segmentRecords < 1 || segmentRecords > Integer.MAX_VALUE / ClaimRecord.SIZE) {
+            throw new IllegalArgumentException("Segment size must be between 1 and "
+                    + Integer.MAX_VALUE / ClaimRecord.SIZE + " records, was " + segmentRecords);
+        }
+        MappedClaimStore store = new MappedClaimStore(directory, segmentRecords);
+        try {
+            store.recover();
+        } catch (IOException | RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    Claim read(UUID id) {
+        while (true) {
+            long location = index.get(id);
+            if (location == ClaimIdIndex.ABSENT) {
+                return null;
+            }
+            ClaimSegment segment = segments.get(segmentOf(location));
+            if (segment != null) {
+                return ClaimRecord.decode(segment.buffer(), ClaimSegment.offset(slotOf(location)));
+            }
+            // The segment was compacted away after the lookup; the index already points at the moved record.
+        }
+    }
+
+    boolean contains(UUID id) {
+        return index.get(id) != ClaimIdIndex.ABSENT;
+    }
+
+    int count() {
+        return index.size();
+    }
+
+    /**
+     * Appends {@code record} as the new current record of {@code id}. {@code check} gets the location of the
+     * current record, or {@link ClaimIdIndex#ABSENT}, and may throw to reject the write, in which case the appended
+     * record is discarded.
+     */
+    void write(UUID id, ByteBuffer record, LongConsumer check) {
+        long location = append(record, 0);
+        try {
+            index.update(id, current -> {
+                check.accept(current);
+                return replace(current, location);
+            });
+        } catch (RuntimeException e) {
+            kill(location, ClaimRecord.PENDING);
+            throw e;
+        }
+    }
+
+    /**
+     * Applies {@code change} to the current claim with this id and stores the result, atomically with respect to
+     * other writes. Returns the stored claim, or null if there is no claim with the id or {@code change} returned
+     * null.
+     */
+    Claim update(UUID id, UnaryOperator<Claim> change) {
+        Claim[] updated = new Claim[1];
+        index.update(id, current -> {
+            if (current == ClaimIdIndex.ABSENT) {
+                return current;
+            }
+            updated[0] = change.apply(decode(current));
+            if (updated[0] == null) {
+                return current;
+            }
+            return replace(current, append(ClaimRecord.encode(updated[0]), 0));
+        });
+        return updated[0];
+    }
+
+    /**
+     * Removes the claim with this id if {@code check} accepts its current location, returning the removed claim or
+     * null if there was none.
+     */
+    Claim delete(UUID id, LongConsumer check) {
+        Claim[] removed = new Claim[1];
+        index.update(id, current -> {
+            if (current == ClaimIdIndex.ABSENT) {
+                return current;
+            }
+            check.accept(current);
+            removed[0] = decode(current);
+            kill(current, ClaimRecord.LIVE);
+            return ClaimIdIndex.ABSENT;
+        });
+        return removed[0];
+    }
+
+    long version(long location) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        return ClaimRecord.version(segment.buffer(), ClaimSegment.offset(slotOf(location)));
+    }
+
+    /**
+     * Every live claim, in no particular order. Claims are decoded as the stream is consumed; only the index entries
+     * are copied up front.
+     */
+    Stream<Claim> scan() {
+        long[] entries = index.entries();
+        return IntStream.range(0, entries.length / 3)
+                .mapToObj(i -> read(entries[3 * i], entries[3 * i + 1], entries[3 * i + 2]))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Live claims in (createdAt, id) order, starting after the given position if {@code afterCreatedAt} is not
+     * null. Ids compare as unsigned numbers, as the database orders UUIDs. Only the sort keys are held in memory.
+     */
+    Stream<Claim> ordered(LocalDateTime afterCreatedAt, UUID afterId) {
+        long[] after = afterCreatedAt == null ? null : new long[] {
+                afterCreatedAt.toEpochSecond(ZoneOffset.UTC), afterCreatedAt.getNano(),
+                afterId.getMostSignificantBits(), afterId.getLeastSignificantBits()};
+        long[] entries = index.entries();
+        List<long[]> keys = new ArrayList<>(entries.length / 3);
+        for (int i = 0; i < entries.length; i += 3) {
+            long[] key = key(entries[i], entries[i + 1], entries[i + 2]);
+            if (key != null && (after == null || KEY_ORDER.compare(key, after) > 0)) {
+                keys.add(key);
+            }
+        }
+        keys.sort(KEY_ORDER);
+        return keys.stream()
+                .map(key -> read(key[2], key[3], key[4]))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Moves the live records out of every full segment whose dead share has reached {@code deadRatio} and deletes
+     * its file. Segments with writes still in flight are left for the next run. Returns the number of segments
+     * removed.
+     */
+    synchronized int compact(double deadRatio) {
+        int removed = 0;
+        for (ClaimSegment segment : List.copyOf(segments.values())) {
+            if (segment == active || !segment.isFull() || segment.deadRatio() < deadRatio || hasWritesInFlight(segment)) {
+                continue;
+            }
+            for (int slot = 0; slot < segment.capacity(); slot++) {
+                int offset = ClaimSegment.offset(slot);
+                if (ClaimRecord.state(segment.buffer(), offset) != ClaimRecord.LIVE) {
+                    continue;
+                }
+                long location = location(segment.number(), slot);
+                index.update(ClaimRecord.id(segment.buffer(), offset), current -> current == location
+                        ? replace(current, append(segment.buffer(), offset))
+                        : current);
+            }
+            segments.remove(segment.number());
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not delete compacted segment " + segment.number(), e);
+            }
+            removed++;
+        }
+        return removed;
+    }
+
+    void force() {
+        segments.values().forEach(ClaimSegment::force);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (ClaimSegment segment : segments.values()) {
+            try {
+                segment.force();
+                segment.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private long append(ByteBuffer source, int sourceOffset) {
+        while (true) {
+            ClaimSegment segment = active;
+            int slot = segment.reserve();
+            if (slot >= 0) {
+                segment.buffer().put(ClaimSegment.offset(slot), source, sourceOffset, ClaimRecord.SIZE);
+                return location(segment.number(), slot);
+            }
+            roll(segment);
+        }
+    }
+
+    /**
+     * Publishes the record at {@code location} and retires {@code current}; runs under the index's write lock.
+     */
+    private long replace(long current, long location) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        ClaimRecord.setState(segment.buffer(), ClaimSegment.offset(slotOf(location)), ClaimRecord.LIVE);
+        if (current != ClaimIdIndex.ABSENT) {
+            kill(current, ClaimRecord.LIVE);
+        }
+        return location;
+    }
+
+    private void kill(long location, int expectedState) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        if (segment != null) {
+            segment.kill(slotOf(location), expectedState);
+        }
+    }
+
+    private Claim decode(long location) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        return ClaimRecord.decode(segment.buffer(), ClaimSegment.offset(slotOf(location)));
+    }
+
+    private Claim read(long idHigh, long idLow, long location) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        if (segment == null) {
+            return read(new UUID(idHigh, idLow));
+        }
+        return ClaimRecord.decode(segment.buffer(), ClaimSegment.offset(slotOf(location)));
+    }
+
+    /**
+     * Sort key (created seconds, created nanos, id high, id low, location), or null if the claim is gone.
+     */
+    private long[] key(long idHigh, long idLow, long location) {
+        ClaimSegment segment = segments.get(segmentOf(location));
+        if (segment != null) {
+            int offset = ClaimSegment.offset(slotOf(location));
+            return new long[] {ClaimRecord.createdSeconds(segment.buffer(), offset),
+                    ClaimRecord.createdNanos(segment.buffer(), offset), idHigh, idLow, location};
+        }
+        Claim moved = read(new UUID(idHigh, idLow));
+        if (moved == null) {
+            return null;
+        }
+        LocalDateTime createdAt = moved.getCreatedAt();
+        return new long[] {createdAt == null ? Long.MIN_VALUE : createdAt.toEpochSecond(ZoneOffset.UTC),
+                createdAt == null ? 0 : createdAt.getNano(), idHigh, idLow, location};
+    }
+
+    private void roll(ClaimSegment full) {
+        synchronized (rollLock) {
+            if (active != full) {
+                return;
+            }
+            try {
+                ClaimSegment segment = ClaimSegment.open(nextSegment, segmentFile(nextSegment), segmentRecords);
+                segments.put(segment.number(), segment);
+                nextSegment++;
+                active = segment;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create claim segment in " + directory, e);
+            }
+        }
+    }
+
+    private static boolean hasWritesInFlight(ClaimSegment segment) {
+        for (int slot = 0; slot < segment.capacity(); slot++) {
+            int state = ClaimRecord.state(segment.buffer(), ClaimSegment.offset(slot));
+            if (state == ClaimRecord.EMPTY || state == ClaimRecord.PENDING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Integer> numbers;
+        try (Stream<Path> files = Files.list(directory)) {
+            numbers = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        for (int number : numbers) {
+            Path file = segmentFile(number);
+            int capacity = (int) (Files.size(file) / ClaimRecord.SIZE);
+            ClaimSegment segment = ClaimSegment.open(number, file, capacity > 0 ? capacity : segmentRecords);
+            segments.put(number, segment);
+            recover(segment);
+            active = segment;
+            nextSegment = number + 1;
+        }
+        if (active == null || active.isFull()) {
+            roll(active);
+        }
+    }
+
+    private void recover(ClaimSegment segment) {
+        int lastWritten = -1;
+        int dead = 0;
+        for (int slot = 0; slot < segment.capacity(); slot++) {
+            int offset = ClaimSegment.offset(slot);
+            int state = ClaimRecord.state(segment.buffer(), offset);
+            if (state == ClaimRecord.EMPTY) {
+                continue;
+            }
+            lastWritten = slot;
+            if (state != ClaimRecord.LIVE) {
+                ClaimRecord.setState(segment.buffer(), offset, ClaimRecord.DEAD);
+                dead++;
+                continue;
+            }
+            long location = location(segment.number(), slot);
+            long version = ClaimRecord.version(segment.buffer(), offset);
+            index.update(ClaimRecord.id(segment.buffer(), offset), current -> {
+                if (current == ClaimIdIndex.ABSENT) {
+                    return location;
+                }
+                if (version >= version(current)) {
+                    kill(current, ClaimRecord.LIVE);
+                    return location;
+                }
+                kill(location, ClaimRecord.LIVE);
+                return current;
+            });
+        }
+        // Slots reserved but never written before the stop will not be written now.
+        for (int slot = 0; slot < lastWritten; slot++) {
+            int offset = ClaimSegment.offset(slot);
+            if (ClaimRecord.state(segment.buffer(), offset) == ClaimRecord.EMPTY) {
+                ClaimRecord.setState(segment.buffer(), offset, ClaimRecord.DEAD);
+                dead++;
+            }
+        }
+        segment.recover(lastWritten, dead);
+    }
+
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static long location(int segment, int slot) {
+        return ((long) segment << 32) | slot;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int slotOf(long location) {
+        return (int) location;
+    }
+}
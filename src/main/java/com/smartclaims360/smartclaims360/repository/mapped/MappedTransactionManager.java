@@ -0,0 +1,39 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Transaction manager for the {@code edge} profile, where {@link MappedClaimRepository} applies every write as it
+ * happens. Transactions are accepted so callers written against the database need no changes, but they do nothing:
+ * synchronization stays off, so entity-listener and cache updates run right after each write instead of waiting for
+ * a commit, and a rollback undoes nothing.
+ */
+@Component
+@Profile("edge")
+public class MappedTransactionManager extends AbstractPlatformTransactionManager {
+
+    public MappedTransactionManager() {
+        setTransactionSynchronization(SYNCHRONIZATION_NEVER);
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.ai.service.ClaimAssessmentService;
+import com.smartclaims360.smartclaims360.dto.BulkClaimResponse;
+import com.smartclaims360.smartclaims360.dto.BulkItemResult;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.MalformedBulkRequestException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Ingests a JSON array of {@link ClaimRequest}s read incrementally from the request body. Valid items
+ * are stored in chunks of {@code claims.bulk.chunk-size}, each chunk in its own transaction and sent
+ * as JDBC batches. Items are stored with their assessment (rules-engine verdict, fraud score against
+ * the current statistics and routing queue), computed without calling the LLM provider.
+ */
+@Service
+public class ClaimBulkService {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimAssessmentService claimAssessmentService;
+
+    @Value("${claims.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public BulkClaimResponse ingest(InputStream body) {
+        List<BulkItemResult> results = new ArrayList<>();
+        List<Claim> chunk = new ArrayList<>(chunkSize);
+        List<BulkItemResult> chunkResults = new ArrayList<>(chunkSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new MalformedBulkRequestException("Request body must be a JSON array of claims", null);
+            }
+
+            int index = 0;
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end-of-input: expected close marker for the claims array");
+                }
+                JsonNode item = parser.readValueAsTree();
+                BulkItemResult result = new BulkItemResult(index++, "ACCEPTED", null, null);
+                results.add(result);
+
+                Claim claim = toClaim(item, result);
+                if (claim == null) {
+                    continue;
+                }
+                chunk.add(claim);
+                chunkResults.add(result);
+                if (chunk.size() == chunkSize) {
+                    store(chunk, chunkResults);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            store(chunk, chunkResults);
+            throw new MalformedBulkRequestException("Malformed JSON after item " + results.size()
+                    + "; items before it were processed: " + e.getOriginalMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        store(chunk, chunkResults);
+
+        int accepted = (int) results.stream().filter(result -> result.getId() != null).count();
+        return new BulkClaimResponse(results.size(), accepted, results.size() - accepted, results);
+    }
+
+    private Claim toClaim(JsonNode item, BulkItemResult result) {
+        ClaimRequest request;
+        try {
+            request = objectMapper.treeToValue(item, ClaimRequest.class);
+        } catch (JsonProcessingException e) {
+            reject(result, List.of("Unreadable claim: " + e.getOriginalMessage()));
+            return null;
+        }
+
+        List<String> violations = validate(request);
+        if (!violations.isEmpty()) {
+            reject(result, violations);
+            return null;
+        }
+        return newClaim(request);
+    }
+
+    /**
+     * Messages of the {@link ClaimRequest} constraints the request breaks, sorted; empty when it is valid.
+     */
+    public List<String> validate(ClaimRequest request) {
+        Set<ConstraintViolation<ClaimRequest>> violations = validator.validate(request);
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().toList();
+    }
+
+    /**
+     * New, unsaved claim for a valid request, assessed without LLM hints.
+     */
+    public Claim newClaim(ClaimRequest request) {
+        Claim claim = new Claim();
+        claim.setClaimantName(request.getClaimantName());
+        claim.setClaimAmount(request.getClaimAmount());
+        claim.setClaimType(request.getClaimType());
+        claim.setStatus("NEW");
+        return claimAssessmentService.assessWithoutHints(claim);
+    }
+
+    private void store(List<Claim> chunk, List<BulkItemResult> chunkResults) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Claim> saved = claimRepository.saveAll(chunk);
+        for (int i = 0; i < saved.size(); i++) {
+            chunkResults.get(i).setId(saved.get(i).getId());
+        }
+        chunk.clear();
+        chunkResults.clear();
+    }
+
+    private static void reject(BulkItemResult result, List<String> errors) {
+        result.setStatus("REJECTED");
+        result.setErrors(errors);
+    }
+}
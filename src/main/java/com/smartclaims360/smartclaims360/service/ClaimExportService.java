@@ -0,0 +1,100 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.ClaimNotFoundException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams the claims table as NDJSON in (createdAt, id) order. Rows are read through a JDBC cursor
+ * with a bounded fetch size and the persistence context is cleared every
+ * {@link ClaimRepository#STREAM_FETCH_SIZE} rows, so memory stays flat whatever the table size.
+ */
+@Service
+public class ClaimExportService {
+
+    private static final byte NEWLINE = '\n';
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * Resolves the resume position up front, so a bad cursor or unknown claim fails before the
+     * response is committed. {@code afterId} resumes after the last claim a client received.
+     */
+    public StreamingResponseBody export(String cursor, UUID afterId) {
+        ClaimCursor after = resolveStart(cursor, afterId);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return out -> transactionTemplate.executeWithoutResult(status -> write(after, out));
+    }
+
+    private ClaimCursor resolveStart(String cursor, UUID afterId) {
+        if (afterId != null) {
+            return claimRepository.findById(afterId)
+                    .map(ClaimCursor::after)
+                    .orElseThrow(() -> new ClaimNotFoundException(afterId));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            return ClaimCursor.decode(cursor);
+        }
+        return null;
+    }
+
+    private void write(ClaimCursor after, OutputStream out) {
+        try (Stream<Claim> claims = after == null
+                ? claimRepository.streamAll()
+                : claimRepository.streamAfter(after.createdAt(), after.id())) {
+            Iterator<Claim> iterator = claims.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write(NEWLINE);
+                if (++written % ClaimRepository.STREAM_FETCH_SIZE == 0) {
+                    clearPersistenceContext();
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Detaches the claims written so far. Under the {@code edge} profile there is no persistence context to clear.
+     */
+    private void clearPersistenceContext() {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        EntityManager entityManager = factory == null ? null : EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+        if (entityManager != null) {
+            entityManager.clear();
+        }
+    }
+}
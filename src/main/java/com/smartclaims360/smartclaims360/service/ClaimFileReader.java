@@ -0,0 +1,131 @@
+package com.smartclaims360.smartclaims360.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a file line by line through read-only memory-mapped windows, copying each line into one reused
+ * byte array. A window is remapped at the start of the first line that does not fit, so lines never
+ * straddle windows and files larger than 2 GB need no special handling. {@link #position()} is the file
+ * offset just past the last line returned, which is what a checkpoint records to resume from.
+ */
+class ClaimFileReader implements Closeable {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    private byte[] line = new byte[256];
+    private int length;
+
+    ClaimFileReader(Path file, long startOffset, int windowSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.position = Math.min(startOffset, size);
+        if (position == 0) {
+            skipByteOrderMark();
+        }
+    }
+
+    /**
+     * Advances to the next line, without its line terminator. Returns {@code false} at end of file.
+     */
+    boolean nextLine() throws IOException {
+        while (position < size) {
+            if (window == null || position >= windowStart + window.limit()) {
+                map(position);
+            }
+            int start = (int) (position - windowStart);
+            int end = indexOfNewline(start);
+            if (end < 0) {
+                if (windowStart + window.limit() < size) {
+                    if (start == 0) {
+                        throw new IOException("Line at offset " + position + " is longer than the read window of " + windowSize + " bytes");
+                    }
+                    map(position);
+                    continue;
+                }
+                copyLine(start, window.limit());
+                position = size;
+                return true;
+            }
+            copyLine(start, end);
+            position = windowStart + end + 1;
+            return true;
+        }
+        return false;
+    }
+
+    byte[] line() {
+        return line;
+    }
+
+    int length() {
+        return length;
+    }
+
+    long position() {
+        return position;
+    }
+
+    long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void map(long offset) throws IOException {
+        windowStart = offset;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, size - offset));
+    }
+
+    private int indexOfNewline(int from) {
+        int limit = window.limit();
+        for (int i = from; i < limit; i++) {
+            if (window.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void copyLine(int start, int end) {
+        if (end > start && window.get(end - 1) == '\r') {
+            end--;
+        }
+        length = end - start;
+        if (length > line.length) {
+            line = Arrays.copyOf(line, Math.max(length, line.length * 2));
+        }
+        window.get(start, line, 0, length);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (size < UTF8_BOM.length) {
+            return;
+        }
+        map(0);
+        for (int i = 0; i < UTF8_BOM.length; i++) {
+            if (window.get(i) != UTF8_BOM[i]) {
+                return;
+            }
+        }
+        position = UTF8_BOM.length;
+    }
+}
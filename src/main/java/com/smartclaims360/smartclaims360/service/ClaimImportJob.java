@@ -0,0 +1,128 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import com.smartclaims360.smartclaims360.dto.ImportJobStatus;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Live progress of one import. Written by the importing thread only and read by status requests.
+ */
+public class ClaimImportJob {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private static final int MAX_REJECTIONS = 100;
+
+    private final UUID id = UUID.randomUUID();
+    private final Path file;
+    private final String fileName;
+    private final ImportFormat format;
+    private final boolean deleteWhenDone;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final List<String> rejections = new ArrayList<>();
+
+    private volatile State state = State.RUNNING;
+    private volatile long totalBytes;
+    private volatile long bytesRead;
+    private volatile long resumedFromOffset;
+    private volatile long rowsImported;
+    private volatile long rowsRejected;
+    private volatile long rowsAtStart;
+    private volatile long finishNanos;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    ClaimImportJob(Path file, String fileName, ImportFormat format, boolean deleteWhenDone) {
+        this.file = file;
+        this.fileName = fileName;
+        this.format = format;
+        this.deleteWhenDone = deleteWhenDone;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    ImportFormat getFormat() {
+        return format;
+    }
+
+    boolean isDeleteWhenDone() {
+        return deleteWhenDone;
+    }
+
+    long getRowsImported() {
+        return rowsImported;
+    }
+
+    long getRowsRejected() {
+        return rowsRejected;
+    }
+
+    void resume(ImportCheckpoint checkpoint) {
+        totalBytes = checkpoint.fileSize();
+        bytesRead = checkpoint.offset();
+        resumedFromOffset = checkpoint.offset();
+        rowsImported = checkpoint.imported();
+        rowsRejected = checkpoint.rejected();
+        rowsAtStart = checkpoint.imported() + checkpoint.rejected();
+    }
+
+    void read(long position) {
+        bytesRead = position;
+    }
+
+    void imported(int rows) {
+        rowsImported += rows;
+    }
+
+    void reject(long line, String reason) {
+        rowsRejected++;
+        synchronized (rejections) {
+            if (rejections.size() < MAX_REJECTIONS) {
+                rejections.add("line " + line + ": " + reason);
+            }
+        }
+    }
+
+    void complete() {
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String reason) {
+        error = reason;
+        finishNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    public ImportJobStatus status() {
+        double seconds = ((state == State.RUNNING ? System.nanoTime() : finishNanos) - startNanos) / 1e9;
+        long processed = rowsImported + rowsRejected - rowsAtStart;
+        List<String> rejectionSample;
+        synchronized (rejections) {
+            rejectionSample = List.copyOf(rejections);
+        }
+        return new ImportJobStatus(id, fileName, format, state.name(), totalBytes, bytesRead,
+                totalBytes > 0 ? bytesRead * 100.0 / totalBytes : state == State.COMPLETED ? 100.0 : 0.0, rowsImported, rowsRejected,
+                seconds == 0 ? 0.0 : processed / seconds, resumedFromOffset, startedAt, finishedAt, rejectionSample, error);
+    }
+}
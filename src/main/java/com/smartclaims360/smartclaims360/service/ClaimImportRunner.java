@@ -0,0 +1,61 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import com.smartclaims360.smartclaims360.dto.ImportJobStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line import mode: {@code --claims.import.file=/data/claims.csv} imports the file at startup,
+ * resuming from its checkpoint if an earlier run was interrupted. With {@code --claims.import.exit=true}
+ * the application exits when the import ends, with status 0 on success and 1 on failure.
+ */
+@Component
+@ConditionalOnProperty(prefix = "claims.import", name = "file")
+public class ClaimImportRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClaimImportRunner.class);
+
+    @Autowired
+    private ClaimImportService claimImportService;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${claims.import.file}")
+    private Path file;
+
+    @Value("${claims.import.format:}")
+    private String format;
+
+    @Value("${claims.import.exit:false}")
+    private boolean exit;
+
+    @Override
+    public void run(String... args) {
+        ImportFormat importFormat = format.isBlank() ? null : ImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        ClaimImportJob job = claimImportService.register(file, importFormat);
+        log.info("Importing {} as job {}", file, job.getId());
+
+        claimImportService.run(job);
+        ImportJobStatus status = job.status();
+        log.info("Import job {} {}: {} imported, {} rejected, {} rows/s{}", job.getId(), status.getState(),
+                status.getRowsImported(), status.getRowsRejected(), Math.round(status.getRowsPerSecond()),
+                status.getError() == null ? "" : " (" + status.getError() + ")");
+
+        if (exit) {
+            int code = job.getState() == ClaimImportJob.State.COMPLETED ? 0 : 1;
+            System.exit(SpringApplication.exit(applicationContext, () -> code));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.InvalidImportRequestException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Imports claim extracts from CSV or NDJSON files. Rows are read through {@link ClaimFileReader}, validated
+ * like {@code POST /claims/bulk} and committed every {@code claims.import.chunk-size} claims, after which the
+ * file's {@link ImportCheckpoint} is advanced. An interrupted import resumes from its checkpoint; a crash
+ * between a commit and the checkpoint write imports that one chunk again. Uploads are kept in
+ * {@code claims.import.directory} until they finish and unfinished ones are resumed on startup.
+ */
+@Service
+public class ClaimImportService {
+
+    @Autowired
+    private ClaimBulkService claimBulkService;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ExecutorService assessmentExecutor;
+
+    @Value("${claims.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${claims.import.read-window:64MB}")
+    private DataSize readWindow;
+
+    @Value("${claims.import.directory:${java.io.tmpdir}/smartclaims360-imports}")
+    private Path directory;
+
+    private final Map<UUID, ClaimImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ClaimImportJob upload(MultipartFile file, ImportFormat format) throws IOException {
+        ImportFormat resolved = resolveFormat(file.getOriginalFilename(), format);
+        Files.createDirectories(directory);
+        Path target = directory.resolve(UUID.randomUUID() + "." + resolved.name().toLowerCase());
+        file.transferTo(target);
+        ImportCheckpoint.start(target).write(target);
+
+        ClaimImportJob job = register(target, file.getOriginalFilename(), resolved, true);
+        assessmentExecutor.execute(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Registers an import of a file on the server's disk; the file itself is left in place.
+     */
+    public ClaimImportJob register(Path file, ImportFormat format) {
+        return register(file, file.getFileName().toString(), resolveFormat(file.getFileName().toString(), format), false);
+    }
+
+    public Optional<ClaimImportJob> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedUploads() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                ImportFormat format = ImportFormat.fromFileName(file.getFileName().toString());
+                if (format != null && Files.exists(ImportCheckpoint.pathFor(file))) {
+                    ClaimImportJob job = register(file, file.getFileName().toString(), format, true);
+                    assessmentExecutor.execute(() -> run(job));
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the import on the calling thread, recording the outcome on the job.
+     */
+    public void run(ClaimImportJob job) {
+        Path file = job.getFile();
+        try {
+            ImportCheckpoint checkpoint = ImportCheckpoint.read(file).orElse(ImportCheckpoint.start(file));
+            job.resume(checkpoint);
+
+            ClaimRowParser parser = ClaimRowParser.forFormat(job.getFormat(), objectMapper.getFactory());
+            if (checkpoint.offset() > 0) {
+                readHeader(file, parser);
+            }
+
+            List<Claim> chunk = new ArrayList<>(chunkSize);
+            long line = checkpoint.line();
+            try (ClaimFileReader reader = new ClaimFileReader(file, checkpoint.offset(), (int) readWindow.toBytes())) {
+                while (reader.nextLine()) {
+                    line++;
+                    Claim claim = toClaim(job, parser, reader, line);
+                    if (claim != null) {
+                        chunk.add(claim);
+                    }
+                    job.read(reader.position());
+                    if (chunk.size() == chunkSize) {
+                        checkpoint = commit(job, chunk, checkpoint, reader.position(), line);
+                    }
+                }
+                commit(job, chunk, checkpoint, reader.position(), line);
+            }
+
+            ImportCheckpoint.delete(file);
+            if (job.isDeleteWhenDone()) {
+                Files.deleteIfExists(file);
+            }
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            job.fail(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private ClaimImportJob register(Path file, String fileName, ImportFormat format, boolean deleteWhenDone) {
+        ClaimImportJob job = new ClaimImportJob(file, fileName, format, deleteWhenDone);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private Claim toClaim(ClaimImportJob job, ClaimRowParser parser, ClaimFileReader reader, long line) {
+        ClaimRequest request;
+        try {
+            request = parser.parse(reader.line(), reader.length());
+        } catch (IllegalArgumentException e) {
+            job.reject(line, e.getMessage());
+            return null;
+        }
+        if (request == null) {
+            return null;
+        }
+
+        List<String> violations = claimBulkService.validate(request);
+        if (!violations.isEmpty()) {
+            job.reject(line, String.join("; ", violations));
+            return null;
+        }
+        return claimBulkService.newClaim(request);
+    }
+
+    private ImportCheckpoint commit(ClaimImportJob job, List<Claim> chunk, ImportCheckpoint previous,
+                                    long offset, long line) throws IOException {
+        claimRepository.saveAll(chunk);
+        job.imported(chunk.size());
+        chunk.clear();
+
+        ImportCheckpoint checkpoint = previous.advance(offset, line, job.getRowsImported(), job.getRowsRejected());
+        checkpoint.write(job.getFile());
+        return checkpoint;
+    }
+
+    /**
+     * Feeds the file's first line to a parser that starts mid-file, so a CSV header still maps the columns.
+     */
+    private void readHeader(Path file, ClaimRowParser parser) throws IOException {
+        try (ClaimFileReader reader = new ClaimFileReader(file, 0, (int) readWindow.toBytes())) {
+            if (reader.nextLine()) {
+                try {
+                    parser.parse(reader.line(), reader.length());
+                } catch (IllegalArgumentException e) {
+                    // The first line was a data row and was handled by the run that wrote the checkpoint.
+                }
+            }
+        }
+    }
+
+    private static ImportFormat resolveFormat(String fileName, ImportFormat format) {
+        if (format != null) {
+            return format;
+        }
+        ImportFormat fromName = ImportFormat.fromFileName(fileName);
+        if (fromName == null) {
+            throw new InvalidImportRequestException("Cannot tell the format of '" + fileName + "'; pass format=CSV or format=NDJSON");
+        }
+        return fromName;
+    }
+}
@@ -0,0 +1,101 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Turns one line of an import file into a {@link ClaimRequest}, reading straight from the line bytes.
+ * Malformed rows throw {@link IllegalArgumentException} with a message for the job's rejection list;
+ * lines that carry no claim, such as blank lines or a CSV header, yield null. Parsers keep per-file
+ * state and are not thread-safe.
+ */
+interface ClaimRowParser {
+
+    String[] KNOWN_CLAIM_TYPES = {"AUTO", "HEALTH", "PROPERTY", "LIFE"};
+    byte[][] KNOWN_CLAIM_TYPE_BYTES = Arrays.stream(KNOWN_CLAIM_TYPES)
+            .map(type -> type.getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    ClaimRequest parse(byte[] line, int length);
+
+    static ClaimRowParser forFormat(ImportFormat format, JsonFactory jsonFactory) {
+        return switch (format) {
+            case CSV -> new CsvClaimRowParser();
+            case NDJSON -> new NdjsonClaimRowParser(jsonFactory);
+        };
+    }
+
+    static boolean isBlank(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Claim type for the given bytes, reusing the constant for the known types so they cost no allocation.
+     */
+    static String claimType(byte[] bytes, int offset, int length) {
+        for (int i = 0; i < KNOWN_CLAIM_TYPE_BYTES.length; i++) {
+            byte[] known = KNOWN_CLAIM_TYPE_BYTES[i];
+            if (Arrays.equals(bytes, offset, offset + length, known, 0, known.length)) {
+                return KNOWN_CLAIM_TYPES[i];
+            }
+        }
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Plain decimal amounts of up to 18 digits are accumulated into an unscaled long; anything else
+     * (exponents, longer values) goes through {@link BigDecimal#BigDecimal(String)}. Empty yields null.
+     */
+    static BigDecimal decimal(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return null;
+        }
+        int end = offset + length;
+        int i = offset;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+
+        long unscaled = 0;
+        int scale = -1;
+        int digits = 0;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (b < '0' || b > '9' || digits == 18) {
+                return parseDecimal(new String(bytes, offset, length, StandardCharsets.UTF_8));
+            }
+            unscaled = unscaled * 10 + (b - '0');
+            digits++;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            throw new IllegalArgumentException("Claim amount is not a number: " + new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    static BigDecimal parseDecimal(String text) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Claim amount is not a number: " + text);
+        }
+    }
+}
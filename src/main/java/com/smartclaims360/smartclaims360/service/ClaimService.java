@@ -1,11 +1,18 @@
 package com.smartclaims360.smartclaims360.service;
 
+import com.smartclaims360.smartclaims360.ai.service.ClaimAssessmentService;
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.dto.ClaimPage;
 import com.smartclaims360.smartclaims360.dto.ClaimRequest;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
+import com.smartclaims360.smartclaims360.repository.ClaimCache;
 import com.smartclaims360.smartclaims360.repository.ClaimRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +20,18 @@ import java.util.UUID;
 @Service
 public class ClaimService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private ClaimRepository claimRepository;
 
+    @Autowired
+    private ClaimAssessmentService claimAssessmentService;
+
+    @Autowired
+    private ClaimCache claimCache;
+
     public Claim createClaim(ClaimRequest claimRequest) {
         Claim claim = new Claim();
         claim.setClaimantName(claimRequest.getClaimantName());
@@ -23,14 +39,39 @@ public class ClaimService {
         claim.setClaimType(claimRequest.getClaimType());
         claim.setStatus("NEW");
         
+        // Assessed before it is stored, so the claim and its assessment go in with a single insert.
+        try {
+            claimAssessmentService.refresh(claim);
+        } catch (AssessmentTimeoutException e) {
+            // Store it unassessed rather than failing the request and inviting a retry; the next read assesses it.
+        }
         return claimRepository.save(claim);
     }
 
-    public List<Claim> getAllClaims() {
-        return claimRepository.findAll();
+    public ClaimPage getClaims(ClaimFilter filter, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        ClaimCursor after = cursor == null || cursor.isBlank() ? null : ClaimCursor.decode(cursor);
+
+        List<Claim> claims = claimRepository.findPage(filter, after, pageSize + 1);
+        if (claims.size() <= pageSize) {
+            return new ClaimPage(claims, null);
+        }
+        List<Claim> page = claims.subList(0, pageSize);
+        return new ClaimPage(page, ClaimCursor.after(page.get(pageSize - 1)).encode());
     }
 
     public Optional<Claim> getClaimById(UUID id) {
-        return claimRepository.findById(id);
+        return claimCache.get(id, claimRepository::findById);
+    }
+
+    /**
+     * Strong entity tag for a stored claim, derived from its version.
+     */
+    public Optional<String> etag(Claim claim) {
+        return Optional.ofNullable(claim.getVersion()).map(version -> "\"" + version + "\"");
+    }
+
+    public List<Claim> getClaimsById(Collection<UUID> ids) {
+        return claimRepository.findAllById(ids);
     }
 }
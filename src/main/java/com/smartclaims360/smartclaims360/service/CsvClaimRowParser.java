@@ -0,0 +1,171 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * RFC 4180 style rows: fields separated by commas, optionally double-quoted with {@code ""} as an escaped
+ * quote. Field boundaries are recorded in reused offset arrays and only the claimant name is decoded into
+ * a new string. Without a header the columns are claimantName, claimAmount, claimType; a first row naming
+ * those columns (in any order, among others) is used as the header.
+ */
+class CsvClaimRowParser implements ClaimRowParser {
+
+    private static final String[] COLUMNS = {"claimantName", "claimAmount", "claimType"};
+    private static final int NAME = 0;
+    private static final int AMOUNT = 1;
+    private static final int TYPE = 2;
+
+    private final int[] columnIndex = {0, 1, 2};
+    private int requiredFields = COLUMNS.length;
+    private boolean firstRow = true;
+
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private boolean[] escaped = new boolean[8];
+    private int fieldCount;
+    private byte[] scratch = new byte[64];
+
+    @Override
+    public ClaimRequest parse(byte[] line, int length) {
+        if (ClaimRowParser.isBlank(line, length)) {
+            return null;
+        }
+        split(line, length);
+        if (firstRow) {
+            firstRow = false;
+            if (isHeader(line)) {
+                readHeader(line);
+                return null;
+            }
+        }
+        if (fieldCount < requiredFields) {
+            throw new IllegalArgumentException("Expected " + requiredFields + " columns but found " + fieldCount);
+        }
+
+        ClaimRequest request = new ClaimRequest();
+        int name = columnIndex[NAME];
+        request.setClaimantName(text(line, name));
+        int amount = columnIndex[AMOUNT];
+        request.setClaimAmount(ClaimRowParser.decimal(line, starts[amount], ends[amount] - starts[amount]));
+        int type = columnIndex[TYPE];
+        request.setClaimType(ClaimRowParser.claimType(line, starts[type], ends[type] - starts[type]));
+        return request;
+    }
+
+    private void split(byte[] line, int length) {
+        fieldCount = 0;
+        int i = 0;
+        while (true) {
+            while (i < length && line[i] == ' ') {
+                i++;
+            }
+            int start;
+            int end;
+            boolean hasEscapes = false;
+            if (i < length && line[i] == '"') {
+                start = ++i;
+                while (true) {
+                    if (i >= length) {
+                        throw new IllegalArgumentException("Unterminated quoted field");
+                    }
+                    if (line[i] == '"') {
+                        if (i + 1 < length && line[i + 1] == '"') {
+                            hasEscapes = true;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                end = i++;
+                while (i < length && line[i] != ',') {
+                    i++;
+                }
+            } else {
+                start = i;
+                while (i < length && line[i] != ',') {
+                    i++;
+                }
+                end = i;
+                while (end > start && line[end - 1] == ' ') {
+                    end--;
+                }
+            }
+            addField(start, end, hasEscapes);
+            if (i >= length) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    private void addField(int start, int end, boolean hasEscapes) {
+        if (fieldCount == starts.length) {
+            starts = Arrays.copyOf(starts, fieldCount * 2);
+            ends = Arrays.copyOf(ends, fieldCount * 2);
+            escaped = Arrays.copyOf(escaped, fieldCount * 2);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        escaped[fieldCount] = hasEscapes;
+        fieldCount++;
+    }
+
+    private String text(byte[] line, int field) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (!escaped[field]) {
+            return new String(line, start, length, StandardCharsets.UTF_8);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[length];
+        }
+        int n = 0;
+        for (int i = start; i < start + length; i++) {
+            scratch[n++] = line[i];
+            if (line[i] == '"') {
+                i++;
+            }
+        }
+        return new String(scratch, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private boolean isHeader(byte[] line) {
+        for (int field = 0; field < fieldCount; field++) {
+            if (column(text(line, field)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readHeader(byte[] line) {
+        Arrays.fill(columnIndex, -1);
+        for (int field = 0; field < fieldCount; field++) {
+            int column = column(text(line, field));
+            if (column >= 0) {
+                columnIndex[column] = field;
+            }
+        }
+        requiredFields = 0;
+        for (int column = 0; column < COLUMNS.length; column++) {
+            if (columnIndex[column] < 0) {
+                throw new IllegalStateException("CSV header is missing the " + COLUMNS[column] + " column");
+            }
+            requiredFields = Math.max(requiredFields, columnIndex[column] + 1);
+        }
+    }
+
+    private static int column(String name) {
+        for (int column = 0; column < COLUMNS.length; column++) {
+            if (COLUMNS[column].equalsIgnoreCase(name.trim())) {
+                return column;
+            }
+        }
+        return -1;
+    }
+}
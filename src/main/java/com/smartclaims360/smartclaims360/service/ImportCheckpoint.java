@@ -0,0 +1,76 @@
+package com.smartclaims360.smartclaims360.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Progress of an import, kept next to the file as {@code <file>.checkpoint} and rewritten atomically after
+ * each committed chunk. {@code offset} is where the first uncommitted line starts. A checkpoint only applies
+ * to the file it was written for: if the file's size or modification time changed, the import starts over.
+ */
+record ImportCheckpoint(long offset, long line, long imported, long rejected, long fileSize, long lastModified) {
+
+    static ImportCheckpoint start(Path file) throws IOException {
+        return new ImportCheckpoint(0, 0, 0, 0, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+    }
+
+    static Path pathFor(Path file) {
+        return file.resolveSibling(file.getFileName() + ".checkpoint");
+    }
+
+    static Optional<ImportCheckpoint> read(Path file) throws IOException {
+        Path path = pathFor(file);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        ImportCheckpoint checkpoint = new ImportCheckpoint(
+                value(properties, "offset"), value(properties, "line"),
+                value(properties, "imported"), value(properties, "rejected"),
+                value(properties, "fileSize"), value(properties, "lastModified"));
+
+        ImportCheckpoint current = start(file);
+        if (checkpoint.fileSize() != current.fileSize() || checkpoint.lastModified() != current.lastModified()) {
+            return Optional.empty();
+        }
+        return Optional.of(checkpoint);
+    }
+
+    ImportCheckpoint advance(long offset, long line, long imported, long rejected) {
+        return new ImportCheckpoint(offset, line, imported, rejected, fileSize, lastModified);
+    }
+
+    void write(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("offset", Long.toString(offset));
+        properties.setProperty("line", Long.toString(line));
+        properties.setProperty("imported", Long.toString(imported));
+        properties.setProperty("rejected", Long.toString(rejected));
+        properties.setProperty("fileSize", Long.toString(fileSize));
+        properties.setProperty("lastModified", Long.toString(lastModified));
+
+        Path path = pathFor(file);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, null);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static void delete(Path file) throws IOException {
+        Files.deleteIfExists(pathFor(file));
+    }
+
+    private static long value(Properties properties, String key) {
+        return Long.parseLong(properties.getProperty(key, "0"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * One JSON object per line, read with a streaming parser over the line bytes. Unknown fields are skipped.
+ */
+class NdjsonClaimRowParser implements ClaimRowParser {
+
+    private final JsonFactory jsonFactory;
+
+    NdjsonClaimRowParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    @Override
+    public ClaimRequest parse(byte[] line, int length) {
+        if (ClaimRowParser.isBlank(line, length)) {
+            return null;
+        }
+        try (JsonParser parser = jsonFactory.createParser(line, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            ClaimRequest request = new ClaimRequest();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "claimantName" -> request.setClaimantName(text(parser, value));
+                    case "claimAmount" -> request.setClaimAmount(amount(parser, value));
+                    case "claimType" -> request.setClaimType(text(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+            return request;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String text(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private static BigDecimal amount(JsonParser parser, JsonToken value) throws IOException {
+        return switch (value) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+            case VALUE_STRING -> ClaimRowParser.parseDecimal(parser.getText());
+            case VALUE_NULL -> null;
+            default -> throw new IllegalArgumentException("Claim amount is not a number");
+        };
+    }
+}
@@ -0,0 +1,19 @@
+CREATE TABLE claims (
+    id                 UUID           NOT NULL,
+    claimant_name      VARCHAR(255)   NOT NULL,
+    claim_amount       NUMERIC(19, 2) NOT NULL,
+    claim_type         VARCHAR(255)   NOT NULL,
+    status             VARCHAR(255)   NOT NULL,
+    created_at         TIMESTAMP(6)   NOT NULL,
+    fraud_score        NUMERIC(3, 2),
+    validation_status  VARCHAR(10),
+    risk_level         VARCHAR(10),
+    suggested_queue    VARCHAR(20),
+    assessment_version INTEGER,
+    assessed_at        TIMESTAMP(6),
+    CONSTRAINT pk_claims PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_claims_created_at_id ON claims (created_at, id);
+CREATE INDEX idx_claims_type_created_at_id ON claims (claim_type, created_at, id);
+CREATE INDEX idx_claims_status_created_at_id ON claims (status, created_at, id);
@@ -0,0 +1,2 @@
+-- Optimistic locking version for Claim; JPA and the JDBC fraud score update both bump it.
+ALTER TABLE claims ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
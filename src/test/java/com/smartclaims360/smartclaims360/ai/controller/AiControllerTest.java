@@ -1,14 +1,15 @@
 package com.smartclaims360.smartclaims360.ai.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessmentResponse;
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
 import com.smartclaims360.smartclaims360.ai.dto.RoutingSuggestion;
 import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
 import com.smartclaims360.smartclaims360.ai.service.AiValidationService;
+import com.smartclaims360.smartclaims360.ai.service.ClaimAssessmentService;
 import com.smartclaims360.smartclaims360.ai.service.FraudScoringService;
-import com.smartclaims360.smartclaims360.ai.service.RoutingService;
-import com.smartclaims360.smartclaims360.ai.service.SummarizationService;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
 import com.smartclaims360.smartclaims360.service.ClaimService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,11 +19,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -41,10 +44,7 @@ class AiControllerTest {
     private FraudScoringService fraudScoringService;
 
     @MockBean
-    private SummarizationService summarizationService;
-
-    @MockBean
-    private RoutingService routingService;
+    private ClaimAssessmentService claimAssessmentService;
 
     @MockBean
     private ClaimService claimService;
@@ -84,6 +84,80 @@ class AiControllerTest {
                 .andExpect(jsonPath("$.explanation").value("Low fraud risk"));
     }
 
+    @Test
+    void testScoreClaimsBatch() throws Exception {
+        Claim storedClaim = createTestClaim();
+        Claim newClaim = createTestClaim();
+        newClaim.setId(null);
+        FraudScoreResponse stored = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+        FraudScoreResponse fresh = new FraudScoreResponse(new BigDecimal("0.75"), "HIGH", "High fraud risk");
+
+        when(claimService.getClaimsById(any())).thenReturn(Arrays.asList(storedClaim));
+        when(fraudScoringService.scoreClaims(any())).thenReturn(Arrays.asList(fresh, stored));
+
+        String body = "[" + objectMapper.writeValueAsString(newClaim) + ",\"" + storedClaim.getId() + "\"]";
+
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].riskLevel").value("HIGH"))
+                .andExpect(jsonPath("$[1].riskLevel").value("LOW"));
+    }
+
+    @Test
+    void testScoreClaimsBatchUnknownId() throws Exception {
+        when(claimService.getClaimsById(any())).thenReturn(Arrays.asList());
+
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + UUID.randomUUID() + "\"]"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testScoreClaimsBatchMalformedId() throws Exception {
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + UUID.randomUUID() + "\",\"not-a-uuid\"]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid batch item 1: not a claim ID: not-a-uuid"));
+    }
+
+    @Test
+    void testScoreClaimsBatchNonObjectItems() throws Exception {
+        for (String item : new String[] {"42", "true", "[]", "null"}) {
+            mockMvc.perform(post("/claims/score/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[" + item + "]"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string("Invalid batch item 0: expected a claim object or a claim ID"));
+        }
+    }
+
+    @Test
+    void testScoreClaimsBatchIncompleteClaim() throws Exception {
+        String body = "[" + objectMapper.writeValueAsString(createTestClaim())
+                + ",{\"claimantName\":\"John Doe\"}]";
+
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(
+                        "Invalid batch item 1: Claim amount cannot be null, Claim type cannot be blank"));
+    }
+
+    @Test
+    void testScoreClaimsBatchUnreadableAmount() throws Exception {
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"claimantName\":\"John Doe\",\"claimAmount\":\"lots\",\"claimType\":\"AUTO\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(startsWith("Invalid batch item 0: ")));
+    }
+
     @Test
     void testGetClaimSummary() throws Exception {
         UUID claimId = UUID.randomUUID();
@@ -91,7 +165,7 @@ class AiControllerTest {
         claim.setId(claimId);
         
         when(claimService.getClaimById(claimId)).thenReturn(Optional.of(claim));
-        when(summarizationService.summarize(claim)).thenReturn("Test summary");
+        when(claimAssessmentService.summarize(claim)).thenReturn("Test summary");
 
         mockMvc.perform(get("/claims/" + claimId + "/summary"))
                 .andExpect(status().isOk())
@@ -106,7 +180,7 @@ class AiControllerTest {
         RoutingSuggestion suggestion = new RoutingSuggestion("AUTO", "Standard processing");
         
         when(claimService.getClaimById(claimId)).thenReturn(Optional.of(claim));
-        when(routingService.suggest(claim)).thenReturn(suggestion);
+        when(claimAssessmentService.route(claim)).thenReturn(suggestion);
 
         mockMvc.perform(get("/claims/" + claimId + "/route"))
                 .andExpect(status().isOk())
@@ -114,6 +188,41 @@ class AiControllerTest {
                 .andExpect(jsonPath("$.reason").value("Standard processing"));
     }
 
+    @Test
+    void testGetClaimAssessment() throws Exception {
+        UUID claimId = UUID.randomUUID();
+        Claim claim = createTestClaim();
+        claim.setId(claimId);
+        ClaimAssessmentResponse report = new ClaimAssessmentResponse(
+            "Test summary",
+            new RoutingSuggestion("AUTO", "Standard processing"),
+            new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk"),
+            new ValidationResponse(true, Arrays.asList(), Arrays.asList()));
+
+        when(claimService.getClaimById(claimId)).thenReturn(Optional.of(claim));
+        when(claimAssessmentService.report(claim)).thenReturn(report);
+
+        mockMvc.perform(get("/claims/" + claimId + "/assessment"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.summary").value("Test summary"))
+                .andExpect(jsonPath("$.route.queue").value("AUTO"))
+                .andExpect(jsonPath("$.score.riskLevel").value("LOW"))
+                .andExpect(jsonPath("$.validation.valid").value(true));
+    }
+
+    @Test
+    void testRoutingSuggestionDeadlineExceeded() throws Exception {
+        UUID claimId = UUID.randomUUID();
+        Claim claim = createTestClaim();
+        claim.setId(claimId);
+
+        when(claimService.getClaimById(claimId)).thenReturn(Optional.of(claim));
+        when(claimAssessmentService.route(claim)).thenThrow(new AssessmentTimeoutException(claimId, Duration.ofSeconds(5)));
+
+        mockMvc.perform(get("/claims/" + claimId + "/route"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     void testClaimNotFound() throws Exception {
         UUID claimId = UUID.randomUUID();
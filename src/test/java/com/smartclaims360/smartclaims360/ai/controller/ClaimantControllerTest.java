@@ -0,0 +1,47 @@
+package com.smartclaims360.smartclaims360.ai.controller;
+
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ClaimantController.class)
+class ClaimantControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ClaimantIndex claimantIndex;
+
+    @Test
+    void testGetClaimantProfile() throws Exception {
+        UUID claimId = UUID.randomUUID();
+        when(claimantIndex.claimIds("John Doe")).thenReturn(Set.of(claimId));
+
+        mockMvc.perform(get("/claimants/John Doe/profile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.claimantName").value("john doe"))
+                .andExpect(jsonPath("$.claimCount").value(1))
+                .andExpect(jsonPath("$.claimIds[0]").value(claimId.toString()));
+    }
+
+    @Test
+    void testUnknownClaimantHasEmptyProfile() throws Exception {
+        when(claimantIndex.claimIds("Nobody")).thenReturn(Set.of());
+
+        mockMvc.perform(get("/claimants/Nobody/profile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.claimCount").value(0))
+                .andExpect(jsonPath("$.claimIds").isEmpty());
+    }
+}
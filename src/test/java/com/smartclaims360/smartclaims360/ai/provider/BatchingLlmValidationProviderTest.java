@@ -0,0 +1,126 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingLlmValidationProviderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> receivedBatchSizes = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HttpServer server;
+    private HttpLlmValidationProvider httpProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/hints", exchange -> {
+            JsonNode claims = objectMapper.readTree(exchange.getRequestBody()).path("claims");
+            receivedBatchSizes.add(claims.size());
+
+            ObjectNode response = objectMapper.createObjectNode();
+            ArrayNode hints = response.putArray("hints");
+            claims.forEach(claim -> hints.addArray().add("Reviewed " + claim.path("claimantName").asText()));
+
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        httpProvider = new HttpLlmValidationProvider();
+        ReflectionTestUtils.setField(httpProvider, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(httpProvider, "endpoint", URI.create("http://localhost:" + server.getAddress().getPort() + "/hints"));
+        ReflectionTestUtils.setField(httpProvider, "timeout", Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneHttpCall() {
+        try (BatchingLlmValidationProvider provider = new BatchingLlmValidationProvider(
+                httpProvider, 4, Duration.ofSeconds(5), executor, meterRegistry)) {
+
+            List<CompletableFuture<List<String>>> results = IntStream.range(0, 4)
+                    .mapToObj(i -> provider.getValidationHintsAsync(createTestClaim("Claimant " + i), executor))
+                    .toList();
+
+            for (int i = 0; i < 4; i++) {
+                assertEquals(List.of("Reviewed Claimant " + i), results.get(i).join());
+            }
+        }
+
+        assertEquals(List.of(4), receivedBatchSizes);
+        DistributionSummary batchSize = meterRegistry.get("ai.llm.batch.size").summary();
+        assertEquals(1, batchSize.count());
+        assertEquals(4.0, batchSize.max());
+        assertEquals(4, meterRegistry.get("ai.llm.batch.queue.wait").timer().count());
+    }
+
+    @Test
+    void testPartialBatchFlushesAfterMaxWait() {
+        try (BatchingLlmValidationProvider provider = new BatchingLlmValidationProvider(
+                httpProvider, 16, Duration.ofMillis(20), executor, meterRegistry)) {
+
+            assertEquals(List.of("Reviewed Jane Smith"), provider.getValidationHints(createTestClaim("Jane Smith")));
+        }
+
+        assertEquals(List.of(1), receivedBatchSizes);
+    }
+
+    @Test
+    void testBatchFailureReachesEveryCaller() {
+        server.removeContext("/hints");
+        try (BatchingLlmValidationProvider provider = new BatchingLlmValidationProvider(
+                httpProvider, 2, Duration.ofSeconds(5), executor, meterRegistry)) {
+
+            CompletableFuture<List<String>> first = provider.getValidationHintsAsync(createTestClaim("John Doe"), executor);
+            CompletableFuture<List<String>> second = provider.getValidationHintsAsync(createTestClaim("Jane Smith"), executor);
+
+            assertThrows(Exception.class, first::join);
+            assertThrows(Exception.class, second::join);
+        }
+    }
+
+    private Claim createTestClaim(String claimantName) {
+        Claim claim = new Claim();
+        claim.setClaimantName(claimantName);
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        return claim;
+    }
+}
@@ -0,0 +1,155 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingLlmValidationProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testSameFingerprintCallsProviderOnce() {
+        CountingProvider delegate = new CountingProvider(true);
+        CachingLlmValidationProvider provider = new CachingLlmValidationProvider(
+                delegate, DataSize.ofMegabytes(1), Duration.ofHours(1), meterRegistry);
+
+        List<String> first = provider.getValidationHints(createTestClaim("John Doe", "15000.00", "AUTO"));
+        List<String> second = provider.getValidationHints(createTestClaim("Jane Smith", "42000.00", "AUTO"));
+
+        assertEquals(first, second);
+        assertEquals(1, delegate.calls.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "llmHints").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "llmHints").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testDifferentFingerprintsAreCachedSeparately() {
+        CountingProvider delegate = new CountingProvider(true);
+        CachingLlmValidationProvider provider = new CachingLlmValidationProvider(
+                delegate, DataSize.ofMegabytes(1), Duration.ofHours(1), meterRegistry);
+
+        provider.getValidationHints(createTestClaim("John Doe", "10000.00", "AUTO"));
+        provider.getValidationHints(createTestClaim("John Doe", "10000.01", "AUTO"));
+        provider.getValidationHints(createTestClaim("John Doe", "10000.00", "LIFE"));
+        provider.getValidationHints(createTestClaim("Test User", "10000.00", "AUTO"));
+        provider.getValidationHints(createTestClaim("Madonna", "10000.00", "AUTO"));
+
+        assertEquals(5, delegate.calls.get());
+    }
+
+    @Test
+    void testBatchOnlyLoadsMisses() {
+        CountingProvider delegate = new CountingProvider(true);
+        CachingLlmValidationProvider provider = new CachingLlmValidationProvider(
+                delegate, DataSize.ofMegabytes(1), Duration.ofHours(1), meterRegistry);
+
+        provider.getValidationHints(createTestClaim("John Doe", "500.00", "AUTO"));
+        List<List<String>> hints = provider.getValidationHintsBatch(List.of(
+                createTestClaim("Jane Smith", "600.00", "AUTO"),
+                createTestClaim("Jane Smith", "600.00", "LIFE")));
+
+        assertEquals(2, hints.size());
+        assertEquals(2, delegate.calls.get());
+    }
+
+    @Test
+    void testNonCacheableProviderIsAlwaysCalled() {
+        CountingProvider delegate = new CountingProvider(false);
+        CachingLlmValidationProvider provider = new CachingLlmValidationProvider(
+                delegate, DataSize.ofMegabytes(1), Duration.ofHours(1), meterRegistry);
+
+        provider.getValidationHints(createTestClaim("John Doe", "500.00", "AUTO"));
+        provider.getValidationHints(createTestClaim("John Doe", "500.00", "AUTO"));
+
+        assertEquals(2, delegate.calls.get());
+    }
+
+    @Test
+    void testShedCallsAreNotCached() throws InterruptedException {
+        CountingProvider delegate = new CountingProvider(true);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(0.5, 2, 2, Duration.ofMillis(100));
+        CachingLlmValidationProvider provider = new CachingLlmValidationProvider(
+                new ProtectedLlmValidationProvider(delegate, new AdaptiveConcurrencyLimiter(10, 1, 10, 0.9),
+                        circuitBreaker, Duration.ofSeconds(5), meterRegistry),
+                DataSize.ofMegabytes(1), Duration.ofHours(1), meterRegistry);
+        Claim claim = createTestClaim("John Doe", "500.00", "AUTO");
+
+        delegate.failing.set(true);
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CompletionException.class, () -> provider.getValidationHintsAsync(claim, Runnable::run).join());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        CompletableFuture<List<String>> shed = provider.getValidationHintsAsync(claim, Runnable::run);
+        CompletionException shedFailure = assertThrows(CompletionException.class, shed::join);
+        assertInstanceOf(LlmCallShedException.class, shedFailure.getCause());
+        assertThrows(LlmCallShedException.class, () -> provider.getValidationHintsBatch(List.of(claim)));
+        assertEquals(2, delegate.calls.get());
+
+        Thread.sleep(150);
+        delegate.failing.set(false);
+        assertEquals(List.of("Hints for " + ClaimFingerprint.of(claim)),
+                provider.getValidationHintsAsync(claim, Runnable::run).join());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(List.of("Hints for " + ClaimFingerprint.of(claim)), provider.getValidationHints(claim));
+        assertEquals(3, delegate.calls.get());
+    }
+
+    @Test
+    void testFingerprintAmountBands() {
+        assertEquals(4, ClaimFingerprint.of(createTestClaim("John Doe", "10000.00", "AUTO")).amountBand());
+        assertEquals(4, ClaimFingerprint.of(createTestClaim("John Doe", "1000.01", "AUTO")).amountBand());
+        assertEquals(5, ClaimFingerprint.of(createTestClaim("John Doe", "10000.01", "AUTO")).amountBand());
+        assertEquals(Integer.MIN_VALUE, ClaimFingerprint.of(createTestClaim("John Doe", "0.00", "AUTO")).amountBand());
+    }
+
+    private Claim createTestClaim(String claimantName, String amount, String claimType) {
+        Claim claim = new Claim();
+        claim.setClaimantName(claimantName);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType(claimType);
+        return claim;
+    }
+
+    private static class CountingProvider implements LlmValidationProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final boolean cacheable;
+
+        CountingProvider(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public List<String> getValidationHints(Claim claim) {
+            calls.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("LLM unavailable");
+            }
+            return List.of("Hints for " + ClaimFingerprint.of(claim));
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+}
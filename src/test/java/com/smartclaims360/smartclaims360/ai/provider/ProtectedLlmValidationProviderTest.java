@@ -0,0 +1,132 @@
+package com.smartclaims360.smartclaims360.ai.provider;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProtectedLlmValidationProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ControllableProvider delegate = new ControllableProvider();
+
+    @Test
+    void testShedsWhenConcurrencyLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 2, 0.5);
+        ProtectedLlmValidationProvider provider = new ProtectedLlmValidationProvider(delegate, limiter,
+                new CircuitBreaker(0.5, 10, 5, Duration.ofSeconds(30)), Duration.ofSeconds(5), meterRegistry);
+
+        CompletableFuture<List<String>> first = provider.getValidationHintsAsync(createTestClaim(), Runnable::run);
+        CompletableFuture<List<String>> second = provider.getValidationHintsAsync(createTestClaim(), Runnable::run);
+        CompletableFuture<List<String>> shed = provider.getValidationHintsAsync(createTestClaim(), Runnable::run);
+
+        assertTrue(shed.isCompletedExceptionally());
+        CompletionException shedFailure = assertThrows(CompletionException.class, shed::join);
+        assertInstanceOf(LlmCallShedException.class, shedFailure.getCause());
+        assertEquals(2, delegate.calls.get());
+        assertEquals(1.0, meterRegistry.get("ai.llm.shed").tag("reason", "concurrency-limit").counter().count());
+
+        delegate.pending.forEach(future -> future.complete(List.of("hint")));
+        assertEquals(List.of("hint"), first.join());
+        assertEquals(List.of("hint"), second.join());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testLimitAdaptsAdditivelyAndMultiplicatively() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess();
+        assertEquals(5, limiter.getLimit());
+
+        limiter.onDropped();
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testCircuitOpensAndShedsWithoutCallingProvider() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(0.5, 4, 4, Duration.ofMillis(100));
+        ProtectedLlmValidationProvider provider = new ProtectedLlmValidationProvider(delegate,
+                new AdaptiveConcurrencyLimiter(10, 1, 10, 0.9), circuitBreaker, Duration.ofSeconds(5), meterRegistry);
+
+        delegate.failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> provider.getValidationHints(createTestClaim()));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        assertThrows(LlmCallShedException.class, () -> provider.getValidationHints(createTestClaim()));
+        assertEquals(4, delegate.calls.get());
+        assertEquals(1.0, meterRegistry.get("ai.llm.circuit.state").gauge().value());
+
+        Thread.sleep(150);
+        delegate.failing.set(false);
+        assertEquals(List.of("hint"), provider.getValidationHints(createTestClaim()));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void testSlowCallsCountAsFailures() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(0.5, 2, 2, Duration.ofSeconds(30));
+        ProtectedLlmValidationProvider provider = new ProtectedLlmValidationProvider(delegate,
+                new AdaptiveConcurrencyLimiter(10, 1, 10, 0.9), circuitBreaker, Duration.ofMillis(20), meterRegistry);
+
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<List<String>> slow = provider.getValidationHintsAsync(createTestClaim(), Runnable::run);
+            assertThrows(Exception.class, slow::join);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private Claim createTestClaim() {
+        Claim claim = new Claim();
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        return claim;
+    }
+
+    private static class ControllableProvider implements LlmValidationProvider {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean failing = new AtomicBoolean();
+        private final List<CompletableFuture<List<String>>> pending = new CopyOnWriteArrayList<>();
+
+        @Override
+        public List<String> getValidationHints(Claim claim) {
+            calls.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("LLM unavailable");
+            }
+            return List.of("hint");
+        }
+
+        @Override
+        public CompletableFuture<List<String>> getValidationHintsAsync(Claim claim, Executor executor) {
+            calls.incrementAndGet();
+            CompletableFuture<List<String>> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.smartclaims360.smartclaims360.ai.rules;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationRuleEngineTest {
+
+    private final ValidationRuleEngine engine =
+            ValidationRuleEngine.of(ValidationRuleEngine.bind(new ClassPathResource("application.yml")));
+
+    @Test
+    void testValidationRulesFromApplicationYaml() {
+        assertEquals(List.of(), engine.getValidationRules().evaluate(createTestClaim("John Doe", "1000.00", "auto")));
+        assertEquals(List.of(
+                        "Claimant name cannot be blank",
+                        "Claim amount must be greater than 0",
+                        "Claim type must be one of: AUTO, HEALTH, PROPERTY, LIFE"),
+                engine.getValidationRules().evaluate(createTestClaim("  ", "0.00", "BOAT")));
+        assertEquals(3, engine.getValidationRules().evaluate(new Claim()).size());
+    }
+
+    @Test
+    void testHintRulesFromApplicationYaml() {
+        assertEquals(List.of(
+                        "High claim amount detected - consider additional documentation",
+                        "Test claimant name detected - verify authenticity",
+                        "Life insurance claim requires death certificate verification",
+                        "Single name provided - consider requesting full legal name"),
+                engine.getHintRules().evaluate(createTestClaim("TestUser", "10000.01", "LIFE")));
+        assertEquals(List.of(), engine.getHintRules().evaluate(createTestClaim("John Doe", "10000.00", "life")));
+    }
+
+    @Test
+    void testTextHelpersMatchStringSemantics() {
+        for (String name : List.of("", " ", "   ", "John", "John Doe", " John", "John ", "John  Doe", "\tJohn", "A B C D")) {
+            assertEquals(name.split(" ").length, ClaimConditions.tokenCount(name), "tokens of '" + name + "'");
+            assertEquals(name.trim().isEmpty(), ClaimConditions.isBlank(name), "blank '" + name + "'");
+            assertEquals(name.toLowerCase().contains("john"), ClaimConditions.containsIgnoreCase(name, "john"));
+        }
+    }
+
+    @Test
+    void testUnknownConditionIsRejected() {
+        RuleDefinition rule = new RuleDefinition();
+        rule.setWhen("amount-between");
+        rule.setMessage("Unsupported");
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledRules.compile(List.of(rule)));
+    }
+
+    @Test
+    void testRulesFileIsHotReloaded(@TempDir Path dir) throws IOException {
+        Path rulesFile = dir.resolve("rules.yml");
+        writeRules(rulesFile, "5000", Instant.parse("2025-01-01T00:00:00Z"));
+
+        ValidationRuleProperties properties = new ValidationRuleProperties();
+        properties.setRulesFile(rulesFile.toString());
+        ValidationRuleEngine fileEngine = ValidationRuleEngine.of(properties);
+        Claim claim = createTestClaim("John Doe", "7500.00", "AUTO");
+
+        assertEquals(List.of("Above 5000"), fileEngine.getHintRules().evaluate(claim));
+
+        writeRules(rulesFile, "8000", Instant.parse("2025-01-01T00:01:00Z"));
+        fileEngine.reloadIfChanged();
+
+        assertEquals(List.of(), fileEngine.getHintRules().evaluate(claim));
+
+        Files.writeString(rulesFile, "ai:\n  validation:\n    hints:\n      - when: amount-between\n        message: broken\n");
+        Files.setLastModifiedTime(rulesFile, FileTime.from(Instant.parse("2025-01-01T00:02:00Z")));
+        assertThrows(IllegalArgumentException.class, fileEngine::reloadIfChanged);
+        assertEquals(1, fileEngine.getHintRules().size());
+    }
+
+    private void writeRules(Path rulesFile, String threshold, Instant modified) throws IOException {
+        Files.writeString(rulesFile, """
+                ai:
+                  validation:
+                    hints:
+                      - when: amount-above
+                        value: %s
+                        message: Above %s
+                """.formatted(threshold, threshold));
+        Files.setLastModifiedTime(rulesFile, FileTime.from(modified));
+    }
+
+    private Claim createTestClaim(String claimantName, String amount, String claimType) {
+        Claim claim = new Claim();
+        claim.setClaimantName(claimantName);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType(claimType);
+        return claim;
+    }
+}
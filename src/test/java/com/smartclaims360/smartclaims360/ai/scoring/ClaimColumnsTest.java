@@ -0,0 +1,144 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimColumnsTest {
+
+    private final ClaimColumns claimColumns = new ClaimColumns();
+
+    @Test
+    void testAppendEncodesColumns() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 17, 14, 30);
+        claimColumns.append(id, new BigDecimal("1500.55"), "AUTO", "  John   DOE ", createdAt);
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("20"), "HEALTH", "john doe", createdAt);
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("0.01"), "AUTO", "Jane Smith", null);
+
+        ClaimColumns.View view = claimColumns.view();
+        assertEquals(3, view.size());
+        assertEquals(id, view.id(0));
+        assertEquals(150055L, view.amountCents()[0]);
+        assertEquals(2000L, view.amountCents()[1]);
+        assertEquals(1L, view.amountCents()[2]);
+        assertEquals("AUTO", view.type(0));
+        assertEquals(view.typeCodes()[0], view.typeCodes()[2]);
+        assertEquals("HEALTH", view.type(1));
+        assertEquals("john doe", view.name(0));
+        assertEquals(view.nameIds()[0], view.nameIds()[1]);
+        assertEquals(2, view.nameCount());
+        assertEquals(createdAt.toInstant(ZoneOffset.UTC).toEpochMilli(), view.createdAtMillis()[0]);
+        assertEquals(ClaimColumns.NO_TIMESTAMP, view.createdAtMillis()[2]);
+    }
+
+    @Test
+    void testPublishedViewIsStableWhileGrowing() {
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("100.00"), "AUTO", "John Doe", LocalDateTime.now());
+        ClaimColumns.View before = claimColumns.view();
+
+        for (int i = 0; i < 5000; i++) {
+            claimColumns.append(UUID.randomUUID(), new BigDecimal(i + 1), "AUTO", "Claimant " + i, LocalDateTime.now());
+        }
+
+        assertEquals(1, before.size());
+        assertEquals(10000L, before.amountCents()[0]);
+        assertEquals(5001, claimColumns.view().size());
+        assertEquals(5001, claimColumns.view().nameCount());
+    }
+
+    @Test
+    void testRemoveFlagsRow() {
+        UUID id = UUID.randomUUID();
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("100.00"), "AUTO", "John Doe", LocalDateTime.now());
+        claimColumns.append(id, new BigDecimal("200.00"), "AUTO", "Jane Smith", LocalDateTime.now());
+        ClaimColumns.View frozen = claimColumns.frozenView();
+
+        assertTrue(claimColumns.remove(id));
+        assertFalse(claimColumns.remove(id));
+        assertFalse(claimColumns.remove(UUID.randomUUID()));
+
+        assertTrue(claimColumns.view().isDeleted(1));
+        assertFalse(claimColumns.view().isDeleted(0));
+        assertEquals(1, claimColumns.view().liveCount());
+        assertEquals(2, frozen.liveCount());
+    }
+
+    @Test
+    void testTypesBeyondDictionaryShareOtherCode() {
+        for (int i = 0; i < ClaimColumns.MAX_TYPES + 10; i++) {
+            claimColumns.append(UUID.randomUUID(), new BigDecimal("100.00"), "TYPE_" + i, "John Doe", LocalDateTime.now());
+        }
+
+        ClaimColumns.View view = claimColumns.view();
+        assertEquals(ClaimColumns.MAX_TYPES + 1, view.typeCount());
+        assertEquals("TYPE_0", view.type(0));
+        assertEquals("TYPE_" + (ClaimColumns.MAX_TYPES - 1), view.type(ClaimColumns.MAX_TYPES - 1));
+        assertEquals(ClaimColumns.OTHER_TYPE_NAME, view.type(ClaimColumns.MAX_TYPES));
+        assertEquals(ClaimColumns.OTHER_TYPE_NAME, view.type(ClaimColumns.MAX_TYPES + 9));
+    }
+
+    @Test
+    void testRestoreDropsDeletedRowsAndKeepsCodes() {
+        UUID removed = UUID.randomUUID();
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("100.00"), "AUTO", "John Doe", LocalDateTime.now());
+        claimColumns.append(removed, new BigDecimal("200.00"), "HEALTH", "Jane Smith", LocalDateTime.now());
+        claimColumns.append(UUID.randomUUID(), new BigDecimal("300.00"), "LIFE", "Jane Smith", LocalDateTime.now());
+        claimColumns.remove(removed);
+        ClaimColumns.View captured = claimColumns.frozenView();
+
+        ClaimColumns restored = new ClaimColumns();
+        restored.restore(captured);
+        ClaimColumns.View view = restored.view();
+
+        assertEquals(2, view.size());
+        assertEquals(30000L, view.amountCents()[1]);
+        assertEquals("LIFE", view.type(1));
+        assertEquals("jane smith", view.name(1));
+        assertEquals(captured.typeCodes()[2], view.typeCodes()[1]);
+        assertEquals(captured.nameIds()[2], view.nameIds()[1]);
+    }
+
+    @Test
+    void testStatisticsRebuildMatchesEntityRebuild() {
+        List<Claim> claims = List.of(
+            claim("John Doe", "500.00", "AUTO"),
+            claim("Jane Smith", "750.25", "HEALTH"),
+            claim("John Doe", "600.00", "AUTO"),
+            claim("Bob Jones", "50000.00", "LIFE"));
+        claims.forEach(c -> claimColumns.append(c.getId(), c.getClaimAmount(), c.getClaimType(), c.getClaimantName(), c.getCreatedAt()));
+
+        ClaimStatistics fromEntities = new ClaimStatistics();
+        fromEntities.rebuild(claims);
+        ClaimStatistics fromColumns = new ClaimStatistics();
+        fromColumns.rebuild(claimColumns.view());
+        ClaimantIndex index = new ClaimantIndex();
+        index.rebuild(claimColumns.view());
+
+        StatisticsSnapshot expected = fromEntities.snapshot();
+        StatisticsSnapshot actual = fromColumns.snapshot();
+        assertEquals(expected.getCount(), actual.getCount());
+        assertEquals(expected.getMean(), actual.getMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), actual.getStandardDeviation(), 1e-9);
+        assertEquals(expected.getTypeCounts(), actual.getTypeCounts());
+        assertEquals(2, index.count("JOHN DOE"));
+        assertTrue(index.claimIds("Bob Jones").contains(claims.get(3).getId()));
+    }
+
+    private static Claim claim(String name, String amount, String type) {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName(name);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType(type);
+        claim.setCreatedAt(LocalDateTime.now());
+        return claim;
+    }
+}
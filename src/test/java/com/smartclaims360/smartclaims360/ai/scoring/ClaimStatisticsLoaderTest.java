@@ -0,0 +1,189 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.repository.ClaimRow;
+import com.smartclaims360.smartclaims360.repository.ClaimTableFingerprint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimStatisticsLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ClaimStatistics claimStatistics = new ClaimStatistics();
+
+    @Spy
+    private WindowedClaimStatistics windowedClaimStatistics = new WindowedClaimStatistics();
+
+    @Spy
+    private AmountSketches amountSketches = new AmountSketches();
+
+    @Spy
+    private ClaimantIndex claimantIndex = new ClaimantIndex();
+
+    @Spy
+    private ClaimColumns claimColumns = new ClaimColumns();
+
+    @InjectMocks
+    private ClaimStatisticsLoader claimStatisticsLoader;
+
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = directory.resolve("scoring.snapshot");
+        ReflectionTestUtils.setField(claimStatisticsLoader, "snapshotEnabled", true);
+        ReflectionTestUtils.setField(claimStatisticsLoader, "snapshotFile", snapshotFile);
+        ReflectionTestUtils.setField(claimStatisticsLoader, "replayGrace", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(amountSketches, "k", 200);
+    }
+
+    @Test
+    void testRestoresSnapshotAndReplaysOnlyNewClaims() {
+        Claim first = claim("Alice Smith", "100.00", "AUTO");
+        Claim second = claim("Bob Jones", "300.00", "HEALTH");
+        Claim third = claim("Alice Smith", "500.00", "AUTO");
+        claimStatistics.rebuild(List.of(first, second));
+        claimantIndex.rebuild(List.of(first, second));
+        append(first);
+        append(second);
+        ReflectionTestUtils.setField(claimStatisticsLoader, "loaded", true);
+        claimStatisticsLoader.saveSnapshot();
+
+        claimStatistics.rebuild(List.of());
+        claimantIndex.rebuild(List.of());
+        claimColumns.clear();
+        ReflectionTestUtils.setField(claimStatisticsLoader, "loaded", false);
+        when(claimRepository.streamAfter(any(), any())).thenReturn(Stream.of(second, third));
+        when(claimRepository.fingerprint()).thenReturn(
+                new ClaimTableFingerprint(3, new BigDecimal("900.00"), third.getCreatedAt()));
+
+        claimStatisticsLoader.afterSingletonsInstantiated();
+
+        assertTrue(claimStatisticsLoader.isLoaded());
+        assertEquals("snapshot", claimStatisticsLoader.getLoadedFrom());
+        assertEquals(1, claimStatisticsLoader.getReplayed());
+        StatisticsSnapshot snapshot = claimStatistics.snapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(300.0, snapshot.getMean(), 1e-9);
+        assertEquals(2, snapshot.getTypeCount("AUTO"));
+        assertEquals(2, claimantIndex.count("alice smith"));
+        assertEquals(3, claimColumns.view().liveCount());
+        verify(claimRepository, never()).streamRows();
+    }
+
+    @Test
+    void testRebuildsFromTableWhenCountsDisagree() throws IOException {
+        Claim first = claim("Alice Smith", "100.00", "AUTO");
+        new ScoringSnapshot(LocalDateTime.now(), new StatisticsSnapshot(5, 100.0, 0.0, Map.of("AUTO", 5L)), ClaimColumns.View.EMPTY)
+                .write(snapshotFile);
+        when(claimRepository.streamAfter(any(), any())).thenReturn(Stream.empty());
+        when(claimRepository.fingerprint()).thenReturn(
+                new ClaimTableFingerprint(1, new BigDecimal("100.00"), first.getCreatedAt()));
+        when(claimRepository.streamRows()).thenReturn(Stream.of(row(first)));
+
+        claimStatisticsLoader.afterSingletonsInstantiated();
+
+        assertEquals("table", claimStatisticsLoader.getLoadedFrom());
+        assertEquals(1, claimStatistics.snapshot().getCount());
+        assertEquals(100.0, claimStatistics.snapshot().getMean(), 1e-9);
+        assertEquals(1, claimStatistics.snapshot().getTypeCount("AUTO"));
+        assertEquals(1, claimantIndex.count("Alice Smith"));
+        assertEquals(1, claimColumns.view().size());
+    }
+
+    @Test
+    void testRebuildsFromTableWhenSameCountHoldsOtherClaims() {
+        Claim first = claim("Alice Smith", "100.00", "AUTO");
+        Claim second = claim("Bob Jones", "300.00", "HEALTH");
+        Claim replacement = claim("Carol White", "700.00", "LIFE");
+        replacement.setCreatedAt(first.getCreatedAt().minusHours(1));
+        claimStatistics.rebuild(List.of(first, second));
+        append(first);
+        append(second);
+        ReflectionTestUtils.setField(claimStatisticsLoader, "loaded", true);
+        claimStatisticsLoader.saveSnapshot();
+
+        claimStatistics.rebuild(List.of());
+        claimColumns.clear();
+        ReflectionTestUtils.setField(claimStatisticsLoader, "loaded", false);
+        when(claimRepository.streamAfter(any(), any())).thenReturn(Stream.empty());
+        when(claimRepository.fingerprint()).thenReturn(
+                new ClaimTableFingerprint(2, new BigDecimal("800.00"), first.getCreatedAt()));
+        when(claimRepository.streamRows()).thenReturn(Stream.of(row(first), row(replacement)));
+
+        claimStatisticsLoader.afterSingletonsInstantiated();
+
+        assertEquals("table", claimStatisticsLoader.getLoadedFrom());
+        assertEquals(2, claimStatistics.snapshot().getCount());
+        assertEquals(400.0, claimStatistics.snapshot().getMean(), 1e-9);
+        assertEquals(0, claimStatistics.snapshot().getTypeCount("HEALTH"));
+        assertEquals(1, claimStatistics.snapshot().getTypeCount("LIFE"));
+    }
+
+    @Test
+    void testCorruptSnapshotFallsBackToTable() throws IOException {
+        Files.write(snapshotFile, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+        when(claimRepository.streamRows()).thenReturn(Stream.empty());
+
+        claimStatisticsLoader.afterSingletonsInstantiated();
+
+        assertEquals("table", claimStatisticsLoader.getLoadedFrom());
+        assertEquals(0, claimStatistics.snapshot().getCount());
+    }
+
+    private void append(Claim claim) {
+        claimColumns.append(claim.getId(), claim.getClaimAmount(), claim.getClaimType(), claim.getClaimantName(),
+                claim.getCreatedAt());
+    }
+
+    private static ClaimRow row(Claim claim) {
+        return new ClaimRow(claim.getId(), claim.getClaimAmount(), claim.getClaimType(), claim.getClaimantName(),
+                claim.getCreatedAt());
+    }
+
+    private static Claim claim(String name, String amount, String type) {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName(name);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType(type);
+        claim.setCreatedAt(LocalDateTime.now());
+        return claim;
+    }
+}
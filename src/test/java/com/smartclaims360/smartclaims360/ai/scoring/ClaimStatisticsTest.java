@@ -0,0 +1,77 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimStatisticsTest {
+
+    private final ClaimStatistics claimStatistics = new ClaimStatistics();
+
+    @Test
+    void testEmptySnapshot() {
+        StatisticsSnapshot snapshot = claimStatistics.snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0.0, snapshot.getStandardDeviation());
+        assertEquals(0, snapshot.getTypeCount("AUTO"));
+    }
+
+    @Test
+    void testMomentsMatchTwoPassComputation() {
+        List<Claim> claims = Arrays.asList(
+            createTestClaim(new BigDecimal("500.00"), "AUTO"),
+            createTestClaim(new BigDecimal("750.00"), "HEALTH"),
+            createTestClaim(new BigDecimal("600.00"), "AUTO"),
+            createTestClaim(new BigDecimal("50000.00"), "LIFE")
+        );
+
+        claimStatistics.rebuild(claims);
+        StatisticsSnapshot snapshot = claimStatistics.snapshot();
+
+        double mean = claims.stream().mapToDouble(c -> c.getClaimAmount().doubleValue()).average().orElse(0.0);
+        double variance = claims.stream()
+                .mapToDouble(c -> Math.pow(c.getClaimAmount().doubleValue() - mean, 2))
+                .average().orElse(0.0);
+
+        assertEquals(4, snapshot.getCount());
+        assertEquals(mean, snapshot.getMean(), 1e-9);
+        assertEquals(Math.sqrt(variance), snapshot.getStandardDeviation(), 1e-9);
+        assertEquals(2, snapshot.getTypeCount("AUTO"));
+        assertEquals(1, snapshot.getTypeCount("LIFE"));
+    }
+
+    @Test
+    void testRecordAndRemove() {
+        claimStatistics.record(new BigDecimal("100.00"), "AUTO");
+        claimStatistics.record(new BigDecimal("300.00"), "HEALTH");
+        claimStatistics.record(new BigDecimal("500.00"), "AUTO");
+
+        claimStatistics.remove(new BigDecimal("500.00"), "AUTO");
+        StatisticsSnapshot snapshot = claimStatistics.snapshot();
+
+        assertEquals(2, snapshot.getCount());
+        assertEquals(200.0, snapshot.getMean(), 1e-9);
+        assertEquals(100.0, snapshot.getStandardDeviation(), 1e-9);
+        assertEquals(1, snapshot.getTypeCount("AUTO"));
+
+        claimStatistics.remove(new BigDecimal("100.00"), "AUTO");
+        claimStatistics.remove(new BigDecimal("300.00"), "HEALTH");
+
+        assertEquals(0, claimStatistics.snapshot().getCount());
+        assertTrue(claimStatistics.snapshot().getTypeCounts().isEmpty());
+    }
+
+    private Claim createTestClaim(BigDecimal amount, String type) {
+        Claim claim = new Claim();
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(amount);
+        claim.setClaimType(type);
+        return claim;
+    }
+}
@@ -0,0 +1,52 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimantIndexTest {
+
+    private final ClaimantIndex claimantIndex = new ClaimantIndex();
+
+    @Test
+    void testNormalize() {
+        assertEquals("john doe", ClaimantIndex.normalize("  John   DOE "));
+        assertEquals("", ClaimantIndex.normalize(null));
+    }
+
+    @Test
+    void testCountIgnoresCaseAndWhitespace() {
+        claimantIndex.add("John Doe", UUID.randomUUID());
+        claimantIndex.add("JOHN  DOE", UUID.randomUUID());
+        claimantIndex.add("Jane Smith", UUID.randomUUID());
+
+        assertEquals(2, claimantIndex.count("john doe"));
+        assertEquals(1, claimantIndex.count("Jane Smith"));
+        assertEquals(0, claimantIndex.count("Alice Brown"));
+    }
+
+    @Test
+    void testRemoveAndRebuild() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        claimantIndex.add("John Doe", first);
+        claimantIndex.add("John Doe", second);
+
+        claimantIndex.remove("john doe", first);
+
+        assertEquals(1, claimantIndex.count("John Doe"));
+        assertEquals(Arrays.asList(second), claimantIndex.claimIds("John Doe").stream().toList());
+
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName("Alice Brown");
+        claimantIndex.rebuild(Arrays.asList(claim));
+
+        assertEquals(0, claimantIndex.count("John Doe"));
+        assertEquals(1, claimantIndex.count("alice brown"));
+    }
+}
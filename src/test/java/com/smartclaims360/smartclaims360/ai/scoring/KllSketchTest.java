@@ -0,0 +1,93 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KllSketchTest {
+
+    private static final int K = 200;
+
+    @Test
+    void testSmallStreamIsExact() {
+        KllSketch sketch = new KllSketch(K);
+        for (int value = 100; value >= 1; value--) {
+            sketch.update(value);
+        }
+
+        KllSketch.Quantiles quantiles = sketch.quantiles();
+
+        assertEquals(100, quantiles.count());
+        assertEquals(1.0, quantiles.quantile(0.0));
+        assertEquals(50.0, quantiles.quantile(0.5));
+        assertEquals(90.0, quantiles.quantile(0.9));
+        assertEquals(99.0, quantiles.quantile(0.99));
+        assertEquals(100.0, quantiles.quantile(1.0));
+    }
+
+    @Test
+    void testLargeStreamStaysSmallAndAccurate() {
+        int n = 500_000;
+        KllSketch sketch = new KllSketch(K);
+        for (double value : shuffled(n, 1)) {
+            sketch.update(value);
+        }
+
+        KllSketch.Quantiles quantiles = sketch.quantiles();
+
+        assertEquals(n, quantiles.count());
+        assertTrue(sketch.retainedItems() < 4 * K, "retained " + sketch.retainedItems());
+        assertEquals(0.0, quantiles.min());
+        assertEquals(n - 1.0, quantiles.max());
+        for (double rank : new double[] {0.5, 0.9, 0.99}) {
+            assertEquals(rank * n, quantiles.quantile(rank), 0.03 * n, "rank " + rank);
+        }
+    }
+
+    @Test
+    void testMergeMatchesSingleStream() {
+        int n = 200_000;
+        List<Double> values = shuffled(n, 2);
+        KllSketch left = new KllSketch(K);
+        KllSketch right = new KllSketch(K);
+        for (int i = 0; i < n; i++) {
+            (i % 3 == 0 ? left : right).update(values.get(i));
+        }
+
+        KllSketch merged = new KllSketch(K);
+        merged.merge(left);
+        merged.merge(right);
+        KllSketch.Quantiles quantiles = merged.quantiles();
+
+        assertEquals(n, quantiles.count());
+        assertEquals(n - right.getCount(), left.getCount());
+        assertTrue(merged.retainedItems() < 4 * K, "retained " + merged.retainedItems());
+        for (double rank : new double[] {0.5, 0.9, 0.99}) {
+            assertEquals(rank * n, quantiles.quantile(rank), 0.03 * n, "rank " + rank);
+        }
+    }
+
+    @Test
+    void testEmptySketch() {
+        KllSketch sketch = new KllSketch(K);
+        sketch.update(Double.NaN);
+
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.quantiles().quantile(0.5)));
+        assertThrows(IllegalArgumentException.class, () -> new KllSketch(4));
+    }
+
+    private static List<Double> shuffled(int n, long seed) {
+        List<Double> values = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            values.add((double) i);
+        }
+        Collections.shuffle(values, new Random(seed));
+        return values;
+    }
+}
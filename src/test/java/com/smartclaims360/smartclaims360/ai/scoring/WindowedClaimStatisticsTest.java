@@ -0,0 +1,149 @@
+package com.smartclaims360.smartclaims360.ai.scoring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowedClaimStatisticsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 17, 14, 30);
+
+    private final WindowedClaimStatistics windowedStatistics = new WindowedClaimStatistics();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(windowedStatistics, "window", Duration.ofDays(30));
+        setNow(NOW);
+        windowedStatistics.init();
+    }
+
+    @Test
+    void testMomentsMatchClaimStatisticsInsideWindow() {
+        ClaimStatistics claimStatistics = new ClaimStatistics();
+        record(claimStatistics, "500.00", "AUTO", NOW.minusDays(29));
+        record(claimStatistics, "750.00", "HEALTH", NOW.minusDays(3));
+        record(claimStatistics, "600.00", "AUTO", NOW.minusHours(1));
+        record(claimStatistics, "50000.00", "LIFE", NOW);
+        windowedStatistics.record(new BigDecimal("99999.00"), "LIFE", NOW.minusDays(31));
+
+        StatisticsSnapshot expected = claimStatistics.snapshot();
+        StatisticsSnapshot snapshot = windowedStatistics.snapshot();
+
+        assertEquals(4, snapshot.getCount());
+        assertEquals(expected.getMean(), snapshot.getMean(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), snapshot.getStandardDeviation(), 1e-6);
+        assertEquals(2, snapshot.getTypeCount("AUTO"));
+        assertEquals(1, snapshot.getTypeCount("LIFE"));
+    }
+
+    @Test
+    void testMergeKeepsPrecisionForLargeAmountsWithSmallSpread() {
+        ClaimStatistics claimStatistics = new ClaimStatistics();
+        for (int i = 0; i < 3000; i++) {
+            record(claimStatistics, "10000000.0" + (1 + i % 3), "AUTO", NOW.minusHours(i % 5));
+        }
+
+        StatisticsSnapshot snapshot = windowedStatistics.snapshot();
+
+        assertEquals(3000, snapshot.getCount());
+        assertEquals(10_000_000.02, snapshot.getMean(), 1e-6);
+        assertEquals(Math.sqrt(2.0 / 3.0) * 0.01, snapshot.getStandardDeviation(), 1e-6);
+        assertEquals(claimStatistics.snapshot().getStandardDeviation(), snapshot.getStandardDeviation(), 1e-6);
+    }
+
+    @Test
+    void testEpochAdvancesWithTheHour() {
+        long epoch = windowedStatistics.getEpoch();
+
+        setNow(NOW.plusMinutes(20));
+        assertEquals(epoch, windowedStatistics.getEpoch());
+
+        setNow(NOW.plusHours(1));
+        assertEquals(epoch + 1, windowedStatistics.getEpoch());
+    }
+
+    @Test
+    void testBucketsExpireAsTimePasses() {
+        windowedStatistics.record(new BigDecimal("100.00"), "AUTO", NOW.minusDays(10));
+        windowedStatistics.record(new BigDecimal("300.00"), "HEALTH", NOW);
+        assertEquals(2, windowedStatistics.snapshot().getCount());
+
+        setNow(NOW.plusDays(21));
+        StatisticsSnapshot snapshot = windowedStatistics.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(300.0, snapshot.getMean(), 1e-9);
+        assertEquals(0, snapshot.getTypeCount("AUTO"));
+
+        windowedStatistics.record(new BigDecimal("500.00"), "AUTO", NOW.plusDays(21));
+        setNow(NOW.plusDays(31));
+        snapshot = windowedStatistics.snapshot();
+        assertEquals(1, snapshot.getCount());
+        assertEquals(500.0, snapshot.getMean(), 1e-9);
+    }
+
+    @Test
+    void testRemove() {
+        windowedStatistics.record(new BigDecimal("100.00"), "AUTO", NOW.minusHours(2));
+        windowedStatistics.record(new BigDecimal("300.00"), "HEALTH", NOW);
+        windowedStatistics.record(new BigDecimal("500.00"), "AUTO", NOW.minusHours(2));
+
+        windowedStatistics.remove(new BigDecimal("500.00"), "AUTO", NOW.minusHours(2));
+        windowedStatistics.remove(new BigDecimal("700.00"), "AUTO", NOW.minusDays(40));
+        StatisticsSnapshot snapshot = windowedStatistics.snapshot();
+
+        assertEquals(2, snapshot.getCount());
+        assertEquals(200.0, snapshot.getMean(), 1e-9);
+        assertEquals(100.0, snapshot.getStandardDeviation(), 1e-9);
+        assertEquals(1, snapshot.getTypeCount("AUTO"));
+    }
+
+    @Test
+    void testRebuildFromColumnsSkipsDeletedAndExpiredRows() {
+        ClaimColumns columns = new ClaimColumns();
+        UUID deleted = UUID.randomUUID();
+        columns.append(UUID.randomUUID(), new BigDecimal("100.00"), "AUTO", "Alice Smith", NOW.minusDays(1));
+        columns.append(deleted, new BigDecimal("200.00"), "AUTO", "Bob Jones", NOW.minusDays(1));
+        columns.append(UUID.randomUUID(), new BigDecimal("300.00"), "HEALTH", "Carol White", NOW.minusDays(60));
+        columns.append(UUID.randomUUID(), new BigDecimal("400.00"), "HEALTH", "Dan Brown", null);
+        columns.remove(deleted);
+
+        windowedStatistics.rebuild(columns.view());
+        StatisticsSnapshot snapshot = windowedStatistics.snapshot();
+
+        assertEquals(1, snapshot.getCount());
+        assertEquals(100.0, snapshot.getMean(), 1e-9);
+        assertEquals(1, snapshot.getTypeCount("AUTO"));
+    }
+
+    @Test
+    void testZeroWindowIsDisabled() {
+        WindowedClaimStatistics disabled = new WindowedClaimStatistics();
+        ReflectionTestUtils.setField(disabled, "window", Duration.ZERO);
+        disabled.init();
+
+        disabled.record(new BigDecimal("100.00"), "AUTO", NOW);
+
+        assertFalse(disabled.isEnabled());
+        assertSame(StatisticsSnapshot.EMPTY, disabled.snapshot());
+        assertEquals(0, disabled.getEpoch());
+        assertEquals(Duration.ofDays(30), windowedStatistics.getWindow());
+    }
+
+    private void record(ClaimStatistics claimStatistics, String amount, String type, LocalDateTime createdAt) {
+        claimStatistics.record(new BigDecimal(amount), type);
+        windowedStatistics.record(new BigDecimal(amount), type, createdAt);
+    }
+
+    private void setNow(LocalDateTime now) {
+        ReflectionTestUtils.setField(windowedStatistics, "clock", Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,340 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessmentResponse;
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.dto.RoutingSuggestion;
+import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
+import com.smartclaims360.smartclaims360.ai.rules.CompiledRules;
+import com.smartclaims360.smartclaims360.ai.rules.ValidationRuleEngine;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.WindowedClaimStatistics;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimAssessmentServiceTest {
+
+    @Mock
+    private AiValidationService aiValidationService;
+
+    @Mock
+    private FraudScoringService fraudScoringService;
+
+    @Mock
+    private RoutingService routingService;
+
+    @Mock
+    private SummarizationService summarizationService;
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ValidationRuleEngine validationRuleEngine;
+
+    @Mock
+    private WindowedClaimStatistics windowedClaimStatistics;
+
+    @Spy
+    private ClaimStatistics claimStatistics = new ClaimStatistics();
+
+    private final AssessmentStalenessPolicy stalenessPolicy = new AssessmentStalenessPolicy();
+
+    private final ClaimEvaluator claimEvaluator = new ClaimEvaluator();
+
+    @InjectMocks
+    private ClaimAssessmentService claimAssessmentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stalenessPolicy, "assessmentVersion", 1);
+        ReflectionTestUtils.setField(stalenessPolicy, "maxAge", Duration.ofHours(24));
+        ReflectionTestUtils.setField(claimEvaluator, "aiValidationService", aiValidationService);
+        ReflectionTestUtils.setField(claimEvaluator, "fraudScoringService", fraudScoringService);
+        ReflectionTestUtils.setField(claimEvaluator, "assessmentExecutor", Executors.newVirtualThreadPerTaskExecutor());
+        ReflectionTestUtils.setField(claimEvaluator, "deadline", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(claimAssessmentService, "stalenessPolicy", stalenessPolicy);
+        ReflectionTestUtils.setField(claimAssessmentService, "claimEvaluator", claimEvaluator);
+    }
+
+    @Test
+    void testRefreshMaterializesAssessment() {
+        Claim claim = createTestClaim();
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+
+        when(aiValidationService.validateClaim(claim)).thenReturn(validation);
+        when(fraudScoringService.evaluateClaim(claim)).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(validation, fraudScore))).thenReturn(new RoutingSuggestion("AUTO", "Standard processing"));
+        when(claimRepository.save(claim)).thenReturn(claim);
+
+        claimAssessmentService.refresh(claim);
+
+        assertEquals("VALID", claim.getValidationStatus());
+        assertEquals(new BigDecimal("0.25"), claim.getFraudScore());
+        assertEquals("LOW", claim.getRiskLevel());
+        assertEquals("AUTO", claim.getSuggestedQueue());
+        assertEquals(1, claim.getAssessmentVersion());
+        assertNotNull(claim.getAssessedAt());
+    }
+
+    @Test
+    void testRouteWithFreshAssessmentDoesNotWrite() {
+        Claim claim = createTestClaim();
+        claim.setFraudScore(new BigDecimal("0.25"));
+        claim.setValidationStatus("VALID");
+        claim.setRiskLevel("LOW");
+        claim.setSuggestedQueue("AUTO");
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+        RoutingSuggestion suggestion = new RoutingSuggestion("AUTO", "Standard processing");
+
+        when(fraudScoringService.describe(new BigDecimal("0.25"))).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(validation, fraudScore))).thenReturn(suggestion);
+
+        assertEquals(suggestion, claimAssessmentService.route(claim));
+        verify(aiValidationService, never()).validateClaim(claim);
+        verify(fraudScoringService, never()).evaluateClaim(claim);
+        verify(claimRepository, never()).save(claim);
+    }
+
+    @Test
+    void testAssessFreshInvalidClaimUsesStoredColumns() {
+        Claim claim = createTestClaim();
+        claim.setFraudScore(new BigDecimal("0.25"));
+        claim.setValidationStatus("INVALID");
+        claim.setRiskLevel("MEDIUM");
+        claim.setSuggestedQueue("MANUAL_REVIEW");
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+
+        CompiledRules rules = mock(CompiledRules.class);
+        when(validationRuleEngine.getValidationRules()).thenReturn(rules);
+        when(rules.evaluate(claim)).thenReturn(List.of("Invalid claim type"));
+        when(fraudScoringService.describe(new BigDecimal("0.25")))
+                .thenReturn(new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk"));
+
+        ClaimAssessment assessment = claimAssessmentService.assess(claim);
+
+        assertFalse(assessment.getValidation().isValid());
+        assertEquals(List.of("Invalid claim type"), assessment.getValidation().getReasons());
+        assertTrue(assessment.getValidation().getLlmHints().isEmpty());
+        assertEquals("MEDIUM", assessment.getFraudScore().getRiskLevel());
+        verify(aiValidationService, never()).validateClaim(claim);
+        verify(fraudScoringService, never()).evaluateClaim(claim);
+    }
+
+    @Test
+    void testRouteFreshClaimWithoutStoredQueueRoutesStoredAssessment() {
+        Claim claim = createTestClaim();
+        claim.setFraudScore(new BigDecimal("0.85"));
+        claim.setValidationStatus("VALID");
+        claim.setRiskLevel("HIGH");
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.85"), "HIGH", "High fraud risk");
+        RoutingSuggestion suggestion = new RoutingSuggestion("MANUAL_REVIEW", "High fraud risk detected (score: 0.85)");
+        when(fraudScoringService.describe(new BigDecimal("0.85"))).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(
+                new ValidationResponse(true, Arrays.asList(), Arrays.asList()), fraudScore))).thenReturn(suggestion);
+
+        assertEquals("MANUAL_REVIEW", claimAssessmentService.route(claim).getQueue());
+        verify(aiValidationService, never()).validateClaim(claim);
+    }
+
+    @Test
+    void testRouteStaleInvalidClaimStoresVerdict() {
+        Claim claim = createTestClaim();
+        ValidationResponse validation = new ValidationResponse(false, Arrays.asList("Invalid claim type"), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+        RoutingSuggestion suggestion = new RoutingSuggestion("MANUAL_REVIEW", "Claim failed validation: Invalid claim type");
+
+        when(aiValidationService.validateClaim(claim)).thenReturn(validation);
+        when(fraudScoringService.evaluateClaim(claim)).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(validation, fraudScore))).thenReturn(suggestion);
+        when(claimRepository.save(claim)).thenReturn(claim);
+
+        assertEquals(suggestion, claimAssessmentService.route(claim));
+        assertEquals("INVALID", claim.getValidationStatus());
+        assertEquals("MANUAL_REVIEW", claim.getSuggestedQueue());
+        assertEquals(new BigDecimal("0.25"), claim.getFraudScore());
+        assertEquals(1, claim.getAssessmentVersion());
+        assertNotNull(claim.getAssessedAt());
+        assertFalse(stalenessPolicy.isStale(claim));
+        verify(claimRepository, times(1)).save(claim);
+        verify(aiValidationService, times(1)).validateClaim(claim);
+    }
+
+    @Test
+    void testAssessStoredInvalidVerdictWithoutScore() {
+        Claim claim = createTestClaim();
+        claim.setValidationStatus("INVALID");
+        claim.setSuggestedQueue("MANUAL_REVIEW");
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+
+        CompiledRules rules = mock(CompiledRules.class);
+        when(validationRuleEngine.getValidationRules()).thenReturn(rules);
+        when(rules.evaluate(claim)).thenReturn(List.of("Invalid claim type"));
+        when(fraudScoringService.evaluateClaim(claim))
+                .thenReturn(new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk"));
+
+        ClaimAssessment assessment = claimAssessmentService.assess(claim);
+
+        assertFalse(assessment.getValidation().isValid());
+        assertEquals(new BigDecimal("0.25"), assessment.getFraudScore().getFraudScore());
+        verify(fraudScoringService, never()).describe(null);
+        verify(aiValidationService, never()).validateClaim(claim);
+        verify(claimRepository, never()).save(claim);
+    }
+
+    @Test
+    void testReportValidatesAndScoresOnce() {
+        Claim claim = createTestClaim();
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList("Consider additional documentation"));
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+        ClaimAssessment assessment = new ClaimAssessment(validation, fraudScore);
+        RoutingSuggestion suggestion = new RoutingSuggestion("AUTO", "Standard processing");
+
+        when(aiValidationService.validateClaim(claim)).thenReturn(validation);
+        when(fraudScoringService.evaluateClaim(claim)).thenReturn(fraudScore);
+        when(routingService.suggest(claim, assessment)).thenReturn(suggestion);
+        when(summarizationService.summarize(claim, assessment)).thenReturn("Test summary");
+        when(claimRepository.save(claim)).thenReturn(claim);
+
+        ClaimAssessmentResponse report = claimAssessmentService.report(claim);
+
+        assertEquals("Test summary", report.getSummary());
+        assertEquals(suggestion, report.getRoute());
+        assertEquals(fraudScore, report.getScore());
+        assertEquals(validation, report.getValidation());
+        verify(aiValidationService, times(1)).validateClaim(claim);
+        verify(fraudScoringService, times(1)).evaluateClaim(claim);
+    }
+
+    @Test
+    void testRefreshCarriesStoredVersion() {
+        Claim claim = createTestClaim();
+        claim.setVersion(3L);
+        Claim stored = createTestClaim();
+        stored.setVersion(4L);
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+
+        when(aiValidationService.validateClaim(claim)).thenReturn(validation);
+        when(fraudScoringService.evaluateClaim(claim)).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(validation, fraudScore))).thenReturn(new RoutingSuggestion("AUTO", "Standard processing"));
+        when(claimRepository.save(claim)).thenReturn(stored);
+
+        assertSame(stored, claimAssessmentService.refresh(claim));
+        assertEquals(4L, claim.getVersion());
+    }
+
+    @Test
+    void testRefreshLosingConcurrentUpdateKeepsAssessment() {
+        Claim claim = createTestClaim();
+        claim.setVersion(3L);
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+
+        when(aiValidationService.validateClaim(claim)).thenReturn(validation);
+        when(fraudScoringService.evaluateClaim(claim)).thenReturn(fraudScore);
+        when(routingService.suggest(claim, new ClaimAssessment(validation, fraudScore))).thenReturn(new RoutingSuggestion("AUTO", "Standard processing"));
+        when(claimRepository.save(claim)).thenThrow(new OptimisticLockingFailureException("Claim was updated concurrently"));
+
+        assertSame(claim, claimAssessmentService.refresh(claim));
+        assertEquals(new BigDecimal("0.25"), claim.getFraudScore());
+        assertEquals(3L, claim.getVersion());
+    }
+
+    @Test
+    void testETagFollowsVersionStatisticsRulesAndWindow() {
+        Claim claim = createTestClaim();
+        claim.setVersion(2L);
+        assertEquals(Optional.empty(), claimAssessmentService.etag(claim));
+
+        claim.setFraudScore(new BigDecimal("0.25"));
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+        String etag = claimAssessmentService.etag(claim).orElseThrow();
+        assertEquals("\"2-0-0-0\"", etag);
+
+        claimStatistics.rebuild(List.of(claim));
+        assertNotEquals(etag, claimAssessmentService.etag(claim).orElseThrow());
+
+        when(validationRuleEngine.getGeneration()).thenReturn(1L);
+        assertEquals("\"2-1-1-0\"", claimAssessmentService.etag(claim).orElseThrow());
+
+        when(windowedClaimStatistics.getEpoch()).thenReturn(487_000L);
+        assertEquals("\"2-1-1-487000\"", claimAssessmentService.etag(claim).orElseThrow());
+
+        claim.setVersion(3L);
+        assertEquals("\"3-1-1-487000\"", claimAssessmentService.etag(claim).orElseThrow());
+    }
+
+    @Test
+    void testStalenessPolicy() {
+        Claim claim = createTestClaim();
+        assertTrue(stalenessPolicy.isStale(claim));
+
+        claim.setFraudScore(new BigDecimal("0.25"));
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now());
+        assertFalse(stalenessPolicy.isStale(claim));
+
+        claim.setAssessmentVersion(0);
+        assertTrue(stalenessPolicy.isStale(claim));
+
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.now().minusDays(2));
+        assertTrue(stalenessPolicy.isStale(claim));
+
+        claim.setAssessedAt(LocalDateTime.now());
+        claim.setFraudScore(null);
+        assertTrue(stalenessPolicy.isStale(claim));
+
+        claim.setValidationStatus("INVALID");
+        assertFalse(stalenessPolicy.isStale(claim));
+    }
+
+    private Claim createTestClaim() {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        claim.setStatus("NEW");
+        claim.setCreatedAt(LocalDateTime.now());
+        return claim;
+    }
+}
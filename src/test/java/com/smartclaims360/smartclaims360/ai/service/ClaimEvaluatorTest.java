@@ -0,0 +1,129 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.ClaimAssessment;
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.dto.ValidationResponse;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimEvaluatorTest {
+
+    @Mock
+    private AiValidationService aiValidationService;
+
+    @Mock
+    private FraudScoringService fraudScoringService;
+
+    @InjectMocks
+    private ClaimEvaluator claimEvaluator;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(claimEvaluator, "assessmentExecutor", executor);
+        ReflectionTestUtils.setField(claimEvaluator, "deadline", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testEvaluateRunsValidationAndScoringConcurrently() {
+        Claim claim = createTestClaim();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ValidationResponse validation = new ValidationResponse(true, Arrays.asList(), Arrays.asList());
+        FraudScoreResponse fraudScore = new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk");
+
+        when(aiValidationService.validateClaim(claim)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
+            return validation;
+        });
+        when(fraudScoringService.evaluateClaim(claim)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(2, TimeUnit.SECONDS));
+            return fraudScore;
+        });
+
+        assertEquals(new ClaimAssessment(validation, fraudScore), claimEvaluator.evaluate(claim));
+    }
+
+    @Test
+    void testInvalidClaimCancelsScoring() {
+        Claim claim = createTestClaim();
+        CountDownLatch scoringStarted = new CountDownLatch(1);
+        CountDownLatch scoringInterrupted = new CountDownLatch(1);
+        ValidationResponse validation = new ValidationResponse(false, Arrays.asList("Invalid claim type"), Arrays.asList());
+
+        when(aiValidationService.validateClaim(claim)).thenAnswer(invocation -> {
+            assertTrue(scoringStarted.await(2, TimeUnit.SECONDS));
+            return validation;
+        });
+        when(fraudScoringService.evaluateClaim(claim)).thenAnswer(invocation -> {
+            scoringStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                scoringInterrupted.countDown();
+            }
+            return null;
+        });
+
+        ClaimAssessment assessment = claimEvaluator.evaluate(claim, true);
+
+        assertEquals(validation, assessment.getValidation());
+        assertNull(assessment.getFraudScore());
+        assertDoesNotThrow(() -> assertTrue(scoringInterrupted.await(2, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void testDeadlineExceeded() {
+        ReflectionTestUtils.setField(claimEvaluator, "deadline", Duration.ofMillis(50));
+        Claim claim = createTestClaim();
+
+        when(aiValidationService.validateClaim(claim)).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return null;
+        });
+        lenient().when(fraudScoringService.evaluateClaim(claim)).thenReturn(new FraudScoreResponse(new BigDecimal("0.25"), "LOW", "Low fraud risk"));
+
+        assertThrows(AssessmentTimeoutException.class, () -> claimEvaluator.evaluate(claim));
+    }
+
+    private Claim createTestClaim() {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        claim.setStatus("NEW");
+        claim.setCreatedAt(LocalDateTime.now());
+        return claim;
+    }
+}
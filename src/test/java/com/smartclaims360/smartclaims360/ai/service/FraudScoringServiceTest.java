@@ -1,6 +1,10 @@
 package com.smartclaims360.smartclaims360.ai.service;
 
 import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.scoring.AmountSketches;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import com.smartclaims360.smartclaims360.ai.scoring.WindowedClaimStatistics;
 import com.smartclaims360.smartclaims360.entity.Claim;
 import com.smartclaims360.smartclaims360.repository.ClaimRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,18 +12,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class FraudScoringServiceTest {
@@ -27,18 +33,31 @@ class FraudScoringServiceTest {
     @Mock
     private ClaimRepository claimRepository;
 
+    @Spy
+    private ClaimStatistics claimStatistics = new ClaimStatistics();
+
+    @Spy
+    private WindowedClaimStatistics windowedClaimStatistics = new WindowedClaimStatistics();
+
+    @Spy
+    private AmountSketches amountSketches = new AmountSketches();
+
+    @Spy
+    private ClaimantIndex claimantIndex = new ClaimantIndex();
+
     @InjectMocks
     private FraudScoringService fraudScoringService;
 
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(fraudScoringService, "scoringEnabled", true);
+        ReflectionTestUtils.setField(fraudScoringService, "amountMode", "z-score");
+        ReflectionTestUtils.setField(amountSketches, "k", 200);
     }
 
     @Test
     void testScoreClaimWithNoHistoricalData() {
         Claim claim = createTestClaim("John Doe", new BigDecimal("1000.00"), "AUTO");
-        when(claimRepository.findAll()).thenReturn(Arrays.asList());
 
         FraudScoreResponse response = fraudScoringService.scoreClaim(claim);
 
@@ -56,7 +75,7 @@ class FraudScoringServiceTest {
             createTestClaim("Alice Brown", new BigDecimal("600.00"), "AUTO")
         );
         
-        when(claimRepository.findAll()).thenReturn(historicalClaims);
+        givenHistory(historicalClaims);
 
         FraudScoreResponse response = fraudScoringService.scoreClaim(newClaim);
 
@@ -77,7 +96,7 @@ class FraudScoringServiceTest {
             createTestClaim("Alice Brown", new BigDecimal("600.00"), "AUTO")
         );
         
-        when(claimRepository.findAll()).thenReturn(historicalClaims);
+        givenHistory(historicalClaims);
 
         FraudScoreResponse response = fraudScoringService.scoreClaim(newClaim);
 
@@ -94,13 +113,35 @@ class FraudScoringServiceTest {
             createTestClaim("Alice Brown", new BigDecimal("600.00"), "AUTO")
         );
         
-        when(claimRepository.findAll()).thenReturn(historicalClaims);
+        givenHistory(historicalClaims);
 
         FraudScoreResponse response = fraudScoringService.scoreClaim(newClaim);
 
         assertTrue(response.getFraudScore().compareTo(new BigDecimal("0.20")) > 0);
     }
 
+    @Test
+    void testScoreClaimsBatchKeepsInputOrderAndBatchesUpdates() {
+        givenHistory(Arrays.asList(
+            createTestClaim("Jane Smith", new BigDecimal("500.00"), "AUTO"),
+            createTestClaim("Bob Johnson", new BigDecimal("750.00"), "AUTO"),
+            createTestClaim("Alice Brown", new BigDecimal("600.00"), "AUTO")
+        ));
+
+        Claim storedClaim = createTestClaim("John Doe", new BigDecimal("50000.00"), "AUTO");
+        Claim newClaim = createTestClaim("Mary Major", new BigDecimal("600.00"), "AUTO");
+        newClaim.setId(null);
+
+        List<FraudScoreResponse> responses = fraudScoringService.scoreClaims(Arrays.asList(storedClaim, newClaim));
+
+        assertEquals(2, responses.size());
+        assertEquals(fraudScoringService.scoreClaim(createTestClaim("John Doe", new BigDecimal("50000.00"), "AUTO")).getFraudScore(),
+                responses.get(0).getFraudScore());
+        assertTrue(responses.get(0).getFraudScore().compareTo(responses.get(1).getFraudScore()) > 0);
+        assertEquals(responses.get(0).getFraudScore(), storedClaim.getFraudScore());
+        verify(claimRepository).updateFraudScores(Arrays.asList(storedClaim));
+    }
+
     @Test
     void testScoringDisabled() {
         ReflectionTestUtils.setField(fraudScoringService, "scoringEnabled", false);
@@ -117,12 +158,50 @@ class FraudScoringServiceTest {
     @Test
     void testRiskLevelClassification() {
         Claim claim = createTestClaim("John Doe", new BigDecimal("1000.00"), "AUTO");
-        when(claimRepository.findAll()).thenReturn(Arrays.asList());
 
         FraudScoreResponse response = fraudScoringService.scoreClaim(claim);
         assertEquals("LOW", response.getRiskLevel());
     }
 
+    @Test
+    void testPercentileModeIsNotSkewedByOutliers() {
+        List<Claim> history = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            history.add(createTestClaim("Claimant " + i, new BigDecimal(1000 + i * 10), "AUTO"));
+        }
+        history.add(createTestClaim("Big Spender", new BigDecimal("1000000.00"), "AUTO"));
+        givenHistory(history);
+        Claim claim = createTestClaim("John Doe", new BigDecimal("5000.00"), "AUTO");
+
+        FraudScoreResponse zScore = fraudScoringService.evaluateClaim(claim);
+        ReflectionTestUtils.setField(fraudScoringService, "amountMode", "percentile");
+        FraudScoreResponse percentile = fraudScoringService.evaluateClaim(claim);
+
+        assertEquals("LOW", zScore.getRiskLevel());
+        assertEquals(new BigDecimal("0.40"), percentile.getFraudScore());
+        assertEquals("MEDIUM", percentile.getRiskLevel());
+    }
+
+    @Test
+    void testPercentileModeWithoutHistoryForType() {
+        ReflectionTestUtils.setField(fraudScoringService, "amountMode", "percentile");
+        givenHistory(Arrays.asList(
+            createTestClaim("Jane Smith", new BigDecimal("500.00"), "AUTO"),
+            createTestClaim("Bob Jones", new BigDecimal("700.00"), "AUTO")
+        ));
+        Claim claim = createTestClaim("John Doe", new BigDecimal("90000.00"), "LIFE");
+
+        FraudScoreResponse response = fraudScoringService.evaluateClaim(claim);
+
+        assertEquals(new BigDecimal("0.30"), response.getFraudScore());
+    }
+
+    private void givenHistory(List<Claim> historicalClaims) {
+        claimStatistics.rebuild(historicalClaims);
+        claimantIndex.rebuild(historicalClaims);
+        historicalClaims.forEach(claim -> amountSketches.record(claim.getClaimAmount(), claim.getClaimType()));
+    }
+
     private Claim createTestClaim(String name, BigDecimal amount, String type) {
         Claim claim = new Claim();
         claim.setId(UUID.randomUUID());
@@ -0,0 +1,228 @@
+package com.smartclaims360.smartclaims360.ai.service;
+
+import com.smartclaims360.smartclaims360.ai.dto.FraudScoreResponse;
+import com.smartclaims360.smartclaims360.ai.dto.RescoreJobStatus;
+import com.smartclaims360.smartclaims360.ai.scoring.AmountSketches;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import com.smartclaims360.smartclaims360.ai.scoring.WindowedClaimStatistics;
+import com.smartclaims360.smartclaims360.dto.ClaimCursor;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.RescoreRejectedException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RescoreServiceTest {
+
+    private static final FraudScoreResponse MEDIUM = new FraudScoreResponse(new BigDecimal("0.50"), "MEDIUM", "Medium fraud risk");
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private FraudScoringService fraudScoringService;
+
+    @Mock
+    private ExecutorService assessmentExecutor;
+
+    @Spy
+    private ClaimStatistics claimStatistics = new ClaimStatistics();
+
+    @InjectMocks
+    private RescoreService rescoreService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rescoreService, "chunkSize", 2);
+        ReflectionTestUtils.setField(rescoreService, "parallelism", 2);
+        rescoreService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rescoreService.shutdown();
+    }
+
+    @Test
+    void testRunScoresEveryPageAndWritesOnlyChangedClaims() {
+        Claim current = createTestClaim(new BigDecimal("0.50"), "MEDIUM");
+        Claim stale = createTestClaim(new BigDecimal("0.10"), "LOW");
+        Claim unscored = createTestClaim(null, null);
+        when(claimRepository.count()).thenReturn(3L);
+        when(fraudScoringService.isEnabled()).thenReturn(true);
+        when(fraudScoringService.evaluateClaim(any(Claim.class), any())).thenReturn(MEDIUM);
+        when(claimRepository.findPage(any(), isNull(), eq(2))).thenReturn(List.of(current, stale));
+        when(claimRepository.findPage(any(), eq(ClaimCursor.after(stale)), eq(2))).thenReturn(List.of(unscored));
+
+        RescoreJob job = rescoreService.start(null);
+        rescoreService.run(job);
+
+        verify(claimRepository).updateFraudScores(List.of(stale));
+        verify(claimRepository).updateFraudScores(List.of(unscored));
+        assertEquals(new BigDecimal("0.50"), unscored.getFraudScore());
+        assertEquals("MEDIUM", unscored.getRiskLevel());
+
+        RescoreJobStatus status = job.status();
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(3, status.getClaimsProcessed());
+        assertEquals(2, status.getClaimsUpdated());
+        assertEquals(1, status.getClaimsUnchanged());
+        assertEquals(100.0, status.getPercentComplete());
+    }
+
+    @Test
+    void testPercentileRescoreIgnoresClaimsAddedDuringTheJob() {
+        AmountSketches amountSketches = new AmountSketches();
+        ReflectionTestUtils.setField(amountSketches, "k", 200);
+        FraudScoringService scoring = new FraudScoringService();
+        ReflectionTestUtils.setField(scoring, "claimStatistics", claimStatistics);
+        ReflectionTestUtils.setField(scoring, "windowedClaimStatistics", new WindowedClaimStatistics());
+        ReflectionTestUtils.setField(scoring, "amountSketches", amountSketches);
+        ReflectionTestUtils.setField(scoring, "claimantIndex", new ClaimantIndex());
+        ReflectionTestUtils.setField(scoring, "scoringEnabled", true);
+        ReflectionTestUtils.setField(scoring, "amountMode", "percentile");
+        ReflectionTestUtils.setField(rescoreService, "fraudScoringService", scoring);
+
+        List<Claim> history = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Claim claim = createTestClaim(null, null);
+            claim.setClaimAmount(new BigDecimal(1000 + i * 10));
+            history.add(claim);
+        }
+        claimStatistics.rebuild(history);
+        history.forEach(claim -> amountSketches.record(claim.getClaimAmount(), claim.getClaimType()));
+        Claim claim = createTestClaim(null, null);
+        claim.setClaimAmount(new BigDecimal("5000.00"));
+        when(claimRepository.findPage(any(), isNull(), eq(2))).thenReturn(List.of(claim));
+
+        RescoreJob job = rescoreService.start(null);
+        FraudScoreResponse frozen = scoring.evaluateClaim(claim, job.getStatistics());
+        for (int i = 0; i < 600; i++) {
+            amountSketches.record(new BigDecimal("5000.00"), "AUTO");
+        }
+        rescoreService.run(job);
+
+        assertEquals(frozen.getFraudScore(), claim.getFraudScore());
+        assertNotEquals(frozen.getFraudScore(), scoring.evaluateClaim(claim).getFraudScore());
+        assertEquals("COMPLETED", job.status().getState());
+    }
+
+    @Test
+    void testConflictingClaimIsSkipped() {
+        Claim first = createTestClaim(null, null);
+        Claim modified = createTestClaim(null, null);
+        when(fraudScoringService.isEnabled()).thenReturn(true);
+        when(fraudScoringService.evaluateClaim(any(Claim.class), any())).thenReturn(MEDIUM);
+        when(claimRepository.findPage(any(), isNull(), eq(2))).thenReturn(List.of(first, modified));
+        when(claimRepository.findPage(any(), notNull(), eq(2))).thenReturn(List.of());
+        doAnswer(invocation -> {
+            List<Claim> claims = invocation.getArgument(0);
+            if (claims.contains(modified)) {
+                throw new OptimisticLockingFailureException("Claim " + modified.getId() + " was modified");
+            }
+            return null;
+        }).when(claimRepository).updateFraudScores(any());
+
+        RescoreJob job = rescoreService.start(null);
+        rescoreService.run(job);
+
+        verify(claimRepository).updateFraudScores(List.of(first, modified));
+        verify(claimRepository).updateFraudScores(List.of(first));
+        RescoreJobStatus status = job.status();
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(1, status.getClaimsUpdated());
+        assertEquals(1, status.getClaimsConflicted());
+        assertEquals(0, status.getClaimsUnchanged());
+    }
+
+    @Test
+    void testCancelStopsAfterCurrentChunk() {
+        when(fraudScoringService.isEnabled()).thenReturn(true);
+        when(fraudScoringService.evaluateClaim(any(Claim.class), any())).thenReturn(MEDIUM);
+        when(claimRepository.findPage(any(), isNull(), eq(2)))
+                .thenReturn(List.of(createTestClaim(null, null), createTestClaim(null, null)));
+
+        RescoreJob job = rescoreService.start(null);
+        doAnswer(invocation -> {
+            job.cancel();
+            return null;
+        }).when(claimRepository).updateFraudScores(any());
+        rescoreService.run(job);
+
+        verify(claimRepository, times(1)).findPage(any(), any(), eq(2));
+        assertEquals(RescoreJob.State.CANCELLED, job.getState());
+        assertEquals(2, job.status().getClaimsUpdated());
+    }
+
+    @Test
+    void testOnlyOneJobRunsAtATime() {
+        when(fraudScoringService.isEnabled()).thenReturn(true);
+
+        RescoreJob job = rescoreService.start(null);
+
+        RescoreRejectedException ex = assertThrows(RescoreRejectedException.class, () -> rescoreService.start(null));
+        assertEquals("Re-scoring job " + job.getId() + " is already running", ex.getMessage());
+        assertTrue(rescoreService.getJob(job.getId()).isPresent());
+    }
+
+    @Test
+    void testStartRejectedWhenScoringDisabled() {
+        when(fraudScoringService.isEnabled()).thenReturn(false);
+
+        assertThrows(RescoreRejectedException.class, () -> rescoreService.start(null));
+    }
+
+    @Test
+    void testCancelEndsThrottleWait() throws Exception {
+        RescoreJob job = new RescoreJob(10, 0, claimStatistics.snapshot(), 0.1);
+        job.processed(10, 10, 0);
+
+        Thread waiter = Thread.ofVirtual().start(() -> assertDoesNotThrow(job::awaitPace));
+        assertFalse(waiter.join(Duration.ofMillis(100)));
+        job.cancel();
+
+        assertTrue(waiter.join(Duration.ofSeconds(2)));
+        assertEquals(0.1, job.status().getMaxClaimsPerSecond());
+    }
+
+    private Claim createTestClaim(BigDecimal fraudScore, String riskLevel) {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        claim.setCreatedAt(LocalDateTime.now());
+        claim.setFraudScore(fraudScore);
+        claim.setRiskLevel(riskLevel);
+        claim.setVersion(0L);
+        return claim;
+    }
+}
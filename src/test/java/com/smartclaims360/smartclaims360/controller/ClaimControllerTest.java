@@ -1,8 +1,13 @@
 package com.smartclaims360.smartclaims360.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.dto.ClaimPage;
 import com.smartclaims360.smartclaims360.dto.ClaimRequest;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.InvalidCursorException;
+import com.smartclaims360.smartclaims360.service.ClaimBulkService;
+import com.smartclaims360.smartclaims360.service.ClaimExportService;
 import com.smartclaims360.smartclaims360.service.ClaimService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +23,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +38,12 @@ class ClaimControllerTest {
     @MockBean
     private ClaimService claimService;
 
+    @MockBean
+    private ClaimExportService claimExportService;
+
+    @MockBean
+    private ClaimBulkService claimBulkService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -97,16 +110,53 @@ class ClaimControllerTest {
         claim2.setClaimType("HOME");
         claim2.setStatus("NEW");
 
-        when(claimService.getAllClaims()).thenReturn(Arrays.asList(claim1, claim2));
+        when(claimService.getClaims(any(ClaimFilter.class), isNull(), eq(50)))
+                .thenReturn(new ClaimPage(Arrays.asList(claim1, claim2), null));
 
         mockMvc.perform(get("/claims"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].claimantName").value("John Doe"))
                 .andExpect(jsonPath("$[1].claimantName").value("Jane Smith"));
     }
 
+    @Test
+    void testGetClaimsPageWithFilters() throws Exception {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName("John Doe");
+        claim.setClaimAmount(new BigDecimal("1000.00"));
+        claim.setClaimType("AUTO");
+        claim.setStatus("NEW");
+
+        ClaimFilter filter = new ClaimFilter("AUTO", "NEW", new BigDecimal("500"), null, null,
+                LocalDateTime.parse("2025-08-01T00:00:00"), null);
+        when(claimService.getClaims(filter, "abc", 1)).thenReturn(new ClaimPage(Arrays.asList(claim), "next-page"));
+
+        mockMvc.perform(get("/claims")
+                        .param("cursor", "abc")
+                        .param("limit", "1")
+                        .param("claimType", "AUTO")
+                        .param("status", "NEW")
+                        .param("minAmount", "500")
+                        .param("createdFrom", "2025-08-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next-page"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void testGetClaimsInvalidCursor() throws Exception {
+        when(claimService.getClaims(any(ClaimFilter.class), eq("garbage"), eq(50)))
+                .thenThrow(new InvalidCursorException("garbage"));
+
+        mockMvc.perform(get("/claims").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid cursor: garbage"));
+    }
+
     @Test
     void testGetClaimById() throws Exception {
         UUID claimId = UUID.randomUUID();
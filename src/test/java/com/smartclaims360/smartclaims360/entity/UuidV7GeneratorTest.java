@@ -0,0 +1,97 @@
+package com.smartclaims360.smartclaims360.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void testLayout() {
+        long millis = 1_760_000_000_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> millis, new SplittableRandom(1), new AtomicLong());
+
+        UUID id = generator.generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(millis, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testSequenceCarriesIntoNextMillisecond() {
+        long millis = 1_760_000_000_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> millis, new SplittableRandom(1), new AtomicLong());
+
+        UUID previous = generator.generate();
+        for (int i = 1; i < 5000; i++) {
+            UUID id = generator.generate();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), id.getMostSignificantBits()) < 0);
+            previous = id;
+        }
+        assertEquals(millis + 1, previous.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testClockSteppingBackwardsKeepsOrder() {
+        long[] millis = {1_760_000_000_000L};
+        UuidV7Generator generator = new UuidV7Generator(() -> millis[0], new SplittableRandom(1), new AtomicLong());
+
+        UUID before = generator.generate();
+        millis[0] -= 10_000;
+        UUID after = generator.generate();
+
+        assertTrue(Long.compareUnsigned(before.getMostSignificantBits(), after.getMostSignificantBits()) < 0);
+    }
+
+    @Test
+    void testOrderedAndUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7Generator.next());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> prefixes = new HashSet<>();
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(),
+                            ids.get(i).getMostSignificantBits()) < 0);
+                }
+                ids.forEach(id -> prefixes.add(id.getMostSignificantBits()));
+                all.addAll(ids);
+            }
+
+            assertEquals(threads * perThread, all.size());
+            assertEquals(threads * perThread, prefixes.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
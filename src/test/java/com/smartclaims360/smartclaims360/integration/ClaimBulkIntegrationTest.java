@@ -0,0 +1,97 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "claims.bulk.chunk-size=2")
+@AutoConfigureMockMvc
+@Transactional
+class ClaimBulkIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testBulkCreateReportsEachItem() throws Exception {
+        String body = """
+            [
+                {"claimantName": "Alice Smith", "claimAmount": 1200.00, "claimType": "AUTO"},
+                {"claimantName": "", "claimAmount": 0, "claimType": "HEALTH"},
+                {"claimantName": "Bob Jones", "claimAmount": 800.00, "claimType": "HEALTH"},
+                {"claimantName": "Carol White", "claimAmount": "not a number", "claimType": "AUTO"},
+                {"claimantName": "Dan Brown", "claimAmount": 300.00, "claimType": "PROPERTY"}
+            ]
+            """;
+
+        mockMvc.perform(post("/claims/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.items[0].status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.items[0].id").isNotEmpty())
+                .andExpect(jsonPath("$.items[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[1].errors.length()").value(2))
+                .andExpect(jsonPath("$.items[1].errors[0]").value("Claim amount must be greater than 0"))
+                .andExpect(jsonPath("$.items[3].status").value("REJECTED"))
+                .andExpect(jsonPath("$.items[3].index").value(3))
+                .andExpect(jsonPath("$.items[4].status").value("ACCEPTED"));
+
+        List<Claim> claims = claimRepository.findAll();
+        assertEquals(3, claims.size());
+        assertTrue(claims.stream().allMatch(claim -> "NEW".equals(claim.getStatus())));
+        assertTrue(claims.stream().allMatch(claim -> claim.getFraudScore() != null));
+        assertTrue(claims.stream().allMatch(claim -> "VALID".equals(claim.getValidationStatus())));
+        assertTrue(claims.stream().allMatch(claim -> claim.getSuggestedQueue() != null));
+        assertTrue(claims.stream().allMatch(claim -> claim.getAssessmentVersion() != null && claim.getAssessedAt() != null));
+    }
+
+    @Test
+    void testBulkCreateRejectsNonArrayBody() throws Exception {
+        mockMvc.perform(post("/claims/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"claimantName\": \"Alice Smith\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testBulkCreateKeepsChunksBeforeMalformedJson() throws Exception {
+        String body = """
+            [
+                {"claimantName": "Alice Smith", "claimAmount": 1200.00, "claimType": "AUTO"},
+                {"claimantName": "Bob Jones", "claimAmount": 800.00, "claimType": "HEALTH"},
+                {"claimantName": "Carol White", "claimAmount": 
+            """;
+
+        mockMvc.perform(post("/claims/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(2, claimRepository.count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimCache;
+import com.smartclaims360.smartclaims360.repository.ClaimJdbcRepository;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: reads inside a transaction bypass the claim cache.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClaimCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimJdbcRepository claimJdbcRepository;
+
+    @Autowired
+    private ClaimCache claimCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+        claimCache.invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testRepeatedLookupIsServedFromCache() throws Exception {
+        Claim claim = claimRepository.save(createTestClaim());
+        double hits = cacheGets("hit");
+
+        mockMvc.perform(get("/claims/" + claim.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.claimantName").value("Cache Test User"));
+
+        assertEquals(hits + 1, cacheGets("hit"));
+    }
+
+    @Test
+    void testFraudScoreUpdateInvalidatesCachedClaim() throws Exception {
+        Claim claim = claimRepository.save(createTestClaim());
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(jsonPath("$.fraudScore").doesNotExist());
+
+        claim.setFraudScore(new BigDecimal("0.85"));
+        claim.setRiskLevel("HIGH");
+        claimJdbcRepository.updateFraudScores(List.of(claim));
+
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fraudScore").value(0.85))
+                .andExpect(jsonPath("$.riskLevel").value("HIGH"));
+    }
+
+    @Test
+    void testEntityUpdateAndDeleteInvalidateCachedClaim() throws Exception {
+        Claim claim = claimRepository.save(createTestClaim());
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(jsonPath("$.status").value("NEW"));
+
+        claim.setStatus("APPROVED");
+        claimRepository.save(claim);
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+
+        claimRepository.deleteById(claim.getId());
+        mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(status().isNotFound());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "claims").tag("result", result).functionCounter().count();
+    }
+
+    private Claim createTestClaim() {
+        Claim claim = new Claim();
+        claim.setClaimantName("Cache Test User");
+        claim.setClaimAmount(new BigDecimal("1500.00"));
+        claim.setClaimType("AUTO");
+        claim.setStatus("NEW");
+        return claim;
+    }
+}
@@ -0,0 +1,108 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: the export reads in its own transaction on the async request thread, so the
+ * claims must be committed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClaimExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+        List<Claim> claims = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Claim claim = new Claim();
+            claim.setClaimantName("Export User " + i);
+            claim.setClaimAmount(new BigDecimal("100.00").multiply(BigDecimal.valueOf(i + 1)));
+            claim.setClaimType("AUTO");
+            claims.add(claim);
+        }
+        claimRepository.saveAll(claims);
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testExportStreamsEveryClaimAsNdjson() throws Exception {
+        List<Claim> exported = export("/claims/export");
+
+        assertEquals(3, exported.size());
+        assertEquals(claimRepository.findAll().stream().map(Claim::getId).sorted().toList(),
+                exported.stream().map(Claim::getId).sorted().toList());
+    }
+
+    @Test
+    void testExportResumesAfterLastReceivedClaim() throws Exception {
+        List<Claim> exported = export("/claims/export");
+
+        List<Claim> resumed = export("/claims/export?afterId=" + exported.get(0).getId());
+
+        assertEquals(exported.subList(1, 3).stream().map(Claim::getId).toList(),
+                resumed.stream().map(Claim::getId).toList());
+    }
+
+    @Test
+    void testExportRejectsUnknownResumePoint() throws Exception {
+        mockMvc.perform(get("/claims/export").param("afterId", UUID.randomUUID().toString()))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/claims/export").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Claim> export(String url) throws Exception {
+        MvcResult started = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<Claim> claims = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            if (!line.isBlank()) {
+                claims.add(objectMapper.readValue(line, Claim.class));
+            }
+        }
+        return claims;
+    }
+}
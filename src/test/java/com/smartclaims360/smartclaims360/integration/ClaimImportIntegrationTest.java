@@ -0,0 +1,139 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.service.ClaimImportJob;
+import com.smartclaims360.smartclaims360.service.ClaimImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: uploads are imported on a background thread that commits its own chunks.
+ */
+@SpringBootTest(properties = "claims.import.chunk-size=2")
+@AutoConfigureMockMvc
+class ClaimImportIntegrationTest {
+
+    @TempDir
+    static Path importDirectory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimImportService claimImportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("claims.import.directory", () -> importDirectory.toString());
+    }
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testUploadImportsInBackground() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "claims.csv", "text/csv", """
+            claimantName,claimAmount,claimType
+            Alice Smith,1200.00,AUTO
+            "Jones, Bob",800.00,HEALTH
+            Carol White,0,AUTO
+            Dan Brown,300.00,PROPERTY
+            """.getBytes(StandardCharsets.UTF_8));
+
+        String response = mockMvc.perform(multipart("/claims/import").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.fileName").value("claims.csv"))
+                .andExpect(jsonPath("$.format").value("CSV"))
+                .andReturn().getResponse().getContentAsString();
+        UUID jobId = UUID.fromString(objectMapper.readTree(response).get("jobId").asText());
+
+        ClaimImportJob job = claimImportService.getJob(jobId).orElseThrow();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (job.getState() == ClaimImportJob.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        String status = mockMvc.perform(get("/claims/import/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.rowsImported").value(3))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.percentComplete").value(100.0))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode rejections = objectMapper.readTree(status).get("rejections");
+        assertEquals("line 4: Claim amount must be greater than 0", rejections.get(0).asText());
+
+        List<Claim> claims = claimRepository.findAll();
+        assertEquals(3, claims.size());
+        assertTrue(claims.stream().anyMatch(claim -> "Jones, Bob".equals(claim.getClaimantName())));
+        try (var remaining = Files.list(importDirectory)) {
+            assertEquals(0, remaining.count());
+        }
+    }
+
+    @Test
+    void testResumesFromCheckpoint() throws Exception {
+        Path file = Files.createTempFile(importDirectory, "extract", ".data");
+        String header = "claimType,claimantName,claimAmount\n";
+        String first = "AUTO,Alice Smith,1200.00\n";
+        Files.writeString(file, header + first + "HEALTH,Bob Jones,800.00\nLIFE,Carol White,300.00\n");
+        Files.writeString(file.resolveSibling(file.getFileName() + ".checkpoint"),
+                "offset=" + (header.length() + first.length()) + "\nline=2\nimported=1\nrejected=0\n"
+                        + "fileSize=" + Files.size(file) + "\nlastModified=" + Files.getLastModifiedTime(file).toMillis() + "\n");
+
+        ClaimImportJob job = claimImportService.register(file, ImportFormat.CSV);
+        claimImportService.run(job);
+
+        assertEquals(ClaimImportJob.State.COMPLETED, job.getState());
+        assertEquals(3, job.status().getRowsImported());
+        assertEquals(header.length() + first.length(), job.status().getResumedFromOffset());
+        assertEquals(List.of("Bob Jones", "Carol White"),
+                claimRepository.findAll().stream().map(Claim::getClaimantName).sorted().toList());
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".checkpoint")));
+        assertTrue(Files.exists(file));
+        Files.delete(file);
+    }
+
+    @Test
+    void testUnknownJob() throws Exception {
+        mockMvc.perform(get("/claims/import/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,21 +1,30 @@
 package com.smartclaims360.smartclaims360.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.ai.service.ClaimEvaluator;
 import com.smartclaims360.smartclaims360.dto.ClaimRequest;
 import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
 import com.smartclaims360.smartclaims360.repository.ClaimRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +42,9 @@ class ClaimIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @SpyBean
+    private ClaimEvaluator claimEvaluator;
+
     @BeforeEach
     void setUp() {
         claimRepository.deleteAll();
@@ -72,6 +84,78 @@ class ClaimIntegrationTest {
                 .andExpect(jsonPath("$[0].claimantName").value("Integration Test User"));
     }
 
+    @Test
+    void testCreateClaimIsStoredOnceWhenAssessmentTimesOut() throws Exception {
+        doThrow(new AssessmentTimeoutException(null, Duration.ofMillis(1)))
+                .when(claimEvaluator).evaluate(any(Claim.class));
+        ClaimRequest claimRequest = new ClaimRequest();
+        claimRequest.setClaimantName("Slow Assessment User");
+        claimRequest.setClaimAmount(new BigDecimal("2500.00"));
+        claimRequest.setClaimType("AUTO");
+
+        mockMvc.perform(post("/claims")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(claimRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.fraudScore").doesNotExist())
+                .andExpect(jsonPath("$.assessedAt").doesNotExist());
+
+        assertEquals(1, claimRepository.count());
+    }
+
+    @Test
+    void testKeysetPaginationAndFilters() throws Exception {
+        for (String type : new String[] {"AUTO", "HEALTH", "AUTO", "AUTO"}) {
+            ClaimRequest claimRequest = new ClaimRequest();
+            claimRequest.setClaimantName("Paging User");
+            claimRequest.setClaimAmount(new BigDecimal("1200.00"));
+            claimRequest.setClaimType(type);
+            mockMvc.perform(post("/claims")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(claimRequest)))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult firstPage = mockMvc.perform(get("/claims").param("limit", "2").param("claimType", "AUTO"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn();
+        String cursor = firstPage.getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/claims").param("limit", "2").param("claimType", "AUTO").param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].claimType").value("AUTO"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/claims").param("minAmount", "1500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get("/claims").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testClaimIdsAreTimeOrdered() {
+        UUID previous = null;
+        for (int i = 0; i < 3; i++) {
+            Claim claim = new Claim();
+            claim.setClaimantName("Ordered User");
+            claim.setClaimAmount(new BigDecimal("100.00"));
+            claim.setClaimType("AUTO");
+            UUID id = claimRepository.save(claim).getId();
+
+            assertEquals(7, id.version());
+            if (previous != null) {
+                assertTrue(previous.compareTo(id) < 0);
+            }
+            previous = id;
+        }
+    }
+
     @Test
     void testValidationErrors() throws Exception {
         ClaimRequest invalidRequest = new ClaimRequest();
@@ -0,0 +1,121 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.smartclaims360.smartclaims360.ai.scoring.AmountSketches;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimColumns;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: claim columns are only appended to after commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClaimStatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private AmountSketches amountSketches;
+
+    @Autowired
+    private ClaimColumns claimColumns;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testStatsReflectCommittedClaims() throws Exception {
+        claimRepository.save(createTestClaim("John Doe", "500.00", "AUTO"));
+        claimRepository.save(createTestClaim("Jane Smith", "1500.00", "AUTO"));
+        Claim health = claimRepository.save(createTestClaim("Bob Jones", "4500.00", "HEALTH"));
+
+        mockMvc.perform(get("/claims/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(3))
+                .andExpect(jsonPath("$.totalAmount").value(6500.00))
+                .andExpect(jsonPath("$.averageAmount").value(2166.67))
+                .andExpect(jsonPath("$.types[0].claimType").value("AUTO"))
+                .andExpect(jsonPath("$.types[0].count").value(2))
+                .andExpect(jsonPath("$.types[0].minAmount").value(500.00))
+                .andExpect(jsonPath("$.types[0].maxAmount").value(1500.00))
+                .andExpect(jsonPath("$.types[1].claimType").value("HEALTH"));
+
+        claimRepository.deleteById(health.getId());
+
+        mockMvc.perform(get("/claims/stats"))
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.types.length()").value(1));
+    }
+
+    @Test
+    void testStatsFilterByCreationTime() throws Exception {
+        claimRepository.save(createTestClaim("John Doe", "500.00", "AUTO"));
+
+        mockMvc.perform(get("/claims/stats")
+                        .param("createdFrom", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(0))
+                .andExpect(jsonPath("$.averageAmount").value(0.00))
+                .andExpect(jsonPath("$.types").isEmpty());
+
+        mockMvc.perform(get("/claims/stats")
+                        .param("createdFrom", LocalDateTime.now().minusDays(1).toString())
+                        .param("createdTo", LocalDateTime.now().plusDays(1).toString()))
+                .andExpect(jsonPath("$.count").value(1));
+    }
+
+    @Test
+    void testAmountPercentiles() throws Exception {
+        // Sketches keep deleted claims until rebuilt; start from the claims left after setUp.
+        amountSketches.rebuild(claimColumns.view());
+        for (int i = 1; i <= 100; i++) {
+            claimRepository.save(createTestClaim("Claimant " + i, i + "00.00", "AUTO"));
+        }
+        claimRepository.save(createTestClaim("Bob Jones", "4500.00", "HEALTH"));
+
+        mockMvc.perform(get("/claims/stats/amounts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(101))
+                .andExpect(jsonPath("$.p50").value(5000.00))
+                .andExpect(jsonPath("$.types[0].claimType").value("AUTO"))
+                .andExpect(jsonPath("$.types[0].count").value(100))
+                .andExpect(jsonPath("$.types[0].p50").value(5000.00))
+                .andExpect(jsonPath("$.types[0].p90").value(9000.00))
+                .andExpect(jsonPath("$.types[0].p99").value(9900.00))
+                .andExpect(jsonPath("$.types[1].claimType").value("HEALTH"))
+                .andExpect(jsonPath("$.types[1].p99").value(4500.00));
+    }
+
+    private Claim createTestClaim(String name, String amount, String type) {
+        Claim claim = new Claim();
+        claim.setClaimantName(name);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType(type);
+        claim.setStatus("NEW");
+        return claim;
+    }
+}
@@ -0,0 +1,153 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.ai.service.RoutingService;
+import com.smartclaims360.smartclaims360.ai.service.SummarizationService;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimJdbcRepository;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: versions are only bumped when an update is flushed and committed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ClaimVersionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private ClaimJdbcRepository claimJdbcRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private SummarizationService summarizationService;
+
+    @SpyBean
+    private RoutingService routingService;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testClaimETagAnswersNotModified() throws Exception {
+        Claim claim = createClaim();
+
+        String etag = mockMvc.perform(get("/claims/" + claim.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + claim.getVersion() + "\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/claims/" + claim.getId()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testSummaryAndRouteAnswerNotModifiedWithoutRecomputing() throws Exception {
+        Claim claim = createClaim();
+
+        String summaryETag = mockMvc.perform(get("/claims/" + claim.getId() + "/summary"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String routeETag = mockMvc.perform(get("/claims/" + claim.getId() + "/route"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(summaryETag);
+        assertEquals(summaryETag, routeETag);
+        clearInvocations(summarizationService, routingService);
+
+        mockMvc.perform(get("/claims/" + claim.getId() + "/summary").header("If-None-Match", summaryETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/claims/" + claim.getId() + "/route").header("If-None-Match", routeETag))
+                .andExpect(status().isNotModified());
+
+        verify(summarizationService, never()).summarize(any(), any());
+        verify(routingService, never()).suggest(any(), any());
+    }
+
+    @Test
+    void testFraudScoreUpdateChangesETag() throws Exception {
+        Claim claim = createClaim();
+        String etag = mockMvc.perform(get("/claims/" + claim.getId() + "/summary"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/claims/score/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"" + claim.getId() + "\"]"))
+                .andExpect(status().isOk());
+
+        assertEquals(claim.getVersion() + 1, claimRepository.findById(claim.getId()).orElseThrow().getVersion());
+        mockMvc.perform(get("/claims/" + claim.getId() + "/summary").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"));
+    }
+
+    @Test
+    void testConcurrentFraudScoreUpdateIsRejected() throws Exception {
+        Claim claim = createClaim();
+        Claim first = claimRepository.findById(claim.getId()).orElseThrow();
+        Claim second = claimRepository.findById(claim.getId()).orElseThrow();
+
+        first.setFraudScore(new BigDecimal("0.10"));
+        first.setRiskLevel("LOW");
+        claimJdbcRepository.updateFraudScores(List.of(first));
+
+        second.setFraudScore(new BigDecimal("0.90"));
+        second.setRiskLevel("HIGH");
+        assertThrows(OptimisticLockingFailureException.class, () -> claimJdbcRepository.updateFraudScores(List.of(second)));
+
+        Claim stored = claimRepository.findById(claim.getId()).orElseThrow();
+        assertEquals(new BigDecimal("0.10"), stored.getFraudScore());
+        assertEquals(claim.getVersion() + 1, stored.getVersion());
+    }
+
+    private Claim createClaim() throws Exception {
+        ClaimRequest claimRequest = new ClaimRequest();
+        claimRequest.setClaimantName("Version Test User");
+        claimRequest.setClaimAmount(new BigDecimal("1500.00"));
+        claimRequest.setClaimType("AUTO");
+
+        String response = mockMvc.perform(post("/claims")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(claimRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, Claim.class);
+    }
+}
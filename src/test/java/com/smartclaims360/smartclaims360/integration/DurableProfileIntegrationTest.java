@@ -0,0 +1,62 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.smartclaims360.smartclaims360.SmartClaims360Application;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatisticsLoader;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimantIndex;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application twice on the same data directory under the {@code durable} profile; the second start
+ * restores the scoring statistics from the snapshot written on shutdown.
+ */
+class DurableProfileIntegrationTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void testClaimsSurviveRestart() {
+        UUID id;
+        try (ConfigurableApplicationContext context = start()) {
+            Claim claim = new Claim();
+            claim.setClaimantName("Durable User");
+            claim.setClaimAmount(new BigDecimal("1500.00"));
+            claim.setClaimType("AUTO");
+            id = context.getBean(ClaimRepository.class).save(claim).getId();
+        }
+
+        assertTrue(Files.exists(dataDir.resolve("smartclaims360.mv.db")));
+        assertTrue(Files.exists(dataDir.resolve("scoring.snapshot")));
+
+        try (ConfigurableApplicationContext context = start()) {
+            Claim restored = context.getBean(ClaimRepository.class).findById(id).orElseThrow();
+            assertEquals("Durable User", restored.getClaimantName());
+            assertEquals(0, new BigDecimal("1500.00").compareTo(restored.getClaimAmount()));
+
+            ClaimStatisticsLoader loader = context.getBean(ClaimStatisticsLoader.class);
+            assertEquals("snapshot", loader.getLoadedFrom());
+            assertEquals(1, context.getBean(ClaimStatistics.class).snapshot().getCount());
+            assertEquals(1, context.getBean(ClaimantIndex.class).count("Durable User"));
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SmartClaims360Application.class)
+                .profiles("durable")
+                .properties("server.port=0", "claims.storage.data-dir=" + dataDir)
+                .run();
+    }
+}
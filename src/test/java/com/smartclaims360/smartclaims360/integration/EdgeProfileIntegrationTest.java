@@ -0,0 +1,89 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.smartclaims360.smartclaims360.SmartClaims360Application;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatistics;
+import com.smartclaims360.smartclaims360.ai.scoring.ClaimStatisticsLoader;
+import com.smartclaims360.smartclaims360.ai.service.FraudScoringService;
+import com.smartclaims360.smartclaims360.dto.ClaimFilter;
+import com.smartclaims360.smartclaims360.dto.ClaimPage;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import com.smartclaims360.smartclaims360.repository.mapped.MappedClaimRepository;
+import com.smartclaims360.smartclaims360.service.ClaimService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application twice on the same data directory under the {@code edge} profile, which stores claims in
+ * memory-mapped segment files instead of a database.
+ */
+class EdgeProfileIntegrationTest {
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void testClaimsSurviveRestartWithoutDatabase() {
+        UUID id;
+        try (ConfigurableApplicationContext context = start()) {
+            assertTrue(context.getBeansOfType(DataSource.class).isEmpty());
+            assertInstanceOf(MappedClaimRepository.class, context.getBean(ClaimRepository.class));
+
+            ClaimService claimService = context.getBean(ClaimService.class);
+            id = claimService.createClaim(createRequest("Edge User", "1500.00", "AUTO")).getId();
+            claimService.createClaim(createRequest("Other User", "250.00", "HEALTH"));
+
+            Claim stored = claimService.getClaimById(id).orElseThrow();
+            context.getBean(FraudScoringService.class).scoreClaim(stored);
+            Claim stale = context.getBean(ClaimRepository.class).findById(id).orElseThrow();
+            stale.setVersion(stale.getVersion() - 1);
+            assertThrows(OptimisticLockingFailureException.class,
+                    () -> context.getBean(ClaimRepository.class).save(stale));
+
+            ClaimPage page = claimService.getClaims(new ClaimFilter("AUTO", null, null, null, null, null, null), null, 10);
+            assertEquals(List.of(id), page.claims().stream().map(Claim::getId).toList());
+        }
+
+        assertTrue(Files.exists(dataDir.resolve("segments").resolve("claims-00000000.segment")));
+        assertTrue(Files.exists(dataDir.resolve("scoring.snapshot")));
+
+        try (ConfigurableApplicationContext context = start()) {
+            Claim restored = context.getBean(ClaimRepository.class).findById(id).orElseThrow();
+            assertEquals("Edge User", restored.getClaimantName());
+            assertEquals(0, new BigDecimal("1500.00").compareTo(restored.getClaimAmount()));
+            assertNotNull(restored.getFraudScore());
+            assertEquals(2, context.getBean(ClaimRepository.class).count());
+
+            assertEquals("snapshot", context.getBean(ClaimStatisticsLoader.class).getLoadedFrom());
+            assertEquals(2, context.getBean(ClaimStatistics.class).snapshot().getCount());
+        }
+    }
+
+    private ClaimRequest createRequest(String name, String amount, String type) {
+        ClaimRequest request = new ClaimRequest();
+        request.setClaimantName(name);
+        request.setClaimAmount(new BigDecimal(amount));
+        request.setClaimType(type);
+        return request;
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(SmartClaims360Application.class)
+                .profiles("edge")
+                .properties("server.port=0", "claims.storage.data-dir=" + dataDir)
+                .run();
+    }
+}
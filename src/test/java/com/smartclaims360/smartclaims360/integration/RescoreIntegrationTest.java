@@ -0,0 +1,110 @@
+package com.smartclaims360.smartclaims360.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartclaims360.smartclaims360.ai.service.RescoreJob;
+import com.smartclaims360.smartclaims360.ai.service.RescoreService;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not @Transactional: the job reads and writes claims in its own transactions on a background thread.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RescoreIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ClaimRepository claimRepository;
+
+    @Autowired
+    private RescoreService rescoreService;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        claimRepository.deleteAll();
+    }
+
+    @Test
+    void testRescoreWritesScoresOfEveryClaim() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            claimRepository.save(createTestClaim("Claimant " + i, new BigDecimal(1000 + i * 250), "AUTO"));
+        }
+        Claim outlier = claimRepository.save(createTestClaim("John Doe", new BigDecimal("90000.00"), "LIFE"));
+
+        String response = mockMvc.perform(post("/admin/rescore"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.totalClaims").value(6))
+                .andReturn().getResponse().getContentAsString();
+        UUID jobId = UUID.fromString(objectMapper.readTree(response).get("jobId").asText());
+
+        RescoreJob job = rescoreService.getJob(jobId).orElseThrow();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (job.getState() == RescoreJob.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        mockMvc.perform(get("/admin/rescore/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.claimsProcessed").value(6))
+                .andExpect(jsonPath("$.claimsUpdated").value(6))
+                .andExpect(jsonPath("$.claimsConflicted").value(0))
+                .andExpect(jsonPath("$.percentComplete").value(100.0));
+
+        assertTrue(claimRepository.findAll().stream().allMatch(claim -> claim.getFraudScore() != null));
+        Claim rescored = claimRepository.findById(outlier.getId()).orElseThrow();
+        assertTrue(rescored.getFraudScore().compareTo(new BigDecimal("0.40")) >= 0);
+        assertEquals(outlier.getVersion() + 1, rescored.getVersion());
+
+        mockMvc.perform(delete("/admin/rescore/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"));
+    }
+
+    @Test
+    void testUnknownJob() throws Exception {
+        UUID jobId = UUID.randomUUID();
+
+        mockMvc.perform(get("/admin/rescore/" + jobId))
+                .andExpect(status().isNotFound())
+                .andExpect(content().string("Re-scoring job not found with id: " + jobId));
+
+        mockMvc.perform(put("/admin/rescore/" + jobId + "/throttle").param("maxClaimsPerSecond", "100"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Claim createTestClaim(String name, BigDecimal amount, String type) {
+        Claim claim = new Claim();
+        claim.setClaimantName(name);
+        claim.setClaimAmount(amount);
+        claim.setClaimType(type);
+        claim.setStatus("NEW");
+        return claim;
+    }
+}
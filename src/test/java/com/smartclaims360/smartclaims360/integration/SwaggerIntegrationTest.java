@@ -45,7 +45,8 @@ class SwaggerIntegrationTest {
                 .andExpect(jsonPath("$.paths./claims/validate").exists())
                 .andExpect(jsonPath("$.paths./claims/score").exists())
                 .andExpect(jsonPath("$.paths./claims/{id}/summary").exists())
-                .andExpect(jsonPath("$.paths./claims/{id}/route").exists());
+                .andExpect(jsonPath("$.paths./claims/{id}/route").exists())
+                .andExpect(jsonPath("$.paths./claims/{id}/assessment").exists());
     }
 
     @Test
@@ -0,0 +1,132 @@
+package com.smartclaims360.smartclaims360.repository;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClaimCache claimCache = new ClaimCache();
+    private final UUID claimId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(claimCache, "enabled", true);
+        ReflectionTestUtils.setField(claimCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(claimCache, "ttl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(claimCache, "meterRegistry", meterRegistry);
+        claimCache.init();
+    }
+
+    @Test
+    void testSecondLookupIsServedFromCache() {
+        Claim first = claimCache.get(claimId, loader("0.25")).orElseThrow();
+        Claim second = claimCache.get(claimId, loader("0.25")).orElseThrow();
+
+        assertEquals(1, loads.get());
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "claims").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "claims").tag("result", "miss").functionCounter().count());
+        assertEquals(0.5, meterRegistry.get("cache.hit.ratio").tag("cache", "claims").gauge().value());
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "claims").functionCounter());
+    }
+
+    @Test
+    void testCallersCannotMutateTheCachedClaim() {
+        claimCache.get(claimId, loader("0.25")).orElseThrow().setFraudScore(new BigDecimal("0.99"));
+
+        assertEquals(new BigDecimal("0.25"), claimCache.get(claimId, loader("0.25")).orElseThrow().getFraudScore());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        claimCache.get(claimId, loader("0.25"));
+        claimCache.invalidate(claimId);
+
+        assertEquals(new BigDecimal("0.80"), claimCache.get(claimId, loader("0.80")).orElseThrow().getFraudScore());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testLoadRacingAnInvalidationIsNotCached() {
+        Function<UUID, Optional<Claim>> staleLoader = id -> {
+            Optional<Claim> stale = loader("0.25").apply(id);
+            claimCache.invalidate(id);
+            return stale;
+        };
+
+        assertEquals(new BigDecimal("0.25"), claimCache.get(claimId, staleLoader).orElseThrow().getFraudScore());
+        assertEquals(new BigDecimal("0.80"), claimCache.get(claimId, loader("0.80")).orElseThrow().getFraudScore());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testMissingClaimIsNotCached() {
+        claimCache.get(claimId, id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        claimCache.get(claimId, loader("0.25"));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateAfterCommitWaitsForCommit() {
+        claimCache.get(claimId, loader("0.25"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            claimCache.invalidateAfterCommit(List.of(claimId));
+            claimCache.get(claimId, loader("0.80"));
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new BigDecimal("0.80"), claimCache.get(claimId, loader("0.80")).orElseThrow().getFraudScore());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        ReflectionTestUtils.setField(claimCache, "enabled", false);
+
+        claimCache.get(claimId, loader("0.25"));
+        claimCache.get(claimId, loader("0.25"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private Function<UUID, Optional<Claim>> loader(String fraudScore) {
+        return id -> {
+            loads.incrementAndGet();
+            Claim claim = new Claim();
+            claim.setId(id);
+            claim.setClaimantName("John Doe");
+            claim.setClaimAmount(new BigDecimal("1500.00"));
+            claim.setClaimType("AUTO");
+            claim.setFraudScore(new BigDecimal(fraudScore));
+            return Optional.of(claim);
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.smartclaims360.smartclaims360.repository.mapped;
+
+import com.smartclaims360.smartclaims360.entity.Claim;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedClaimStoreTest {
+
+    private static final int SEGMENT_RECORDS = 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordRoundTrip() throws IOException {
+        Claim claim = createTestClaim("J\u00f6hn Doe", "1500.55", LocalDateTime.of(2025, 8, 17, 14, 30, 0, 123_456_000));
+        claim.setFraudScore(new BigDecimal("0.25"));
+        claim.setRiskLevel("LOW");
+        claim.setAssessmentVersion(1);
+        claim.setAssessedAt(LocalDateTime.of(2025, 8, 17, 15, 0));
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            store.write(claim.getId(), ClaimRecord.encode(claim), current -> { });
+
+            assertEquals(claim, store.read(claim.getId()));
+            assertNull(store.read(UUID.randomUUID()));
+            assertEquals(1, store.count());
+        }
+    }
+
+    @Test
+    void testOverlongValueIsRejectedBeforeWriting() throws IOException {
+        Claim claim = createTestClaim("x".repeat(511), "100.00", LocalDateTime.now());
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            assertThrows(DataIntegrityViolationException.class, () -> store.write(claim.getId(), ClaimRecord.encode(claim), current -> { }));
+            assertEquals(0, store.count());
+        }
+    }
+
+    @Test
+    void testRejectedWriteKeepsCurrentRecord() throws IOException {
+        Claim claim = createTestClaim("John Doe", "100.00", LocalDateTime.now());
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            store.write(claim.getId(), ClaimRecord.encode(claim), current -> { });
+            claim.setClaimAmount(new BigDecimal("200.00"));
+
+            assertThrows(IllegalStateException.class, () -> store.write(claim.getId(), ClaimRecord.encode(claim), current -> {
+                throw new IllegalStateException("rejected");
+            }));
+            assertEquals(new BigDecimal("100.00"), store.read(claim.getId()).getClaimAmount());
+        }
+    }
+
+    @Test
+    void testUpdatesAndDeletesSurviveReopen() throws IOException {
+        Claim kept = createTestClaim("John Doe", "100.00", LocalDateTime.now());
+        Claim removed = createTestClaim("Jane Smith", "200.00", LocalDateTime.now());
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            store.write(kept.getId(), ClaimRecord.encode(kept), current -> { });
+            store.write(removed.getId(), ClaimRecord.encode(removed), current -> { });
+            for (int i = 1; i <= 5; i++) {
+                int version = i;
+                store.update(kept.getId(), stored -> {
+                    stored.setFraudScore(new BigDecimal("0.50"));
+                    stored.setVersion((long) version);
+                    return stored;
+                });
+            }
+            assertEquals(removed, store.delete(removed.getId(), current -> { }));
+        }
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            assertEquals(1, store.count());
+            assertEquals(5L, store.read(kept.getId()).getVersion());
+            assertEquals(new BigDecimal("0.50"), store.read(kept.getId()).getFraudScore());
+            assertNull(store.read(removed.getId()));
+        }
+    }
+
+    @Test
+    void testOrderedStreamsFollowCreationTimeThenId() throws IOException {
+        LocalDateTime now = LocalDateTime.of(2025, 8, 17, 14, 30);
+        Claim third = createTestClaim("Third", "300.00", now.plusSeconds(1));
+        Claim first = createTestClaim("First", "100.00", now);
+        Claim second = createTestClaim("Second", "200.00", now);
+        second.setId(new UUID(first.getId().getMostSignificantBits(), first.getId().getLeastSignificantBits() + 1));
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            for (Claim claim : List.of(third, first, second)) {
+                store.write(claim.getId(), ClaimRecord.encode(claim), current -> { });
+            }
+
+            try (Stream<Claim> claims = store.ordered(null, null)) {
+                assertEquals(List.of("First", "Second", "Third"), claims.map(Claim::getClaimantName).toList());
+            }
+            try (Stream<Claim> claims = store.ordered(first.getCreatedAt(), first.getId())) {
+                assertEquals(List.of("Second", "Third"), claims.map(Claim::getClaimantName).toList());
+            }
+        }
+    }
+
+    @Test
+    void testCompactionRemovesMostlyDeadSegments() throws IOException {
+        Claim claim = createTestClaim("John Doe", "100.00", LocalDateTime.now());
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            store.write(claim.getId(), ClaimRecord.encode(claim), current -> { });
+            for (int i = 0; i < 3 * SEGMENT_RECORDS; i++) {
+                store.update(claim.getId(), stored -> {
+                    stored.setVersion(stored.getVersion() + 1);
+                    return stored;
+                });
+            }
+            assertEquals(4, segmentFiles());
+
+            assertEquals(3, store.compact(0.5));
+
+            assertEquals(1, segmentFiles());
+            assertEquals(3L * SEGMENT_RECORDS, store.read(claim.getId()).getVersion());
+        }
+
+        try (MappedClaimStore store = MappedClaimStore.open(directory, SEGMENT_RECORDS)) {
+            assertEquals(3L * SEGMENT_RECORDS, store.read(claim.getId()).getVersion());
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private Claim createTestClaim(String name, String amount, LocalDateTime createdAt) {
+        Claim claim = new Claim();
+        claim.setId(UUID.randomUUID());
+        claim.setClaimantName(name);
+        claim.setClaimAmount(new BigDecimal(amount));
+        claim.setClaimType("AUTO");
+        claim.setStatus("NEW");
+        claim.setCreatedAt(createdAt);
+        claim.setVersion(0L);
+        return claim;
+    }
+}
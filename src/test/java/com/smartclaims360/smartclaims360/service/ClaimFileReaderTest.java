@@ -0,0 +1,66 @@
+package com.smartclaims360.smartclaims360.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimFileReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLinesAcrossWindows() throws IOException {
+        Path file = write("\uFEFFfirst line\r\nsecond\n\nthe third line is long\nlast");
+
+        assertEquals(List.of("first line", "second", "", "the third line is long", "last"), readAll(file, 0, 24));
+    }
+
+    @Test
+    void testResumeFromPosition() throws IOException {
+        Path file = write("alpha\nbravo\ncharlie\n");
+
+        long afterFirst;
+        try (ClaimFileReader reader = new ClaimFileReader(file, 0, 8)) {
+            assertTrue(reader.nextLine());
+            afterFirst = reader.position();
+        }
+
+        assertEquals(6, afterFirst);
+        assertEquals(List.of("bravo", "charlie"), readAll(file, afterFirst, 8));
+    }
+
+    @Test
+    void testLineLongerThanWindowFails() throws IOException {
+        Path file = write("short\nthis line does not fit\n");
+
+        try (ClaimFileReader reader = new ClaimFileReader(file, 0, 8)) {
+            assertTrue(reader.nextLine());
+            assertThrows(IOException.class, reader::nextLine);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = directory.resolve("claims.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<String> readAll(Path file, long offset, int windowSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (ClaimFileReader reader = new ClaimFileReader(file, offset, windowSize)) {
+            while (reader.nextLine()) {
+                lines.add(new String(reader.line(), 0, reader.length(), StandardCharsets.UTF_8));
+            }
+        }
+        return lines;
+    }
+}
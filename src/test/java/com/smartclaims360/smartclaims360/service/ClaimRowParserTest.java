@@ -0,0 +1,80 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.dto.ImportFormat;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaimRowParserTest {
+
+    @Test
+    void testCsvWithoutHeader() {
+        ClaimRowParser parser = ClaimRowParser.forFormat(ImportFormat.CSV, new JsonFactory());
+
+        ClaimRequest request = parse(parser, "John Doe, 1500.50 ,AUTO");
+
+        assertEquals("John Doe", request.getClaimantName());
+        assertEquals(new BigDecimal("1500.50"), request.getClaimAmount());
+        assertSame("AUTO", request.getClaimType());
+    }
+
+    @Test
+    void testCsvHeaderReordersColumnsAndQuotedFields() {
+        ClaimRowParser parser = ClaimRowParser.forFormat(ImportFormat.CSV, new JsonFactory());
+
+        assertNull(parse(parser, "claimType,policy,claimantName,claimAmount"));
+        ClaimRequest request = parse(parser, "HEALTH,P-1,\"Doe, John \"\"JD\"\"\",\"250\"");
+
+        assertEquals("Doe, John \"JD\"", request.getClaimantName());
+        assertEquals(new BigDecimal("250"), request.getClaimAmount());
+        assertEquals("HEALTH", request.getClaimType());
+        assertNull(parse(parser, "  "));
+    }
+
+    @Test
+    void testCsvMalformedRows() {
+        ClaimRowParser parser = ClaimRowParser.forFormat(ImportFormat.CSV, new JsonFactory());
+
+        assertThrows(IllegalArgumentException.class, () -> parse(parser, "John Doe,abc,AUTO"));
+        assertThrows(IllegalArgumentException.class, () -> parse(parser, "John Doe,100"));
+        assertThrows(IllegalArgumentException.class, () -> parse(parser, "\"John Doe,100,AUTO"));
+        assertNull(parse(parser, "John Doe,,AUTO").getClaimAmount());
+    }
+
+    @Test
+    void testDecimalFallsBackForLongAndExponentValues() {
+        byte[] exponent = "1.5E3".getBytes(StandardCharsets.US_ASCII);
+        byte[] negative = "-12.345".getBytes(StandardCharsets.US_ASCII);
+        byte[] longValue = "12345678901234567890.12".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(0, new BigDecimal("1500").compareTo(ClaimRowParser.decimal(exponent, 0, exponent.length)));
+        assertEquals(new BigDecimal("-12.345"), ClaimRowParser.decimal(negative, 0, negative.length));
+        assertEquals(new BigDecimal("12345678901234567890.12"), ClaimRowParser.decimal(longValue, 0, longValue.length));
+    }
+
+    @Test
+    void testNdjson() {
+        ClaimRowParser parser = ClaimRowParser.forFormat(ImportFormat.NDJSON, new JsonFactory());
+
+        ClaimRequest request = parse(parser,
+                "{\"claimantName\":\"Jane Smith\",\"meta\":{\"source\":[1,2]},\"claimAmount\":\"99.90\",\"claimType\":\"LIFE\"}");
+
+        assertEquals("Jane Smith", request.getClaimantName());
+        assertEquals(new BigDecimal("99.90"), request.getClaimAmount());
+        assertEquals("LIFE", request.getClaimType());
+        assertThrows(IllegalArgumentException.class, () -> parse(parser, "{\"claimantName\":"));
+        assertThrows(IllegalArgumentException.class, () -> parse(parser, "[1,2]"));
+    }
+
+    private static ClaimRequest parse(ClaimRowParser parser, String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[bytes.length + 8];
+        System.arraycopy(bytes, 0, padded, 0, bytes.length);
+        return parser.parse(padded, bytes.length);
+    }
+}
@@ -0,0 +1,78 @@
+package com.smartclaims360.smartclaims360.service;
+
+import com.smartclaims360.smartclaims360.ai.service.ClaimAssessmentService;
+import com.smartclaims360.smartclaims360.dto.ClaimRequest;
+import com.smartclaims360.smartclaims360.entity.Claim;
+import com.smartclaims360.smartclaims360.exception.AssessmentTimeoutException;
+import com.smartclaims360.smartclaims360.repository.ClaimRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClaimServiceTest {
+
+    @Mock
+    private ClaimRepository claimRepository;
+
+    @Mock
+    private ClaimAssessmentService claimAssessmentService;
+
+    @InjectMocks
+    private ClaimService claimService;
+
+    @Test
+    void testCreateClaimAssessesBeforeASingleSave() {
+        when(claimAssessmentService.refresh(any(Claim.class))).thenAnswer(invocation -> {
+            Claim claim = invocation.getArgument(0);
+            assertNull(claim.getId());
+            claim.setFraudScore(new BigDecimal("0.25"));
+            claim.setAssessedAt(LocalDateTime.now());
+            return claim;
+        });
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Claim created = claimService.createClaim(createRequest());
+
+        assertEquals(new BigDecimal("0.25"), created.getFraudScore());
+        InOrder order = inOrder(claimAssessmentService, claimRepository);
+        order.verify(claimAssessmentService).refresh(created);
+        order.verify(claimRepository).save(created);
+        verify(claimRepository, times(1)).save(any(Claim.class));
+    }
+
+    @Test
+    void testCreateClaimIsSavedUnassessedWhenAssessmentTimesOut() {
+        when(claimAssessmentService.refresh(any(Claim.class)))
+                .thenThrow(new AssessmentTimeoutException(null, Duration.ofMillis(1)));
+        when(claimRepository.save(any(Claim.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Claim created = claimService.createClaim(createRequest());
+
+        assertNull(created.getFraudScore());
+        assertNull(created.getAssessedAt());
+        verify(claimRepository, times(1)).save(any(Claim.class));
+    }
+
+    private ClaimRequest createRequest() {
+        ClaimRequest request = new ClaimRequest();
+        request.setClaimantName("John Doe");
+        request.setClaimAmount(new BigDecimal("1000.00"));
+        request.setClaimType("AUTO");
+        return request;
+    }
+}